@@ -22,14 +22,20 @@ import com.childrengreens.disruptor.consumer.SubscriberRegistry;
 import com.childrengreens.disruptor.consumer.WorkerPoolSupport;
 import com.childrengreens.disruptor.core.DefaultEventConverter;
 import com.childrengreens.disruptor.core.DisruptorLifecycle;
+import com.childrengreens.disruptor.core.DisruptorClock;
 import com.childrengreens.disruptor.core.DisruptorManager;
 import com.childrengreens.disruptor.core.DisruptorMetrics;
 import com.childrengreens.disruptor.core.DisruptorTemplate;
 import com.childrengreens.disruptor.core.EventConverter;
+import com.childrengreens.disruptor.core.KeyExtractor;
+import com.childrengreens.disruptor.core.RingPublisherAutowireCandidateResolver;
+import com.childrengreens.disruptor.core.RingPublisherBeanPostProcessor;
 import com.childrengreens.disruptor.properties.DisruptorProperties;
 
 import java.util.List;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -49,8 +55,9 @@ public class DisruptorAutoConfiguration {
     }
 
     @Bean
-    public HandlerAdapter handlerAdapter(DisruptorMetrics metrics) {
-        return new HandlerAdapter(metrics);
+    public HandlerAdapter handlerAdapter(
+            DisruptorMetrics metrics, ObjectProvider<KeyExtractor> keyExtractor) {
+        return new HandlerAdapter(metrics, keyExtractor.getIfUnique());
     }
 
     @Bean
@@ -69,9 +76,12 @@ public class DisruptorAutoConfiguration {
             SubscriberRegistry registry,
             HandlerAdapter handlerAdapter,
             ExceptionHandlerSupport exceptionHandlerSupport,
-            WorkerPoolSupport workerPoolSupport) {
-        return new DisruptorManager(
+            WorkerPoolSupport workerPoolSupport,
+            ObjectProvider<DisruptorClock> clock) {
+        DisruptorManager manager = new DisruptorManager(
                 properties, registry, handlerAdapter, exceptionHandlerSupport, workerPoolSupport);
+        manager.setCustomClock(clock.getIfUnique());
+        return manager;
     }
 
     @Bean
@@ -83,8 +93,9 @@ public class DisruptorAutoConfiguration {
     public DisruptorTemplate disruptorTemplate(
             DisruptorManager manager,
             @NonNull List<EventConverter<?>> converters,
-            DisruptorMetrics metrics) {
-        return new DisruptorTemplate(manager, converters, metrics);
+            DisruptorMetrics metrics,
+            ObjectProvider<KeyExtractor> keyExtractor) {
+        return new DisruptorTemplate(manager, converters, metrics, keyExtractor.getIfUnique());
     }
 
     @Bean
@@ -102,4 +113,18 @@ public class DisruptorAutoConfiguration {
     public SubscriberBeanPostProcessor subscriberBeanPostProcessor(SubscriberRegistry registry) {
         return new SubscriberBeanPostProcessor(registry);
     }
+
+    @Bean
+    public RingPublisherBeanPostProcessor ringPublisherBeanPostProcessor(
+            ObjectProvider<DisruptorTemplate> template) {
+        return new RingPublisherBeanPostProcessor(template);
+    }
+
+    /**
+     * Static so the resolver is in place before any constructor is autowired.
+     */
+    @Bean
+    public static BeanFactoryPostProcessor ringPublisherAutowireCandidateResolverInstaller() {
+        return RingPublisherAutowireCandidateResolver::install;
+    }
 }
@@ -15,12 +15,14 @@
  */
 package com.childrengreens.disruptor.metrics;
 
+import com.childrengreens.disruptor.core.BackpressureOutcome;
 import com.childrengreens.disruptor.core.DisruptorEvent;
 import com.childrengreens.disruptor.core.DisruptorManager;
 import com.childrengreens.disruptor.core.DisruptorMetrics;
 import com.lmax.disruptor.RingBuffer;
 
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
@@ -47,21 +49,54 @@ public class DisruptorEndpoint {
         Map<String, Object> payload = new LinkedHashMap<>();
         for (Map.Entry<String, RingBuffer<DisruptorEvent>> entry :
                 manager.getRingBuffers().entrySet()) {
-            RingBuffer<DisruptorEvent> ringBuffer = entry.getValue();
-            Map<String, Object> ringInfo = new LinkedHashMap<>();
-            ringInfo.put("bufferSize", ringBuffer.getBufferSize());
-            ringInfo.put("cursor", ringBuffer.getCursor());
-            ringInfo.put("remainingCapacity", ringBuffer.remainingCapacity());
-            ringInfo.put("backlog", ringBuffer.getBufferSize() - ringBuffer.remainingCapacity());
+            List<RingBuffer<DisruptorEvent>> shards = manager.getShards(entry.getKey());
+            Map<String, Object> ringInfo = shards.size() > 1
+                    ? ringInfo(shards)
+                    : ringInfo(List.of(entry.getValue()));
+            if (shards.size() > 1) {
+                ringInfo.put("shards", shards.stream().map(shard -> ringInfo(List.of(shard))).toList());
+            }
             ringInfo.put("publishCount", metrics.getPublishCount(entry.getKey()));
             ringInfo.put("consumeCount", metrics.getConsumeCount(entry.getKey()));
+            ringInfo.put("payloadMismatchCount", metrics.getPayloadMismatchCount(entry.getKey()));
             ringInfo.put("avgLatencyMillis", metrics.getAverageLatencyMillis(entry.getKey()));
+            ringInfo.put("avgLatencyNanos", metrics.getAverageLatencyNanos(entry.getKey()));
             ringInfo.put("handlers", handlerCounts(entry.getKey()));
+            ringInfo.put("backpressure", backpressureCounts(entry.getKey()));
             payload.put(entry.getKey(), ringInfo);
         }
         return payload;
     }
 
+    /**
+     * Buffer stats of a ring, summed over its shards; the cursor counts all shards
+     * as one sequence starting at {@code -1}.
+     */
+    private Map<String, Object> ringInfo(List<RingBuffer<DisruptorEvent>> shards) {
+        int bufferSize = 0;
+        long cursor = -1;
+        long remainingCapacity = 0;
+        for (RingBuffer<DisruptorEvent> shard : shards) {
+            bufferSize += shard.getBufferSize();
+            cursor += shard.getCursor() + 1;
+            remainingCapacity += shard.remainingCapacity();
+        }
+        Map<String, Object> info = new LinkedHashMap<>();
+        info.put("bufferSize", bufferSize);
+        info.put("cursor", cursor);
+        info.put("remainingCapacity", remainingCapacity);
+        info.put("backlog", bufferSize - remainingCapacity);
+        return info;
+    }
+
+    private Map<String, Long> backpressureCounts(String ring) {
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (BackpressureOutcome outcome : BackpressureOutcome.values()) {
+            result.put(outcome.name(), metrics.getBackpressureCount(ring, outcome));
+        }
+        return result;
+    }
+
     private Map<String, Long> handlerCounts(String ring) {
         Map<String, Long> result = new LinkedHashMap<>();
         for (Map.Entry<String, java.util.concurrent.atomic.LongAdder> entry :
@@ -15,6 +15,7 @@
  */
 package com.childrengreens.disruptor.metrics;
 
+import com.childrengreens.disruptor.core.BackpressureOutcome;
 import com.childrengreens.disruptor.core.DisruptorEvent;
 import com.childrengreens.disruptor.core.DisruptorManager;
 import com.childrengreens.disruptor.core.DisruptorMetrics;
@@ -70,12 +71,27 @@ public class DisruptorMeterBinder implements MeterBinder {
                             m -> m.getConsumeCount(ring))
                     .tag("ring", ring)
                     .register(registry);
+            FunctionCounter.builder(
+                            "disruptor.payload.mismatch.count",
+                            metrics,
+                            m -> m.getPayloadMismatchCount(ring))
+                    .tag("ring", ring)
+                    .register(registry);
             Gauge.builder(
                             "disruptor.event.latency.avg",
                             metrics,
                             m -> m.getAverageLatencyMillis(ring))
                     .tag("ring", ring)
                     .register(registry);
+            for (BackpressureOutcome outcome : BackpressureOutcome.values()) {
+                FunctionCounter.builder(
+                                "disruptor.backpressure.count",
+                                metrics,
+                                m -> m.getBackpressureCount(ring, outcome))
+                        .tag("ring", ring)
+                        .tag("outcome", outcome.name())
+                        .register(registry);
+            }
         }
     }
 
@@ -84,20 +100,34 @@ public class DisruptorMeterBinder implements MeterBinder {
     }
 
     private double remainingCapacity(String ring) {
-        RingBuffer<DisruptorEvent> buffer = manager.getRingBuffer(ring);
-        return buffer == null ? 0 : buffer.remainingCapacity();
+        long remaining = 0;
+        for (RingBuffer<DisruptorEvent> buffer : manager.getShards(ring)) {
+            remaining += buffer.remainingCapacity();
+        }
+        return remaining;
     }
 
+    /**
+     * Cursor of the ring; for a sharded ring, the sum of the shard cursors as if
+     * they were one sequence starting at {@code -1}.
+     */
     private double cursor(String ring) {
-        RingBuffer<DisruptorEvent> buffer = manager.getRingBuffer(ring);
-        return buffer == null ? 0 : buffer.getCursor();
+        List<RingBuffer<DisruptorEvent>> shards = manager.getShards(ring);
+        if (shards.isEmpty()) {
+            return 0;
+        }
+        long cursor = -1;
+        for (RingBuffer<DisruptorEvent> buffer : shards) {
+            cursor += buffer.getCursor() + 1;
+        }
+        return cursor;
     }
 
     private double backlog(String ring) {
-        RingBuffer<DisruptorEvent> buffer = manager.getRingBuffer(ring);
-        if (buffer == null) {
-            return 0;
+        long backlog = 0;
+        for (RingBuffer<DisruptorEvent> buffer : manager.getShards(ring)) {
+            backlog += buffer.getBufferSize() - buffer.remainingCapacity();
         }
-        return buffer.getBufferSize() - buffer.remainingCapacity();
+        return backlog;
     }
 }
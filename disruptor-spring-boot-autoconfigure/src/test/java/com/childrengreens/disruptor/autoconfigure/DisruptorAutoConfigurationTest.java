@@ -15,6 +15,7 @@
  */
 package com.childrengreens.disruptor.autoconfigure;
 
+import com.childrengreens.disruptor.annotation.DisruptorRing;
 import com.childrengreens.disruptor.consumer.ExceptionHandlerSupport;
 import com.childrengreens.disruptor.consumer.HandlerAdapter;
 import com.childrengreens.disruptor.consumer.SubscriberBeanPostProcessor;
@@ -26,6 +27,7 @@ import com.childrengreens.disruptor.core.DisruptorManager;
 import com.childrengreens.disruptor.core.DisruptorMetrics;
 import com.childrengreens.disruptor.core.DisruptorTemplate;
 import com.childrengreens.disruptor.core.EventConverter;
+import com.childrengreens.disruptor.core.RingPublisher;
 import com.childrengreens.disruptor.properties.DisruptorProperties;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
@@ -56,6 +58,23 @@ class DisruptorAutoConfigurationTest {
         });
     }
 
+    @Test
+    void injectsRingPublishersIntoFieldsAndConstructors() {
+        contextRunner.withBean(FieldClient.class)
+                .withBean(ConstructorClient.class)
+                .withPropertyValues("spring.disruptor.rings.order.buffer-size=16")
+                .run(context -> {
+                    DisruptorTemplate template = context.getBean(DisruptorTemplate.class);
+                    FieldClient fieldClient = context.getBean(FieldClient.class);
+                    ConstructorClient constructorClient = context.getBean(ConstructorClient.class);
+
+                    assertThat(fieldClient.orders).isSameAs(template.forRing("order"));
+                    assertThat(fieldClient.ignored).isNull();
+                    assertThat(constructorClient.orders).isSameAs(template.forRing("order"));
+                    assertThat(constructorClient.orders.isBound()).isTrue();
+                });
+    }
+
     @Test
     void autoConfigurationBacksOffWhenDisabled() {
         contextRunner.withPropertyValues("spring.disruptor.enabled=false")
@@ -65,4 +84,20 @@ class DisruptorAutoConfigurationTest {
                     assertThat(context).doesNotHaveBean(DisruptorTemplate.class);
                 });
     }
+
+    static class FieldClient {
+        @DisruptorRing("order")
+        private RingPublisher orders;
+
+        @DisruptorRing("order")
+        private String ignored;
+    }
+
+    static class ConstructorClient {
+        private final RingPublisher orders;
+
+        ConstructorClient(@DisruptorRing("order") RingPublisher orders) {
+            this.orders = orders;
+        }
+    }
 }
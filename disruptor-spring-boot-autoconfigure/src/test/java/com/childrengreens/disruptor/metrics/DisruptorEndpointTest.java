@@ -15,13 +15,16 @@
  */
 package com.childrengreens.disruptor.metrics;
 
+import com.childrengreens.disruptor.core.BackpressureOutcome;
 import com.childrengreens.disruptor.core.DisruptorEvent;
 import com.childrengreens.disruptor.core.DisruptorEventFactory;
 import com.childrengreens.disruptor.core.DisruptorManager;
 import com.childrengreens.disruptor.core.DisruptorMetrics;
 import com.lmax.disruptor.RingBuffer;
+import com.lmax.disruptor.Sequence;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -41,9 +44,12 @@ class DisruptorEndpointTest {
         metrics.recordPublish("default");
         metrics.recordConsume("default", "handlerA");
         metrics.recordLatency("default", 12);
+        metrics.recordBackpressure("default", BackpressureOutcome.REJECTED);
+        metrics.payloadMismatchCounter("default").add(2);
 
         DisruptorManager manager = mock(DisruptorManager.class);
         when(manager.getRingBuffers()).thenReturn(Map.of("default", ringBuffer));
+        when(manager.getShards("default")).thenReturn(List.of(ringBuffer));
 
         DisruptorEndpoint endpoint = new DisruptorEndpoint(manager, metrics);
         Map<String, Object> payload = endpoint.disruptor();
@@ -53,8 +59,36 @@ class DisruptorEndpointTest {
         assertThat(ring.get("bufferSize")).isEqualTo(8);
         assertThat(ring.get("publishCount")).isEqualTo(1L);
         assertThat(ring.get("consumeCount")).isEqualTo(1L);
+        assertThat(ring.get("payloadMismatchCount")).isEqualTo(2L);
         assertThat(ring.get("handlers")).isInstanceOf(Map.class);
         Map<String, Long> handlers = (Map<String, Long>) ring.get("handlers");
         assertThat(handlers).containsEntry("handlerA", 1L);
+        Map<String, Long> backpressure = (Map<String, Long>) ring.get("backpressure");
+        assertThat(backpressure).containsEntry("REJECTED", 1L).containsEntry("DROPPED", 0L);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void sumsShardsOfShardedRing() {
+        RingBuffer<DisruptorEvent> first = RingBuffer.createMultiProducer(new DisruptorEventFactory(), 8);
+        RingBuffer<DisruptorEvent> second = RingBuffer.createMultiProducer(new DisruptorEventFactory(), 8);
+        first.addGatingSequences(new Sequence());
+        second.addGatingSequences(new Sequence());
+        first.publish(first.next(2));
+        second.publish(second.next());
+
+        DisruptorManager manager = mock(DisruptorManager.class);
+        when(manager.getRingBuffers()).thenReturn(Map.of("orders", first));
+        when(manager.getShards("orders")).thenReturn(List.of(first, second));
+
+        Map<String, Object> ring = (Map<String, Object>)
+                new DisruptorEndpoint(manager, new DisruptorMetrics()).disruptor().get("orders");
+
+        assertThat(ring.get("bufferSize")).isEqualTo(16);
+        assertThat(ring.get("backlog")).isEqualTo(3L);
+        assertThat(ring.get("cursor")).isEqualTo(2L);
+        List<Map<String, Object>> shards = (List<Map<String, Object>>) ring.get("shards");
+        assertThat(shards).hasSize(2);
+        assertThat(shards.get(1).get("backlog")).isEqualTo(1L);
     }
 }
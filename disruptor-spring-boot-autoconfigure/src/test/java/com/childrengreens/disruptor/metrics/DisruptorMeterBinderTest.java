@@ -15,11 +15,13 @@
  */
 package com.childrengreens.disruptor.metrics;
 
+import com.childrengreens.disruptor.core.BackpressureOutcome;
 import com.childrengreens.disruptor.core.DisruptorEvent;
 import com.childrengreens.disruptor.core.DisruptorEventFactory;
 import com.childrengreens.disruptor.core.DisruptorManager;
 import com.childrengreens.disruptor.core.DisruptorMetrics;
 import com.lmax.disruptor.RingBuffer;
+import com.lmax.disruptor.Sequence;
 import io.micrometer.core.instrument.FunctionCounter;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
@@ -38,12 +40,14 @@ class DisruptorMeterBinderTest {
                 RingBuffer.createMultiProducer(new DisruptorEventFactory(), 8);
 
         DisruptorManager manager = mock(DisruptorManager.class);
-        when(manager.getRingBuffer("default")).thenReturn(ringBuffer);
+        when(manager.getShards("default")).thenReturn(List.of(ringBuffer));
         when(manager.getResolvedRingNames()).thenReturn(List.of("default"));
 
         DisruptorMetrics metrics = new DisruptorMetrics();
         metrics.recordPublish("default");
         metrics.recordConsume("default", "handlerA");
+        metrics.recordBackpressure("default", BackpressureOutcome.DROPPED, 3);
+        metrics.payloadMismatchCounter("default").increment();
 
         DisruptorMeterBinder binder = new DisruptorMeterBinder(manager, metrics);
 
@@ -59,12 +63,47 @@ class DisruptorMeterBinderTest {
                 .tag("ring", "default")
                 .functionCounter();
         assertThat(publishCount.count()).isEqualTo(1.0);
+
+        FunctionCounter dropped = registry.get("disruptor.backpressure.count")
+                .tag("ring", "default")
+                .tag("outcome", "DROPPED")
+                .functionCounter();
+        assertThat(dropped.count()).isEqualTo(3.0);
+
+        FunctionCounter mismatches = registry.get("disruptor.payload.mismatch.count")
+                .tag("ring", "default")
+                .functionCounter();
+        assertThat(mismatches.count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void sumsGaugesOverShards() {
+        RingBuffer<DisruptorEvent> first = RingBuffer.createMultiProducer(new DisruptorEventFactory(), 8);
+        RingBuffer<DisruptorEvent> second = RingBuffer.createMultiProducer(new DisruptorEventFactory(), 8);
+        first.addGatingSequences(new Sequence());
+        second.addGatingSequences(new Sequence());
+        first.publish(first.next(2));
+        second.publish(second.next());
+
+        DisruptorManager manager = mock(DisruptorManager.class);
+        when(manager.getShards("orders")).thenReturn(List.of(first, second));
+        when(manager.getResolvedRingNames()).thenReturn(List.of("orders"));
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        new DisruptorMeterBinder(manager, new DisruptorMetrics()).bindTo(registry);
+
+        assertThat(registry.get("disruptor.ringbuffer.backlog").tag("ring", "orders").gauge().value())
+                .isEqualTo(3.0);
+        assertThat(registry.get("disruptor.ringbuffer.remainingCapacity").tag("ring", "orders").gauge().value())
+                .isEqualTo(13.0);
+        assertThat(registry.get("disruptor.ringbuffer.cursor").tag("ring", "orders").gauge().value())
+                .isEqualTo(2.0);
     }
 
     @Test
     void registersMetersWhenRingBufferMissing() {
         DisruptorManager manager = mock(DisruptorManager.class);
-        when(manager.getRingBuffer("missing")).thenReturn(null);
+        when(manager.getShards("missing")).thenReturn(List.of());
         when(manager.getResolvedRingNames()).thenReturn(List.of("missing"));
 
         DisruptorMetrics metrics = new DisruptorMetrics();
@@ -0,0 +1,251 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.disruptor.benchmark;
+
+import com.childrengreens.disruptor.annotation.Concurrency;
+import com.childrengreens.disruptor.annotation.ExceptionPolicy;
+import com.childrengreens.disruptor.consumer.HandlerAdapter;
+import com.childrengreens.disruptor.consumer.SubscriberDefinition;
+import com.childrengreens.disruptor.core.DisruptorEvent;
+import com.childrengreens.disruptor.core.DisruptorMetrics;
+import com.lmax.disruptor.EventHandler;
+import com.lmax.disruptor.WorkHandler;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Measures the per-event cost of the adapters produced by {@link HandlerAdapter}
+ * against a raw {@link EventHandler} doing the same work.
+ *
+ * <p>Handlers are invoked directly on a single pre-filled {@link DisruptorEvent}, so
+ * the numbers isolate the wrapping layer: event type filtering, reflective method
+ * invocation, exception guarding, slot clearing and consume metrics. Method adapters
+ * call subscribers through invokers generated with {@code LambdaMetafactory};
+ * {@code reflectiveInvoke} is the former {@code Method.invoke} path on its own, and
+ * {@code rawHandler} the hand-written call the generated path should approach.
+ * {@code methodLongEventHandler} reads a primitive slot field into a {@code long}
+ * parameter through a method handle, without boxing. {@code methodBatchEventHandler}
+ * reports per-event cost of {@value #BATCH}-event batches delivered as the reused view,
+ * {@code methodCopyBatchEventHandler} the same with {@code copyBatch}.
+ * {@code mismatchedPayloadEventHandler} offers a payload the subscriber method cannot
+ * take, which is skipped and counted after a cached class check. Set
+ * {@code metrics} to {@code false} to see the adapters without metric recording.</p>
+ *
+ * <pre>{@code
+ * java -jar disruptor-spring-boot-benchmarks/target/benchmarks.jar HandlerDispatchBenchmark -prof gc
+ * }</pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HandlerDispatchBenchmark {
+    private static final String RING = "bench";
+    private static final String EVENT_TYPE = "bench.event";
+    private static final int BATCH = 10;
+
+    @Param({"true", "false"})
+    public boolean metrics;
+
+    private final Sink sink = new Sink();
+    private final DisruptorEvent event = new DisruptorEvent();
+    private final String payload = "payload";
+    private final Integer mismatchedPayload = 42;
+    private Method acceptMethod;
+    private EventHandler<DisruptorEvent> rawEventHandler;
+    private EventHandler<DisruptorEvent> methodEventHandler;
+    private EventHandler<DisruptorEvent> methodLongEventHandler;
+    private EventHandler<DisruptorEvent> filteredMethodEventHandler;
+    private WorkHandler<DisruptorEvent> methodWorkHandler;
+    private EventHandler<DisruptorEvent> delegatingEventHandler;
+    private EventHandler<DisruptorEvent> methodBatchEventHandler;
+    private EventHandler<DisruptorEvent> methodCopyBatchEventHandler;
+
+    @Setup
+    public void setUp() throws Exception {
+        HandlerAdapter adapter = new HandlerAdapter(metrics ? new DisruptorMetrics() : null);
+        Method method = Sink.class.getMethod("accept", String.class);
+        acceptMethod = method;
+        rawEventHandler = (disruptorEvent, sequence, endOfBatch) ->
+                sink.accept((String) disruptorEvent.getPayload());
+        methodEventHandler = adapter.adaptEventHandler(
+                definition(sink, method, String.class, Concurrency.MODE_HANDLER, ""));
+        methodLongEventHandler = adapter.adaptEventHandler(definition(
+                sink, Sink.class.getMethod("acceptLong", long.class), long.class, Concurrency.MODE_HANDLER, ""));
+        filteredMethodEventHandler = adapter.adaptEventHandler(
+                definition(sink, method, String.class, Concurrency.MODE_HANDLER, EVENT_TYPE));
+        methodWorkHandler = adapter.adaptWorkHandler(
+                definition(sink, method, String.class, Concurrency.MODE_WORKER, ""));
+        delegatingEventHandler = adapter.adaptEventHandler(
+                definition(rawEventHandler, null, DisruptorEvent.class, Concurrency.MODE_HANDLER, ""));
+        Method batchMethod = Sink.class.getMethod("acceptBatch", List.class);
+        methodBatchEventHandler = adapter.adaptEventHandler(batchDefinition(sink, batchMethod, false));
+        methodCopyBatchEventHandler = adapter.adaptEventHandler(batchDefinition(sink, batchMethod, true));
+    }
+
+    @Benchmark
+    public Object rawHandler() throws Exception {
+        rawEventHandler.onEvent(fill(), 0L, true);
+        return sink.last;
+    }
+
+    @Benchmark
+    public Object reflectiveInvoke() {
+        ReflectionUtils.invokeMethod(acceptMethod, sink, fill().getValue());
+        return sink.last;
+    }
+
+    @Benchmark
+    public Object methodEventHandler() throws Exception {
+        methodEventHandler.onEvent(fill(), 0L, true);
+        return sink.last;
+    }
+
+    @Benchmark
+    public long methodLongEventHandler() throws Exception {
+        event.setLongValue(42L);
+        event.setEventType(EVENT_TYPE);
+        methodLongEventHandler.onEvent(event, 0L, true);
+        return sink.lastLong;
+    }
+
+    @Benchmark
+    public Object filteredMethodEventHandler() throws Exception {
+        filteredMethodEventHandler.onEvent(fill(), 0L, true);
+        return sink.last;
+    }
+
+    @Benchmark
+    public Object mismatchedPayloadEventHandler() throws Exception {
+        event.setPayload(mismatchedPayload);
+        event.setEventType(EVENT_TYPE);
+        methodEventHandler.onEvent(event, 0L, true);
+        return sink.last;
+    }
+
+    @Benchmark
+    public Object methodWorkHandler() throws Exception {
+        methodWorkHandler.onEvent(fill());
+        return sink.last;
+    }
+
+    @Benchmark
+    public Object delegatingEventHandler() throws Exception {
+        delegatingEventHandler.onEvent(fill(), 0L, true);
+        return sink.last;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public Object methodBatchEventHandler() throws Exception {
+        return deliverBatch(methodBatchEventHandler);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public Object methodCopyBatchEventHandler() throws Exception {
+        return deliverBatch(methodCopyBatchEventHandler);
+    }
+
+    private Object deliverBatch(EventHandler<DisruptorEvent> handler) throws Exception {
+        for (int i = 0; i < BATCH; i++) {
+            handler.onEvent(fill(), i, i == BATCH - 1);
+        }
+        return sink.last;
+    }
+
+    /**
+     * Refill the slot each time since worker adapters clear it after consumption.
+     */
+    private DisruptorEvent fill() {
+        event.setPayload(payload);
+        event.setEventType(EVENT_TYPE);
+        event.setCreatedAtNanos(System.nanoTime());
+        return event;
+    }
+
+    private static SubscriberDefinition definition(
+            Object bean, Method method, Class<?> eventClass, Concurrency mode, String eventType) {
+        return new SubscriberDefinition(
+                bean,
+                "benchSubscriber",
+                method,
+                eventClass,
+                RING,
+                mode,
+                0,
+                false,
+                0,
+                eventType,
+                ExceptionPolicy.LOG_AND_CONTINUE);
+    }
+
+    private static SubscriberDefinition batchDefinition(Object bean, Method method, boolean copyBatch) {
+        return new SubscriberDefinition(
+                bean,
+                "benchBatchSubscriber",
+                method,
+                List.class,
+                RING,
+                Concurrency.MODE_HANDLER,
+                0,
+                true,
+                BATCH,
+                "",
+                ExceptionPolicy.LOG_AND_CONTINUE,
+                0,
+                0L,
+                copyBatch,
+                "",
+                List.of(),
+                "");
+    }
+
+    public static final class Sink {
+        private Object last;
+        private long lastLong;
+
+        public void accept(String value) {
+            this.last = value;
+        }
+
+        public void acceptLong(long value) {
+            this.lastLong = value;
+        }
+
+        public void acceptBatch(List<String> values) {
+            this.last = values.get(values.size() - 1);
+        }
+    }
+}
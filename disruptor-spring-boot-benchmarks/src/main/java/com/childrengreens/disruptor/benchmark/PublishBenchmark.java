@@ -0,0 +1,267 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.disruptor.benchmark;
+
+import com.childrengreens.disruptor.annotation.Concurrency;
+import com.childrengreens.disruptor.annotation.DisruptorEventType;
+import com.childrengreens.disruptor.annotation.ExceptionPolicy;
+import com.childrengreens.disruptor.consumer.ExceptionHandlerSupport;
+import com.childrengreens.disruptor.consumer.HandlerAdapter;
+import com.childrengreens.disruptor.consumer.SubscriberDefinition;
+import com.childrengreens.disruptor.consumer.SubscriberRegistry;
+import com.childrengreens.disruptor.consumer.WorkerPoolSupport;
+import com.childrengreens.disruptor.core.Claim;
+import com.childrengreens.disruptor.core.DefaultEventConverter;
+import com.childrengreens.disruptor.core.DisruptorEvent;
+import com.childrengreens.disruptor.core.DisruptorEventFactory;
+import com.childrengreens.disruptor.core.DisruptorManager;
+import com.childrengreens.disruptor.core.DisruptorMetrics;
+import com.childrengreens.disruptor.core.DisruptorTemplate;
+import com.childrengreens.disruptor.core.EventConverter;
+import com.childrengreens.disruptor.core.RingPublisher;
+import com.childrengreens.disruptor.properties.DisruptorProperties;
+import com.childrengreens.disruptor.properties.RingProperties;
+import com.childrengreens.disruptor.properties.ShutdownStrategy;
+import com.childrengreens.disruptor.properties.WaitStrategyType;
+import com.lmax.disruptor.EventHandler;
+import com.lmax.disruptor.EventTranslatorOneArg;
+import com.lmax.disruptor.RingBuffer;
+import com.lmax.disruptor.YieldingWaitStrategy;
+import com.lmax.disruptor.dsl.Disruptor;
+import com.lmax.disruptor.dsl.ProducerType;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link DisruptorTemplate#publish(String, Object)} against a hand-written
+ * {@link RingBuffer#publishEvent(EventTranslatorOneArg, Object)} on an identically
+ * configured ring.
+ *
+ * <p>Both rings are drained by a no-op consumer without metrics so the numbers
+ * reflect producer-side cost: converter lookup, event type resolution and publish
+ * metrics. {@code ringPublisherPublish} goes through a
+ * pre-bound {@link RingPublisher} that skips the per-call ring lookup, and
+ * {@code claimPublish} fills a preallocated event in place via
+ * {@link RingPublisher#claim()}. {@code ringPublisherPublishLong} writes a primitive
+ * slot field instead of boxing a {@link Long}. {@code converters} adds non-matching
+ * converters ahead of the default one to show that the per-class converter cache
+ * keeps their cost off the publish path. The batch benchmarks report per-event cost
+ * of publishing {@value #BATCH} events one by one versus with
+ * {@link DisruptorTemplate#publishAll(String, Object[], int, int)}.</p>
+ *
+ * <pre>{@code
+ * java -jar disruptor-spring-boot-benchmarks/target/benchmarks.jar PublishBenchmark -prof gc
+ * }</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PublishBenchmark {
+    private static final String RING = "bench";
+    private static final String CLAIM_RING = "bench-claim";
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int BATCH = 100;
+
+    private static final EventTranslatorOneArg<DisruptorEvent, Object> RAW_TRANSLATOR =
+            (event, sequence, payload) -> {
+                event.setPayload(payload);
+                event.setEventType("raw");
+            };
+
+    @Param({"1", "12"})
+    public int converters;
+
+    private DisruptorManager manager;
+    private DisruptorTemplate template;
+    private RingPublisher ringPublisher;
+    private RingPublisher claimPublisher;
+    private long nextId;
+    private Disruptor<DisruptorEvent> rawDisruptor;
+    private RingBuffer<DisruptorEvent> rawRingBuffer;
+    private final Object plainPayload = new Object();
+    private final Object annotatedPayload = new AnnotatedPayload();
+    private final Object[] batch = new Object[BATCH];
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        DisruptorProperties properties = new DisruptorProperties();
+        RingProperties claimRing = ringProperties();
+        claimRing.setEventClass(BenchEvent.class);
+        properties.setRings(Map.of(RING, ringProperties(), CLAIM_RING, claimRing));
+        SubscriberRegistry registry = new SubscriberRegistry();
+        registry.register(noopSubscriber(RING));
+        registry.register(noopSubscriber(CLAIM_RING));
+        // Consumer-side metrics are left out so gc.alloc.rate.norm reflects the producer only.
+        manager = new DisruptorManager(
+                properties,
+                registry,
+                new HandlerAdapter(null),
+                new ExceptionHandlerSupport(),
+                new WorkerPoolSupport());
+        manager.start();
+        template = new DisruptorTemplate(manager, converterChain(converters), new DisruptorMetrics());
+        ringPublisher = template.forRing(RING);
+        claimPublisher = template.forRing(CLAIM_RING);
+
+        rawDisruptor = new Disruptor<>(
+                new DisruptorEventFactory(),
+                BUFFER_SIZE,
+                runnable -> {
+                    Thread thread = new Thread(runnable, "raw-bench");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                ProducerType.MULTI,
+                new YieldingWaitStrategy());
+        rawDisruptor.handleEventsWith(new NoopEventHandler());
+        rawDisruptor.start();
+        rawRingBuffer = rawDisruptor.getRingBuffer();
+        Arrays.fill(batch, plainPayload);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        manager.stop(Duration.ofSeconds(5), ShutdownStrategy.DRAIN);
+        rawDisruptor.halt();
+    }
+
+    @Benchmark
+    public void rawPublish() {
+        rawRingBuffer.publishEvent(RAW_TRANSLATOR, plainPayload);
+    }
+
+    @Benchmark
+    public void templatePublish() {
+        template.publish(RING, plainPayload);
+    }
+
+    @Benchmark
+    public void ringPublisherPublish() {
+        ringPublisher.publish(plainPayload);
+    }
+
+    @Benchmark
+    public void ringPublisherPublishLong() {
+        ringPublisher.publishLong("bench.id", nextId++);
+    }
+
+    @Benchmark
+    public void claimPublish() {
+        try (Claim<BenchEvent> claim = claimPublisher.claim()) {
+            claim.event().id = nextId++;
+        }
+    }
+
+    @Benchmark
+    public void templatePublishAnnotated() {
+        template.publish(RING, annotatedPayload);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void templatePublishLoop() {
+        for (Object payload : batch) {
+            template.publish(RING, payload);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void templatePublishAll() {
+        template.publishAll(RING, batch, 0, BATCH);
+    }
+
+    private static SubscriberDefinition noopSubscriber(String ring) {
+        return new SubscriberDefinition(
+                new NoopEventHandler(),
+                "noopHandler",
+                null,
+                DisruptorEvent.class,
+                ring,
+                Concurrency.MODE_HANDLER,
+                0,
+                false,
+                0,
+                "",
+                ExceptionPolicy.LOG_AND_CONTINUE);
+    }
+
+    private static RingProperties ringProperties() {
+        RingProperties ring = new RingProperties();
+        ring.setBufferSize(BUFFER_SIZE);
+        ring.setProducerType(ProducerType.MULTI);
+        ring.setWaitStrategy(WaitStrategyType.YIELDING);
+        return ring;
+    }
+
+    private static List<EventConverter<?>> converterChain(int size) {
+        List<EventConverter<?>> chain = new ArrayList<>();
+        for (int i = 1; i < size; i++) {
+            chain.add(new NonMatchingConverter());
+        }
+        chain.add(new DefaultEventConverter());
+        return chain;
+    }
+
+    public static final class BenchEvent {
+        private long id;
+    }
+
+    @DisruptorEventType("bench.annotated")
+    static final class AnnotatedPayload {
+    }
+
+    static final class NonMatchingConverter implements EventConverter<Object> {
+        @Override
+        public Object convert(Object source) {
+            return source;
+        }
+
+        @Override
+        public boolean supports(Object source) {
+            return source instanceof CharSequence;
+        }
+    }
+
+    static final class NoopEventHandler implements EventHandler<DisruptorEvent> {
+        @Override
+        public void onEvent(DisruptorEvent event, long sequence, boolean endOfBatch) {
+        }
+    }
+}
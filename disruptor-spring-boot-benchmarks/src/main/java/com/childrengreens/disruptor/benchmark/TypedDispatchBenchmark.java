@@ -0,0 +1,155 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.disruptor.benchmark;
+
+import com.childrengreens.disruptor.annotation.Concurrency;
+import com.childrengreens.disruptor.annotation.ExceptionPolicy;
+import com.childrengreens.disruptor.consumer.ExceptionHandlerSupport;
+import com.childrengreens.disruptor.consumer.HandlerAdapter;
+import com.childrengreens.disruptor.consumer.SubscriberDefinition;
+import com.childrengreens.disruptor.consumer.SubscriberRegistry;
+import com.childrengreens.disruptor.consumer.WorkerPoolSupport;
+import com.childrengreens.disruptor.core.DisruptorEvent;
+import com.childrengreens.disruptor.core.DisruptorManager;
+import com.childrengreens.disruptor.core.DisruptorTemplate;
+import com.childrengreens.disruptor.core.RingPublisher;
+import com.childrengreens.disruptor.properties.DispatchMode;
+import com.childrengreens.disruptor.properties.DisruptorProperties;
+import com.childrengreens.disruptor.properties.RingProperties;
+import com.childrengreens.disruptor.properties.ShutdownStrategy;
+import com.childrengreens.disruptor.properties.WaitStrategyType;
+import com.lmax.disruptor.EventHandler;
+import com.lmax.disruptor.RingBuffer;
+import com.lmax.disruptor.dsl.ProducerType;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures a ring with {@code subscribers} type-filtered handler subscribers under
+ * each {@link DispatchMode}.
+ *
+ * <p>Every subscriber filters on its own event type and events cycle through all of
+ * them, so each event is wanted by exactly one subscriber. With
+ * {@code PER_SUBSCRIBER} every subscriber thread reads and discards the rest; with
+ * {@code TYPE_INDEXED} one thread routes each event to its subscriber. Each
+ * invocation publishes {@value #BATCH} events and waits for the ring to drain;
+ * compare on a machine with at least {@code subscribers} cores.</p>
+ *
+ * <pre>{@code
+ * java -jar disruptor-spring-boot-benchmarks/target/benchmarks.jar TypedDispatchBenchmark -p subscribers=20
+ * }</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TypedDispatchBenchmark {
+    private static final String RING = "typed";
+    private static final int BUFFER_SIZE = 1 << 14;
+    private static final int BATCH = 1000;
+
+    @Param({"PER_SUBSCRIBER", "TYPE_INDEXED"})
+    public DispatchMode dispatch;
+
+    @Param({"4", "20"})
+    public int subscribers;
+
+    private DisruptorManager manager;
+    private RingPublisher publisher;
+    private RingBuffer<DisruptorEvent> ringBuffer;
+    private String[] eventTypes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        RingProperties ring = new RingProperties();
+        ring.setBufferSize(BUFFER_SIZE);
+        ring.setProducerType(ProducerType.SINGLE);
+        ring.setWaitStrategy(WaitStrategyType.YIELDING);
+        ring.setDispatch(dispatch);
+        DisruptorProperties properties = new DisruptorProperties();
+        properties.setRings(Map.of(RING, ring));
+        SubscriberRegistry registry = new SubscriberRegistry();
+        eventTypes = new String[subscribers];
+        for (int i = 0; i < subscribers; i++) {
+            eventTypes[i] = "type-" + i;
+            registry.register(typedSubscriber(eventTypes[i]));
+        }
+        manager = new DisruptorManager(
+                properties,
+                registry,
+                new HandlerAdapter(null),
+                new ExceptionHandlerSupport(),
+                new WorkerPoolSupport());
+        manager.start();
+        publisher = new DisruptorTemplate(manager, List.of(), null).forRing(RING);
+        ringBuffer = manager.getRingBuffer(RING);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        manager.stop(Duration.ofSeconds(5), ShutdownStrategy.DRAIN);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public long publishAndDrain() {
+        for (int i = 0; i < BATCH; i++) {
+            publisher.publishLong(eventTypes[i % eventTypes.length], i);
+        }
+        long last = ringBuffer.getCursor();
+        while (ringBuffer.getMinimumGatingSequence() < last) {
+            Thread.yield();
+        }
+        return last;
+    }
+
+    private static SubscriberDefinition typedSubscriber(String eventType) {
+        EventHandler<DisruptorEvent> handler = (event, sequence, endOfBatch) -> {
+        };
+        return new SubscriberDefinition(
+                handler,
+                eventType + "Handler",
+                null,
+                DisruptorEvent.class,
+                RING,
+                Concurrency.MODE_HANDLER,
+                0,
+                false,
+                0,
+                eventType,
+                ExceptionPolicy.LOG_AND_CONTINUE);
+    }
+}
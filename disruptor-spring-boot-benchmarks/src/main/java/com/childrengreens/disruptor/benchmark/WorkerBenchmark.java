@@ -0,0 +1,136 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.disruptor.benchmark;
+
+import com.childrengreens.disruptor.consumer.RangeWorkProcessor;
+import com.childrengreens.disruptor.consumer.WorkerPoolSupport;
+import com.childrengreens.disruptor.core.DisruptorEvent;
+import com.childrengreens.disruptor.core.DisruptorEventFactory;
+import com.lmax.disruptor.EventHandler;
+import com.lmax.disruptor.EventTranslator;
+import com.lmax.disruptor.FatalExceptionHandler;
+import com.lmax.disruptor.RingBuffer;
+import com.lmax.disruptor.WorkHandler;
+import com.lmax.disruptor.WorkerPool;
+import com.lmax.disruptor.YieldingWaitStrategy;
+import com.lmax.disruptor.dsl.Disruptor;
+import com.lmax.disruptor.dsl.ProducerType;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures competing-consumer throughput of Disruptor's {@link WorkerPool} against
+ * {@link RangeWorkProcessor}s claiming {@code claimSize} events per CAS.
+ *
+ * <p>Each invocation publishes {@value #BATCH} events and waits until every worker
+ * has moved past them, so the numbers are per-event end-to-end cost including the
+ * contention on the shared work sequence. {@code claimSize = 0} runs the
+ * {@link WorkerPool}. Worker handlers do no work, which makes claiming the dominant
+ * cost; compare {@code workers} values on a machine with at least that many cores.</p>
+ *
+ * <pre>{@code
+ * java -jar disruptor-spring-boot-benchmarks/target/benchmarks.jar WorkerBenchmark -p workers=8
+ * }</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WorkerBenchmark {
+    private static final int BUFFER_SIZE = 1 << 14;
+    private static final int BATCH = 1000;
+
+    private static final EventTranslator<DisruptorEvent> TRANSLATOR =
+            (event, sequence) -> event.setLongValue(sequence);
+
+    @Param({"1", "4", "8"})
+    public int workers;
+
+    @Param({"0", "1", "16", "64"})
+    public int claimSize;
+
+    private Disruptor<DisruptorEvent> disruptor;
+    private RingBuffer<DisruptorEvent> ringBuffer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        disruptor = new Disruptor<>(
+                new DisruptorEventFactory(),
+                BUFFER_SIZE,
+                runnable -> {
+                    Thread thread = new Thread(runnable, "worker-bench");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                ProducerType.SINGLE,
+                new YieldingWaitStrategy());
+        WorkerPoolSupport support = new WorkerPoolSupport();
+        if (claimSize == 0) {
+            @SuppressWarnings("unchecked")
+            WorkHandler<DisruptorEvent>[] handlers = new WorkHandler[workers];
+            for (int i = 0; i < workers; i++) {
+                handlers[i] = event -> {
+                };
+            }
+            support.handleWithWorkerPool(disruptor, handlers);
+        } else {
+            @SuppressWarnings("unchecked")
+            EventHandler<DisruptorEvent>[] handlers = new EventHandler[workers];
+            for (int i = 0; i < workers; i++) {
+                handlers[i] = (event, sequence, endOfBatch) -> {
+                };
+            }
+            support.handleWithRangeWorkers(disruptor, handlers, claimSize, new FatalExceptionHandler());
+        }
+        ringBuffer = disruptor.start();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        disruptor.halt();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public long publishAndDrain() {
+        long last = -1L;
+        for (int i = 0; i < BATCH; i++) {
+            ringBuffer.publishEvent(TRANSLATOR);
+            last = ringBuffer.getCursor();
+        }
+        while (ringBuffer.getMinimumGatingSequence() < last) {
+            Thread.yield();
+        }
+        return last;
+    }
+}
@@ -26,6 +26,7 @@ package com.childrengreens.disruptor.annotation;
  *   <tr><th>Model</th><th>Distribution</th><th>Use Case</th></tr>
  *   <tr><td>MODE_HANDLER</td><td>Broadcast (all handlers receive every event)</td><td>Event monitoring, logging, multi-stage processing</td></tr>
  *   <tr><td>MODE_WORKER</td><td>Competing (each event processed by one worker)</td><td>Load balancing, parallel task processing</td></tr>
+ *   <tr><td>MODE_KEYED</td><td>Partitioned (each key owned by one thread)</td><td>Parallel processing with per-key ordering</td></tr>
  * </table>
  *
  * <p>Example usage:</p>
@@ -43,6 +44,14 @@ package com.childrengreens.disruptor.annotation;
  *
  * @DisruptorSubscriber(mode = Concurrency.MODE_WORKER)
  * public void worker2(MyEvent event) { ... }
+ *
+ * // Worker mode with one thread per available processor
+ * @DisruptorSubscriber(mode = Concurrency.MODE_WORKER, concurrency = Concurrency.AUTO)
+ * public void worker3(MyEvent event) { ... }
+ *
+ * // Keyed mode: 4 threads, each account handled in order by one of them
+ * @DisruptorSubscriber(mode = Concurrency.MODE_KEYED, concurrency = "4")
+ * public void applyToLedger(LedgerEntry entry) { ... }
  * }</pre>
  *
  * @see DisruptorSubscriber#mode()
@@ -66,14 +75,62 @@ public enum Concurrency {
     /**
      * Worker mode: competing consumer delivery.
      * <p>Each event is processed by exactly one worker from the pool.
-     * Events are distributed among available workers for parallel processing.</p>
+     * Events are distributed among available workers for parallel processing.
+     * Each worker method runs on {@link DisruptorSubscriber#concurrency()} threads,
+     * all competing in the same pool.</p>
      * <p>Best for:</p>
      * <ul>
      *   <li>Load balancing across multiple consumers</li>
      *   <li>Parallel task execution</li>
      *   <li>Scaling event processing horizontally</li>
      * </ul>
-     * <p><strong>Note:</strong> Batch mode is not supported in worker mode.</p>
+     * <p>Batch workers collect the events of each range they claim, so their ring's
+     * workers always use range-claiming processors.</p>
+     */
+    MODE_WORKER,
+
+    /**
+     * Keyed mode: key-affinity delivery.
+     * <p>The subscriber runs on {@link DisruptorSubscriber#concurrency()} threads
+     * that all see every event, and each handles only the events whose key hash
+     * maps to it. Events with the same key are therefore processed in order by
+     * the same thread, while different keys are processed in parallel. Keys are
+     * resolved as for sharded rings: a {@code KeyExtractor} bean, the payload's
+     * {@link DisruptorKey} member, or the payload itself; primitive values are
+     * keyed by their first value.</p>
+     * <p>The threads form one stage of the handler chain and take part in
+     * {@link DisruptorSubscriber#order()} like handler-mode subscribers.</p>
+     * <p>Best for:</p>
+     * <ul>
+     *   <li>Per-account or per-entity state updates</li>
+     *   <li>Scaling a stage beyond one thread without losing per-key order</li>
+     * </ul>
+     */
+    MODE_KEYED;
+
+    /**
+     * Concurrency value that sizes a subscriber from the available processors.
+     */
+    public static final String AUTO = "auto";
+
+    /**
+     * Parse a concurrency value: a positive thread count or {@link #AUTO}.
+     *
+     * @return the thread count, {@code 0} when empty, or {@code -1} when invalid
      */
-    MODE_WORKER
+    public static int parseThreads(String value) {
+        String trimmed = value == null ? "" : value.trim();
+        if (trimmed.isEmpty()) {
+            return 0;
+        }
+        if (AUTO.equalsIgnoreCase(trimmed)) {
+            return Runtime.getRuntime().availableProcessors();
+        }
+        try {
+            int parsed = Integer.parseInt(trimmed);
+            return parsed > 0 ? parsed : -1;
+        } catch (NumberFormatException ex) {
+            return -1;
+        }
+    }
 }
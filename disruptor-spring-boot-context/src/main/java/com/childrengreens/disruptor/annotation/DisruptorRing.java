@@ -21,7 +21,12 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
 /**
- * Qualifier for selecting a target ring.
+ * Selects a target ring. On a {@link com.childrengreens.disruptor.core.RingPublisher}
+ * field or constructor parameter it injects the pre-bound publisher for that ring:
+ * <pre>{@code
+ * @DisruptorRing("order")
+ * private RingPublisher orders;
+ * }</pre>
  */
 @Target({ElementType.FIELD, ElementType.PARAMETER, ElementType.TYPE})
 @Retention(RetentionPolicy.RUNTIME)
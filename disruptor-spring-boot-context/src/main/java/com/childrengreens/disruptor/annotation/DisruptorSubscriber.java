@@ -29,17 +29,51 @@ public @interface DisruptorSubscriber {
     String ring() default "default";
 
     /**
-     * Concurrency model: handler = broadcast, worker = competing consumers.
+     * Concurrency model: handler = broadcast, worker = competing consumers,
+     * keyed = partitioned by key.
      */
     Concurrency mode() default Concurrency.MODE_HANDLER;
 
+    /**
+     * Number of threads a worker or keyed subscriber runs on, e.g. {@code "4"}, or
+     * {@link Concurrency#AUTO} for one per available processor; empty falls back to
+     * the ring's {@code concurrency}, then to a single thread. Ignored in handler mode.
+     */
+    String concurrency() default "";
+
     /**
      * Order within handler chain; lower values execute first.
+     * <p>Ignored when {@link #after()} is set.</p>
      */
     int order() default 0;
 
     /**
-     * Enable batch delivery (handler mode only).
+     * Name other subscribers of the ring refer to in {@link #after()}; empty means
+     * the subscriber cannot be depended on. Unique per ring.
+     */
+    String id() default "";
+
+    /**
+     * Ids of the subscribers that must have handled an event before this one sees it,
+     * e.g. {@code {"journal", "replicate"}}.
+     * <p>Replaces {@link #order()}: the subscriber waits for exactly these subscribers,
+     * so independent branches no longer wait for each other. Not supported in worker mode.</p>
+     */
+    String[] after() default {};
+
+    /**
+     * Fuse this subscriber with the handler subscribers of the same ring, order and
+     * group into one composite handler that invokes them in sequence on a single
+     * thread; empty gives the subscriber its own thread.
+     * <p>Saves a thread and its cache traffic per subscriber, so it suits cheap
+     * handlers; a slow member delays the rest of its group. Ignored outside handler
+     * mode and when {@link #after()} is set.</p>
+     */
+    String group() default "";
+
+    /**
+     * Enable batch delivery of a {@code List} parameter.
+     * @see #copyBatch()
      */
     boolean batch() default false;
 
@@ -48,6 +82,23 @@ public @interface DisruptorSubscriber {
      */
     int batchSize() default 0;
 
+    /**
+     * Maximum age of a partial batch, e.g. {@code "50ms"}; empty means flush on endOfBatch.
+     * <p>With a timeout, batches keep filling across endOfBatch until {@link #batchSize()}
+     * is reached or their oldest event is older than the timeout. The check runs at
+     * endOfBatch and on the wait strategy's timeout callbacks, so the ring needs a
+     * {@code TIMEOUT_BLOCKING} or {@code LITE_TIMEOUT_BLOCKING} wait strategy (directly
+     * or as the {@code PHASED_BACKOFF} fallback); its timeout bounds the extra delay.</p>
+     */
+    String batchTimeout() default "";
+
+    /**
+     * Deliver each batch as a new list the subscriber may keep.
+     * <p>By default a batch is a reused read-only view that is only valid during the
+     * call; set this when the subscriber retains the list or hands it to another thread.</p>
+     */
+    boolean copyBatch() default false;
+
     /**
      * Optional event type filter; empty means no filtering.
      */
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.disruptor.consumer;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Reusable read-only list of the values buffered for one batch subscriber.
+ *
+ * <p>The same instance is handed to every invocation and emptied afterwards, so a
+ * subscriber may only read it during the call; {@code copyBatch = true} delivers a
+ * copy instead. The backing array is sized to {@code batchSize} up front and only
+ * grows for unbounded batches.</p>
+ */
+final class BatchView extends AbstractList<Object> implements RandomAccess {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private Object[] elements;
+    private int size;
+
+    BatchView(int batchSize) {
+        this.elements = new Object[batchSize > 0 ? batchSize : DEFAULT_CAPACITY];
+    }
+
+    void append(Object value) {
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, size * 2);
+        }
+        elements[size++] = value;
+    }
+
+    /**
+     * Drop the references of the delivered batch.
+     */
+    void reset() {
+        Arrays.fill(elements, 0, size, null);
+        size = 0;
+    }
+
+    @Override
+    public Object get(int index) {
+        Objects.checkIndex(index, size);
+        return elements[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
@@ -19,7 +19,11 @@ import com.childrengreens.disruptor.annotation.Concurrency;
 import com.childrengreens.disruptor.annotation.ExceptionPolicy;
 import com.childrengreens.disruptor.core.DisruptorEvent;
 import com.childrengreens.disruptor.core.DisruptorMetrics;
+import com.childrengreens.disruptor.core.EventTypeRegistry;
+import com.childrengreens.disruptor.core.KeyExtractor;
+import com.childrengreens.disruptor.core.ShardRouter;
 import com.lmax.disruptor.EventHandler;
+import com.lmax.disruptor.TimeoutHandler;
 import com.lmax.disruptor.WorkHandler;
 
 import java.lang.reflect.Method;
@@ -28,12 +32,12 @@ import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.util.ReflectionUtils;
 
 /**
  * Adapter that converts subscriber definitions to Disruptor handlers.
@@ -41,9 +45,23 @@ import org.springframework.util.ReflectionUtils;
 public class HandlerAdapter {
     private static final Logger log = LoggerFactory.getLogger(HandlerAdapter.class);
     private final DisruptorMetrics metrics;
+    private final ShardRouter keyRouter;
+    private final EventTypeRegistry eventTypeRegistry = new EventTypeRegistry();
 
     public HandlerAdapter(DisruptorMetrics metrics) {
+        this(metrics, null);
+    }
+
+    public HandlerAdapter(DisruptorMetrics metrics, KeyExtractor keyExtractor) {
         this.metrics = metrics;
+        this.keyRouter = new ShardRouter(keyExtractor);
+    }
+
+    /**
+     * Registry that interns the event type filters of the handlers built by this adapter.
+     */
+    public EventTypeRegistry getEventTypeRegistry() {
+        return eventTypeRegistry;
     }
 
     /**
@@ -112,14 +130,65 @@ public class HandlerAdapter {
 
     /**
      * Adapt a single definition to an {@link EventHandler} when possible.
+     * <p>A keyed subscriber adapted this way owns every key.</p>
      */
     public EventHandler<DisruptorEvent> adaptEventHandler(SubscriberDefinition definition) {
+        return adaptEventHandler(definition, KeyPartition.ALL);
+    }
+
+    /**
+     * Adapt a keyed definition to one handler per partition.
+     * <p>Every handler sees every event and handles only the events whose key maps
+     * to its partition, so each key is handled in order by a single handler.</p>
+     *
+     * @return the partition handlers, or an empty list if the bean cannot be adapted
+     */
+    public List<EventHandler<DisruptorEvent>> adaptKeyedHandlers(
+            SubscriberDefinition definition, int partitions) {
+        List<EventHandler<DisruptorEvent>> handlers = new ArrayList<>(partitions);
+        for (int partition = 0; partition < partitions; partition++) {
+            EventHandler<DisruptorEvent> handler = adaptEventHandler(
+                    definition, new KeyPartition(keyRouter, partition, partitions));
+            if (handler == null) {
+                return List.of();
+            }
+            handlers.add(handler);
+        }
+        return handlers;
+    }
+
+    /**
+     * Adapt handler subscribers that share one thread, either all of an order stage or
+     * one fused {@code group}, to a single handler that invokes, in sequence, only the
+     * subscribers matching each event's type.
+     *
+     * @return the dispatcher, the only adaptable subscriber itself, or {@code null}
+     * if none can be adapted
+     */
+    public EventHandler<DisruptorEvent> adaptTypeIndexedHandler(List<SubscriberDefinition> definitions) {
+        List<String> eventTypes = new ArrayList<>(definitions.size());
+        List<EventHandler<DisruptorEvent>> handlers = new ArrayList<>(definitions.size());
+        for (SubscriberDefinition definition : definitions) {
+            EventHandler<DisruptorEvent> handler = adaptEventHandler(definition);
+            if (handler != null) {
+                eventTypes.add(definition.eventType());
+                handlers.add(handler);
+            }
+        }
+        if (handlers.size() <= 1) {
+            return handlers.isEmpty() ? null : handlers.get(0);
+        }
+        return new TypeIndexedDispatcher(eventTypeRegistry, eventTypes, handlers);
+    }
+
+    private EventHandler<DisruptorEvent> adaptEventHandler(
+            SubscriberDefinition definition, KeyPartition partition) {
         if (definition.method() == null) {
             if (definition.bean() instanceof EventHandler) {
                 @SuppressWarnings("unchecked")
                 EventHandler<DisruptorEvent> handler =
                         (EventHandler<DisruptorEvent>) definition.bean();
-                return new DelegatingEventHandler(definition, handler, metrics);
+                return new DelegatingEventHandler(definition, handler, metrics, eventTypeRegistry, partition);
             }
             log.warn(
                     "Bean {} does not implement EventHandler, skip ring={}",
@@ -127,19 +196,31 @@ public class HandlerAdapter {
                     definition.ring());
             return null;
         }
-        return new MethodEventHandler(definition, metrics);
+        return new MethodEventHandler(definition, metrics, eventTypeRegistry, partition);
     }
 
     /**
      * Adapt a single definition to a {@link WorkHandler} when possible.
+     * <p>Batch subscribers need {@code endOfBatch} and are only adapted by
+     * {@link #adaptRangeWorkHandler(SubscriberDefinition)}.</p>
      */
     public WorkHandler<DisruptorEvent> adaptWorkHandler(SubscriberDefinition definition) {
+        return adaptWorkHandler(definition, true);
+    }
+
+    /**
+     * Adapt a single definition to a {@link WorkHandler} when possible.
+     *
+     * @param clearSlots whether the handler clears each slot it consumed; workers
+     * followed by other stages must leave the slot to those stages
+     */
+    public WorkHandler<DisruptorEvent> adaptWorkHandler(SubscriberDefinition definition, boolean clearSlots) {
         if (definition.method() == null) {
             if (definition.bean() instanceof WorkHandler) {
                 @SuppressWarnings("unchecked")
                 WorkHandler<DisruptorEvent> handler =
                         (WorkHandler<DisruptorEvent>) definition.bean();
-                return new DelegatingWorkHandler(definition, handler, metrics);
+                return new DelegatingWorkHandler(definition, handler, metrics, eventTypeRegistry, clearSlots);
             }
             log.warn(
                     "Bean {} does not implement WorkHandler, skip ring={}",
@@ -149,11 +230,54 @@ public class HandlerAdapter {
         }
         if (definition.batch()) {
             log.warn(
-                    "Batch mode is not supported for worker handlers. Skip bean={}",
+                    "Batch workers need a range-claiming worker pool. Skip bean={}",
                     definition.beanName());
             return null;
         }
-        return new MethodWorkHandler(definition, metrics);
+        return new MethodWorkHandler(definition, metrics, eventTypeRegistry, clearSlots);
+    }
+
+    /**
+     * Adapt a worker definition to an {@link EventHandler} for a {@link RangeWorkProcessor}.
+     * <p>Beans implementing {@link EventHandler} receive {@code endOfBatch} at the end of
+     * every claimed range, and batch methods are invoked once per range or per
+     * {@code batchSize} events; everything else is adapted as a {@link WorkHandler}.</p>
+     */
+    public EventHandler<DisruptorEvent> adaptRangeWorkHandler(SubscriberDefinition definition) {
+        return adaptRangeWorkHandler(definition, true);
+    }
+
+    /**
+     * Adapt a worker definition to an {@link EventHandler} for a {@link RangeWorkProcessor}.
+     *
+     * @param clearSlots whether batch and work handler adapters clear each slot they consumed
+     * @see #adaptWorkHandler(SubscriberDefinition, boolean)
+     */
+    public EventHandler<DisruptorEvent> adaptRangeWorkHandler(SubscriberDefinition definition, boolean clearSlots) {
+        if (definition.method() == null && definition.bean() instanceof EventHandler) {
+            return adaptEventHandler(definition, KeyPartition.ALL);
+        }
+        if (definition.method() != null && definition.batch()) {
+            MethodEventHandler handler =
+                    new MethodEventHandler(definition, metrics, eventTypeRegistry, KeyPartition.ALL);
+            return clearSlots ? new ClearingBatchHandler(handler) : handler;
+        }
+        WorkHandler<DisruptorEvent> handler = adaptWorkHandler(definition, clearSlots);
+        if (handler == null) {
+            return null;
+        }
+        return (event, sequence, endOfBatch) -> handler.onEvent(event);
+    }
+
+    /**
+     * Keys owned by one handler of a keyed subscriber.
+     */
+    private record KeyPartition(ShardRouter router, int partition, int partitions) {
+        private static final KeyPartition ALL = new KeyPartition(null, 0, 1);
+
+        private boolean owns(DisruptorEvent event) {
+            return partitions == 1 || router.partitionOfEvent(event, partitions) == partition;
+        }
     }
 
     /**
@@ -161,19 +285,83 @@ public class HandlerAdapter {
      */
     private abstract static class BaseHandler {
         protected final SubscriberDefinition definition;
-        protected final DisruptorMetrics metrics;
+        private final LongAdder consumeCounter;
+        private final LongAdder handlerCounter;
+        private final DisruptorMetrics.LatencyRecorder latencyRecorder;
+        private final String expectedType;
+        private final int expectedTypeId;
+        private final KeyPartition partition;
+        private final PayloadTypeFilter payloadFilter;
+        private final LongAdder mismatchCounter;
+        private boolean mismatchLogged;
 
-        private BaseHandler(SubscriberDefinition definition, DisruptorMetrics metrics) {
+        private BaseHandler(
+                SubscriberDefinition definition,
+                DisruptorMetrics metrics,
+                EventTypeRegistry eventTypeRegistry,
+                KeyPartition partition) {
             this.definition = definition;
-            this.metrics = metrics;
+            this.partition = partition;
+            this.consumeCounter = metrics == null ? null : metrics.consumeCounter(definition.ring());
+            this.handlerCounter = metrics == null
+                    ? null
+                    : metrics.handlerCounter(definition.ring(), definition.getHandlerId());
+            this.latencyRecorder = metrics == null ? null : metrics.latencyRecorder(definition.ring());
+            this.payloadFilter = PayloadTypeFilter.of(definition);
+            this.mismatchCounter = metrics == null ? null : metrics.payloadMismatchCounter(definition.ring());
+            String expected = definition.eventType();
+            this.expectedType = (expected == null || expected.isEmpty()) ? null : expected;
+            this.expectedTypeId = expectedType == null
+                    ? EventTypeRegistry.UNKNOWN
+                    : eventTypeRegistry.idOf(expectedType);
         }
 
+        /**
+         * Match by interned type ID, falling back to the type string for events
+         * whose type was set by name only.
+         */
         protected boolean matchesEventType(DisruptorEvent event) {
-            String expected = definition.eventType();
-            if (expected == null || expected.isEmpty()) {
+            if (expectedType == null) {
+                return true;
+            }
+            int typeId = event.getEventTypeId();
+            if (typeId != EventTypeRegistry.UNKNOWN) {
+                return typeId == expectedTypeId;
+            }
+            return expectedType.equals(event.getEventType());
+        }
+
+        /**
+         * Whether this handler should handle the event: its type matches, for a
+         * keyed subscriber its key belongs to this handler's partition, and its
+         * payload fits the subscriber method.
+         */
+        protected boolean accepts(DisruptorEvent event) {
+            return matchesEventType(event) && partition.owns(event) && matchesPayload(event);
+        }
+
+        /**
+         * Check the payload class against the subscriber method; mismatches are
+         * counted, and logged once per handler, instead of failing the invocation.
+         */
+        protected boolean matchesPayload(DisruptorEvent event) {
+            if (payloadFilter == null || payloadFilter.accepts(event)) {
                 return true;
             }
-            return expected.equals(event.getEventType());
+            if (mismatchCounter != null) {
+                mismatchCounter.increment();
+            }
+            if (!mismatchLogged) {
+                mismatchLogged = true;
+                Class<?> valueClass = PayloadTypeFilter.valueClass(event);
+                log.warn(
+                        "Subscriber {} on ring {} skips payloads it cannot accept: expected {}, got {}.",
+                        definition.beanName(),
+                        definition.ring(),
+                        payloadFilter.type().getTypeName(),
+                        valueClass == null ? "null" : valueClass.getTypeName());
+            }
+            return false;
         }
 
         protected void handleException(Throwable ex, Consumer<Throwable> logAction) {
@@ -185,63 +373,94 @@ public class HandlerAdapter {
             throw ex instanceof RuntimeException ? (RuntimeException) ex : new RuntimeException(ex);
         }
 
+        /**
+         * Count the event and record its latency on the ring's clock; unstamped
+         * events skip the clock read.
+         */
         protected void recordMetrics(DisruptorEvent event) {
-            if (metrics == null) {
+            if (consumeCounter == null) {
                 return;
             }
-            metrics.recordConsume(definition.ring(), definition.getHandlerId());
-            long createdAt = event.getCreatedAt();
-            if (createdAt > 0) {
-                metrics.recordLatency(
-                        definition.ring(), Math.max(0, System.currentTimeMillis() - createdAt));
+            consumeCounter.increment();
+            handlerCounter.increment();
+            long createdAtNanos = event.getCreatedAtNanos();
+            if (createdAtNanos != 0L) {
+                latencyRecorder.record(event.getClock().nanoTime() - createdAtNanos);
             }
         }
     }
 
     private static final class MethodEventHandler extends BaseHandler
-            implements EventHandler<DisruptorEvent> {
-        private final Object target;
+            implements EventHandler<DisruptorEvent>, TimeoutHandler {
         private final Method method;
-        private final List<Object> batchBuffer = new ArrayList<>();
+        private final SubscriberInvoker invoker;
+        private final Consumer<Object> batchConsumer;
+        private final BatchView batchBuffer;
+        private final long batchTimeoutNanos;
+        private long batchStartNanos;
 
-        private MethodEventHandler(SubscriberDefinition definition, DisruptorMetrics metrics) {
-            super(definition, metrics);
-            this.target = definition.bean();
+        private MethodEventHandler(
+                SubscriberDefinition definition,
+                DisruptorMetrics metrics,
+                EventTypeRegistry eventTypeRegistry,
+                KeyPartition partition) {
+            super(definition, metrics, eventTypeRegistry, partition);
             this.method = definition.method();
+            this.invoker = definition.batch() ? null : SubscriberInvoker.of(definition.bean(), method);
+            this.batchConsumer = definition.batch() ? SubscriberInvoker.consumer(definition.bean(), method) : null;
+            this.batchTimeoutNanos = definition.batchTimeoutNanos();
+            this.batchBuffer = definition.batch() ? new BatchView(definition.batchSize()) : null;
         }
 
         @Override
         public void onEvent(DisruptorEvent event, long sequence, boolean endOfBatch) {
-            if (!matchesEventType(event)) {
+            if (!accepts(event)) {
+                // A skipped event can still end the batch the buffered events belong to.
+                if (endOfBatch && batchBuffer != null && !batchBuffer.isEmpty() && batchExpired()) {
+                    try {
+                        flushBatch();
+                    } catch (Throwable ex) {
+                        handleInvocationFailure(ex);
+                    }
+                }
                 return;
             }
-            boolean flushing = false;
             try {
                 if (definition.batch()) {
-                    batchBuffer.add(event.getPayload());
+                    if (batchTimeoutNanos > 0L && batchBuffer.isEmpty()) {
+                        batchStartNanos = System.nanoTime();
+                    }
+                    batchBuffer.append(event.getValue());
                     if (shouldFlush(endOfBatch)) {
-                        flushing = true;
-                        ReflectionUtils.invokeMethod(method, target, new ArrayList<>(batchBuffer));
-                        batchBuffer.clear();
+                        flushBatch();
                     }
                 } else {
-                    ReflectionUtils.invokeMethod(method, target, event.getPayload());
+                    invoker.invoke(event);
                 }
                 recordMetrics(event);
             } catch (Throwable ex) {
-                if (definition.batch() && flushing) {
-                    batchBuffer.clear();
-                }
-                handleException(
-                        ex,
-                        throwable -> log.warn(
-                                "Subscriber invocation failed (bean={} method={}).",
-                                definition.beanName(),
-                                method.getName(),
-                                throwable));
+                handleInvocationFailure(ex);
             }
         }
 
+        private void flushBatch() {
+            try {
+                batchConsumer.accept(definition.copyBatch() ? new ArrayList<>(batchBuffer) : batchBuffer);
+            } finally {
+                batchBuffer.reset();
+            }
+        }
+
+        private void handleInvocationFailure(Throwable ex) {
+            handleException(
+                    ex,
+                    throwable -> log.warn(
+                            "Subscriber invocation failed (bean={} method={}).",
+                            definition.beanName(),
+                            method.getName(),
+                            throwable));
+        }
+
         private boolean shouldFlush(boolean endOfBatch) {
             if (!definition.batch()) {
                 return false;
@@ -250,7 +469,56 @@ public class HandlerAdapter {
             if (batchSize > 0 && batchBuffer.size() >= batchSize) {
                 return true;
             }
-            return endOfBatch;
+            return endOfBatch && batchExpired();
+        }
+
+        /**
+         * Whether a partial batch may be flushed: always without a batch timeout,
+         * otherwise once its oldest event has waited for the timeout.
+         */
+        private boolean batchExpired() {
+            return batchTimeoutNanos == 0L || System.nanoTime() - batchStartNanos >= batchTimeoutNanos;
+        }
+
+        /**
+         * Flush an expired partial batch while the ring is idle.
+         */
+        @Override
+        public void onTimeout(long sequence) {
+            if (batchTimeoutNanos > 0L && batchBuffer != null && !batchBuffer.isEmpty() && batchExpired()) {
+                try {
+                    flushBatch();
+                } catch (Throwable ex) {
+                    handleInvocationFailure(ex);
+                }
+            }
+        }
+    }
+
+    /**
+     * Batch worker adapter that clears each slot once its value is buffered, as work
+     * handlers do, and passes timeouts through.
+     */
+    private static final class ClearingBatchHandler
+            implements EventHandler<DisruptorEvent>, TimeoutHandler {
+        private final MethodEventHandler delegate;
+
+        private ClearingBatchHandler(MethodEventHandler delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void onEvent(DisruptorEvent event, long sequence, boolean endOfBatch) {
+            try {
+                delegate.onEvent(event, sequence, endOfBatch);
+            } finally {
+                event.clear();
+            }
+        }
+
+        @Override
+        public void onTimeout(long sequence) {
+            delegate.onTimeout(sequence);
         }
     }
 
@@ -259,25 +527,31 @@ public class HandlerAdapter {
      */
     private static final class MethodWorkHandler extends BaseHandler
             implements WorkHandler<DisruptorEvent> {
-        private final Object target;
         private final Method method;
+        private final SubscriberInvoker invoker;
+        private final boolean clearSlots;
 
-        private MethodWorkHandler(SubscriberDefinition definition, DisruptorMetrics metrics) {
-            super(definition, metrics);
-            this.target = definition.bean();
+        private MethodWorkHandler(
+                SubscriberDefinition definition,
+                DisruptorMetrics metrics,
+                EventTypeRegistry eventTypeRegistry,
+                boolean clearSlots) {
+            super(definition, metrics, eventTypeRegistry, KeyPartition.ALL);
             this.method = definition.method();
+            this.invoker = SubscriberInvoker.of(definition.bean(), method);
+            this.clearSlots = clearSlots;
         }
 
         @Override
         public void onEvent(DisruptorEvent event) {
-            if (!matchesEventType(event)) {
-                if (event != null) {
+            if (!matchesEventType(event) || !matchesPayload(event)) {
+                if (clearSlots && event != null) {
                     event.clear();
                 }
                 return;
             }
             try {
-                ReflectionUtils.invokeMethod(method, target, event.getPayload());
+                invoker.invoke(event);
                 recordMetrics(event);
             } catch (Throwable ex) {
                 handleException(
@@ -288,7 +562,7 @@ public class HandlerAdapter {
                                 method.getName(),
                                 throwable));
             } finally {
-                if (event != null) {
+                if (clearSlots && event != null) {
                     event.clear();
                 }
             }
@@ -302,14 +576,16 @@ public class HandlerAdapter {
         private DelegatingEventHandler(
                 SubscriberDefinition definition,
                 EventHandler<DisruptorEvent> delegate,
-                DisruptorMetrics metrics) {
-            super(definition, metrics);
+                DisruptorMetrics metrics,
+                EventTypeRegistry eventTypeRegistry,
+                KeyPartition partition) {
+            super(definition, metrics, eventTypeRegistry, partition);
             this.delegate = delegate;
         }
 
         @Override
         public void onEvent(DisruptorEvent event, long sequence, boolean endOfBatch) {
-            if (!matchesEventType(event)) {
+            if (!accepts(event)) {
                 return;
             }
             try {
@@ -330,19 +606,23 @@ public class HandlerAdapter {
     private static final class DelegatingWorkHandler extends BaseHandler
             implements WorkHandler<DisruptorEvent> {
         private final WorkHandler<DisruptorEvent> delegate;
+        private final boolean clearSlots;
 
         private DelegatingWorkHandler(
                 SubscriberDefinition definition,
                 WorkHandler<DisruptorEvent> delegate,
-                DisruptorMetrics metrics) {
-            super(definition, metrics);
+                DisruptorMetrics metrics,
+                EventTypeRegistry eventTypeRegistry,
+                boolean clearSlots) {
+            super(definition, metrics, eventTypeRegistry, KeyPartition.ALL);
             this.delegate = delegate;
+            this.clearSlots = clearSlots;
         }
 
         @Override
         public void onEvent(DisruptorEvent event) {
             if (!matchesEventType(event)) {
-                if (event != null) {
+                if (clearSlots && event != null) {
                     event.clear();
                 }
                 return;
@@ -358,7 +638,7 @@ public class HandlerAdapter {
                                 definition.beanName(),
                                 throwable));
             } finally {
-                if (event != null) {
+                if (clearSlots && event != null) {
                     event.clear();
                 }
             }
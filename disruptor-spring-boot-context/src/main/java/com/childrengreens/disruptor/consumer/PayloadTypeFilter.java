@@ -0,0 +1,112 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.disruptor.consumer;
+
+import com.childrengreens.disruptor.core.DisruptorEvent;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Checks whether the value of an event can be passed to a subscriber method.
+ *
+ * <p>The answer for each value class is computed once and cached in a
+ * {@link ClassValue}, so a mismatched payload is rejected with a lookup instead of a
+ * {@link ClassCastException} per event. Primitive values are checked by their boxed
+ * class without boxing them.</p>
+ *
+ * <p>A primitive parameter accepts the numbers that widen to it, as in a Java method
+ * call; a {@code long} parameter also takes the first value of a long pair, as the
+ * invoker passes it. A {@code (long, long)} method accepts long pairs only. Primitive
+ * parameters reject {@code null} payloads.</p>
+ */
+final class PayloadTypeFilter {
+    private static final Map<Class<?>, Set<Class<?>>> WIDENING = Map.of(
+            long.class, Set.of(Long.class, Integer.class, Short.class, Byte.class, long[].class),
+            double.class, Set.of(Double.class, Float.class, Long.class, Integer.class, Short.class, Byte.class));
+    private static final Set<Class<?>> LONG_PAIR = Set.of(long[].class);
+
+    private final Class<?> type;
+    private final Set<Class<?>> widening;
+    private final ClassValue<Boolean> assignable = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> valueClass) {
+            return widening != null ? widening.contains(valueClass) : type.isAssignableFrom(valueClass);
+        }
+    };
+
+    private PayloadTypeFilter(Class<?> type, Set<Class<?>> widening) {
+        this.type = type;
+        this.widening = widening;
+    }
+
+    /**
+     * Create the filter for a subscriber method: its parameter type or, for a batch
+     * method, the element type of its list.
+     *
+     * @return the filter, or {@code null} if the method accepts any value
+     */
+    static PayloadTypeFilter of(SubscriberDefinition definition) {
+        Method method = definition.method();
+        if (method != null && SubscriberInvoker.isLongPair(method)) {
+            return new PayloadTypeFilter(long[].class, LONG_PAIR);
+        }
+        if (method == null || method.getParameterCount() != 1) {
+            return null;
+        }
+        Class<?> parameterType = method.getParameterTypes()[0];
+        if (parameterType.isPrimitive()) {
+            Set<Class<?>> widening = WIDENING.get(parameterType);
+            return widening == null
+                    ? null
+                    : new PayloadTypeFilter(ClassUtils.resolvePrimitiveIfNecessary(parameterType), widening);
+        }
+        Class<?> type = definition.batch()
+                ? ResolvableType.forMethodParameter(method, 0).as(List.class).resolveGeneric(0)
+                : parameterType;
+        if (type == null || type == Object.class) {
+            return null;
+        }
+        return new PayloadTypeFilter(ClassUtils.resolvePrimitiveIfNecessary(type), null);
+    }
+
+    Class<?> type() {
+        return type;
+    }
+
+    /**
+     * Whether the event's value can be passed: an instance of the filter type, a
+     * value widening to a primitive parameter, or {@code null} for an object parameter.
+     */
+    boolean accepts(DisruptorEvent event) {
+        Class<?> valueClass = valueClass(event);
+        return valueClass == null ? widening == null : assignable.get(valueClass);
+    }
+
+    static Class<?> valueClass(DisruptorEvent event) {
+        return switch (event.getValueKind()) {
+            case OBJECT -> event.getPayload() == null ? null : event.getPayload().getClass();
+            case LONG -> Long.class;
+            case LONG_PAIR -> long[].class;
+            case DOUBLE -> Double.class;
+        };
+    }
+}
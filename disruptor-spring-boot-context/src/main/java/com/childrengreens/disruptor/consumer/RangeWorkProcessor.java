@@ -0,0 +1,174 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.disruptor.consumer;
+
+import com.childrengreens.disruptor.core.DisruptorEvent;
+import com.lmax.disruptor.AlertException;
+import com.lmax.disruptor.EventHandler;
+import com.lmax.disruptor.EventProcessor;
+import com.lmax.disruptor.ExceptionHandler;
+import com.lmax.disruptor.LifecycleAware;
+import com.lmax.disruptor.RingBuffer;
+import com.lmax.disruptor.Sequence;
+import com.lmax.disruptor.SequenceBarrier;
+import com.lmax.disruptor.Sequencer;
+import com.lmax.disruptor.TimeoutException;
+import com.lmax.disruptor.TimeoutHandler;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Competing-consumer processor that claims a range of up to {@code claimSize}
+ * sequences with a single CAS on the shared work sequence and handles the range
+ * locally.
+ *
+ * <p>Disruptor's {@code WorkProcessor} performs one CAS per event, which becomes
+ * the bottleneck when many workers contend for the same work sequence. Here a
+ * worker only claims what is already published, so a partially filled range is
+ * never held back waiting for a producer, and the last event of every range is
+ * delivered with {@code endOfBatch = true}.</p>
+ *
+ * <p>Each worker publishes the work sequence it observed before claiming as its
+ * own progress. Everything up to that point has been claimed by some worker, and
+ * each claiming worker holds the gate below its own range until it has handled
+ * it, so the minimum over all workers never passes an unhandled event.</p>
+ */
+public final class RangeWorkProcessor implements EventProcessor {
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final Sequence sequence = new Sequence(Sequencer.INITIAL_CURSOR_VALUE);
+    private final RingBuffer<DisruptorEvent> ringBuffer;
+    private final SequenceBarrier sequenceBarrier;
+    private final EventHandler<DisruptorEvent> handler;
+    private final ExceptionHandler<? super DisruptorEvent> exceptionHandler;
+    private final Sequence workSequence;
+    private final int claimSize;
+
+    /**
+     * Create a worker sharing {@code workSequence} with the other workers of its pool.
+     */
+    public RangeWorkProcessor(
+            RingBuffer<DisruptorEvent> ringBuffer,
+            SequenceBarrier sequenceBarrier,
+            EventHandler<DisruptorEvent> handler,
+            ExceptionHandler<? super DisruptorEvent> exceptionHandler,
+            Sequence workSequence,
+            int claimSize) {
+        if (claimSize < 1) {
+            throw new IllegalArgumentException("claimSize must be at least 1, but was " + claimSize);
+        }
+        this.ringBuffer = ringBuffer;
+        this.sequenceBarrier = sequenceBarrier;
+        this.handler = handler;
+        this.exceptionHandler = exceptionHandler;
+        this.workSequence = workSequence;
+        this.claimSize = claimSize;
+    }
+
+    @Override
+    public Sequence getSequence() {
+        return sequence;
+    }
+
+    @Override
+    public void halt() {
+        running.set(false);
+        sequenceBarrier.alert();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    @Override
+    public void run() {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("Thread is already running");
+        }
+        sequenceBarrier.clearAlert();
+        notifyStart();
+        try {
+            while (true) {
+                long claimed = workSequence.get();
+                sequence.set(claimed);
+                long next = claimed + 1;
+                try {
+                    long available = sequenceBarrier.waitFor(next);
+                    if (available < next) {
+                        continue;
+                    }
+                    long end = Math.min(available, claimed + claimSize);
+                    if (workSequence.compareAndSet(claimed, end)) {
+                        handleRange(next, end);
+                    }
+                } catch (TimeoutException ex) {
+                    notifyTimeout(sequence.get());
+                } catch (AlertException ex) {
+                    if (!running.get()) {
+                        break;
+                    }
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        } finally {
+            notifyShutdown();
+            running.set(false);
+        }
+    }
+
+    private void handleRange(long first, long last) {
+        for (long current = first; current <= last; current++) {
+            DisruptorEvent event = ringBuffer.get(current);
+            try {
+                handler.onEvent(event, current, current == last);
+            } catch (Throwable ex) {
+                exceptionHandler.handleEventException(ex, current, event);
+            }
+        }
+    }
+
+    private void notifyTimeout(long availableSequence) {
+        if (handler instanceof TimeoutHandler timeoutHandler) {
+            try {
+                timeoutHandler.onTimeout(availableSequence);
+            } catch (Throwable ex) {
+                exceptionHandler.handleEventException(ex, availableSequence, null);
+            }
+        }
+    }
+
+    private void notifyStart() {
+        if (handler instanceof LifecycleAware lifecycleAware) {
+            try {
+                lifecycleAware.onStart();
+            } catch (Throwable ex) {
+                exceptionHandler.handleOnStartException(ex);
+            }
+        }
+    }
+
+    private void notifyShutdown() {
+        if (handler instanceof LifecycleAware lifecycleAware) {
+            try {
+                lifecycleAware.onShutdown();
+            } catch (Throwable ex) {
+                exceptionHandler.handleOnShutdownException(ex);
+            }
+        }
+    }
+}
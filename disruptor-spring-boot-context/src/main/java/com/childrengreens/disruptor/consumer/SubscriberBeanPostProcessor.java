@@ -15,10 +15,13 @@
  */
 package com.childrengreens.disruptor.consumer;
 
+import com.childrengreens.disruptor.annotation.Concurrency;
 import com.childrengreens.disruptor.annotation.DisruptorSubscriber;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.List;
 
 import org.slf4j.Logger;
@@ -26,6 +29,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.aop.support.AopUtils;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.convert.DurationStyle;
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.lang.NonNull;
 import org.springframework.util.ReflectionUtils;
@@ -80,12 +84,30 @@ public class SubscriberBeanPostProcessor implements BeanPostProcessor {
                         method.getName());
                 continue;
             }
-            if (effective.batch() && effective.mode()
-                    == com.childrengreens.disruptor.annotation.Concurrency.MODE_WORKER) {
+            int concurrency = Concurrency.parseThreads(effective.concurrency());
+            if (concurrency < 0) {
                 log.warn(
-                        "Skip @DisruptorSubscriber method {}.{}: batch is not supported in worker mode.",
+                        "Skip @DisruptorSubscriber method {}.{}: invalid concurrency '{}'.",
                         targetClass.getName(),
-                        method.getName());
+                        method.getName(),
+                        effective.concurrency());
+                continue;
+            }
+            if (!isValidAfter(effective)) {
+                log.warn(
+                        "Skip @DisruptorSubscriber method {}.{}: invalid after {}.",
+                        targetClass.getName(),
+                        method.getName(),
+                        Arrays.toString(effective.after()));
+                continue;
+            }
+            long batchTimeoutNanos = parseBatchTimeout(effective.batchTimeout());
+            if (batchTimeoutNanos < 0 || (batchTimeoutNanos > 0 && !effective.batch())) {
+                log.warn(
+                        "Skip @DisruptorSubscriber method {}.{}: invalid batchTimeout '{}'.",
+                        targetClass.getName(),
+                        method.getName(),
+                        effective.batchTimeout());
                 continue;
             }
 
@@ -104,11 +126,32 @@ public class SubscriberBeanPostProcessor implements BeanPostProcessor {
                             effective.batch(),
                             effective.batchSize(),
                             effective.eventType(),
-                            effective.exceptionPolicy()));
+                            effective.exceptionPolicy(),
+                            concurrency,
+                            batchTimeoutNanos,
+                            effective.copyBatch(),
+                            effective.id(),
+                            List.of(effective.after()),
+                            effective.group()));
             registered = true;
         }
 
         if (hasClassAnnotation && !registered) {
+            int concurrency = Concurrency.parseThreads(classAnnotation.concurrency());
+            if (concurrency < 0) {
+                log.warn(
+                        "Skip @DisruptorSubscriber bean {}: invalid concurrency '{}'.",
+                        targetClass.getName(),
+                        classAnnotation.concurrency());
+                return bean;
+            }
+            if (!isValidAfter(classAnnotation)) {
+                log.warn(
+                        "Skip @DisruptorSubscriber bean {}: invalid after {}.",
+                        targetClass.getName(),
+                        Arrays.toString(classAnnotation.after()));
+                return bean;
+            }
             registry.register(
                     new SubscriberDefinition(
                             bean,
@@ -121,19 +164,66 @@ public class SubscriberBeanPostProcessor implements BeanPostProcessor {
                             classAnnotation.batch(),
                             classAnnotation.batchSize(),
                             classAnnotation.eventType(),
-                            classAnnotation.exceptionPolicy()));
+                            classAnnotation.exceptionPolicy(),
+                            concurrency,
+                            0L,
+                            false,
+                            classAnnotation.id(),
+                            List.of(classAnnotation.after()),
+                            classAnnotation.group()));
         }
 
         return bean;
     }
 
     /**
-     * Validate subscriber method signature: void with exactly one argument.
+     * Parse a {@code batchTimeout} attribute such as {@code "50ms"}; plain numbers are milliseconds.
+     *
+     * @return the timeout in nanoseconds, {@code 0} when unspecified, or {@code -1} when invalid
+     */
+    private static long parseBatchTimeout(String value) {
+        String trimmed = value == null ? "" : value.trim();
+        if (trimmed.isEmpty()) {
+            return 0L;
+        }
+        try {
+            Duration timeout = DurationStyle.detectAndParse(trimmed);
+            return timeout.isNegative() || timeout.isZero() ? -1L : timeout.toNanos();
+        } catch (IllegalArgumentException ex) {
+            return -1L;
+        }
+    }
+
+    /**
+     * Dependencies need non-blank ids and a subscriber that joins the handler graph,
+     * which workers competing over a shared sequence do not.
+     */
+    private static boolean isValidAfter(DisruptorSubscriber subscriber) {
+        if (subscriber.after().length == 0) {
+            return true;
+        }
+        if (subscriber.mode() == Concurrency.MODE_WORKER) {
+            return false;
+        }
+        for (String dependency : subscriber.after()) {
+            if (dependency == null || dependency.isBlank()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Validate subscriber method signature: void with exactly one argument, or two
+     * {@code long} arguments for values published with {@code publishLongs}.
      */
     private boolean isValidSubscriberMethod(Method method, DisruptorSubscriber subscriber) {
         if (!Void.TYPE.equals(method.getReturnType())) {
             return false;
         }
+        if (method.getParameterCount() == 2) {
+            return !subscriber.batch() && SubscriberInvoker.isLongPair(method);
+        }
         if (method.getParameterCount() != 1) {
             return false;
         }
@@ -19,13 +19,41 @@ import com.childrengreens.disruptor.annotation.Concurrency;
 import com.childrengreens.disruptor.annotation.ExceptionPolicy;
 
 import java.lang.reflect.Method;
+import java.util.List;
 
 /**
  * Immutable description of a subscriber method or handler bean.
+ *
+ * <p>{@code concurrency} is the requested number of threads, or {@code 0} when
+ * the subscriber did not specify one. {@code batchTimeoutNanos} is the maximum
+ * age of a partial batch, or {@code 0} to flush on endOfBatch. {@code copyBatch}
+ * delivers each batch as a fresh list instead of a reused view. {@code id} names the
+ * subscriber for the {@code after} lists of others; a non-empty {@code after} places
+ * the subscriber behind those subscribers instead of at its {@code order}. Handler
+ * subscribers sharing a non-empty {@code group} and {@code order} run fused on one thread.</p>
  */
 public record SubscriberDefinition(Object bean, String beanName, Method method, Class<?> eventClass, String ring,
                                    Concurrency mode, int order, boolean batch, int batchSize, String eventType,
-                                   ExceptionPolicy exceptionPolicy) {
+                                   ExceptionPolicy exceptionPolicy, int concurrency, long batchTimeoutNanos,
+                                   boolean copyBatch, String id, List<String> after, String group) {
+
+    public SubscriberDefinition {
+        id = id == null ? "" : id;
+        after = after == null ? List.of() : List.copyOf(after);
+        group = group == null ? "" : group;
+    }
+
+    /**
+     * Create a definition with the default handler options: inherited concurrency,
+     * flush on endOfBatch, reused batch views, no {@code id}, {@code after} or
+     * {@code group}.
+     */
+    public SubscriberDefinition(Object bean, String beanName, Method method, Class<?> eventClass, String ring,
+                                Concurrency mode, int order, boolean batch, int batchSize, String eventType,
+                                ExceptionPolicy exceptionPolicy) {
+        this(bean, beanName, method, eventClass, ring, mode, order, batch, batchSize, eventType, exceptionPolicy,
+                0, 0L, false, "", List.of(), "");
+    }
 
     public String getHandlerId() {
         if (method == null) {
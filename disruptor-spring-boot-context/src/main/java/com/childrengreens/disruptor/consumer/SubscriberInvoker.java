@@ -0,0 +1,224 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.disruptor.consumer;
+
+import com.childrengreens.disruptor.core.DisruptorEvent;
+import com.childrengreens.disruptor.core.ValueKind;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandleProxies;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.LongConsumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Calls a subscriber method with the value carried by an event.
+ *
+ * <p>Invokers are generated once at startup with {@link LambdaMetafactory}: the
+ * subscriber method becomes the body of a {@link Consumer}, {@link LongConsumer},
+ * {@link LongPairConsumer} or {@link DoubleConsumer} spun in the subscriber's nest, a plain interface call the
+ * JIT can inline instead of {@code Method.invoke} with its argument array, access
+ * checks and exception wrapping. Methods the metafactory cannot reach fall back to
+ * a proxy over a bound {@link MethodHandle}.</p>
+ *
+ * <p>Methods taking {@code long}, {@code (long, long)} or {@code double} receive
+ * primitive values published with {@code publishLong}, {@code publishLongs} or
+ * {@code publishDouble} without boxing. Such methods also accept {@link Number}
+ * payloads, and {@code double} methods take {@code publishLong} values. Handler
+ * adapters skip values that do not widen to the parameter before invoking. Methods
+ * taking an object receive the payload, or the boxed primitive value.</p>
+ */
+abstract class SubscriberInvoker {
+    private static final Logger log = LoggerFactory.getLogger(SubscriberInvoker.class);
+    private static final MethodType OBJECT_SAM = MethodType.methodType(void.class, Object.class);
+    private static final MethodType LONG_SAM = MethodType.methodType(void.class, long.class);
+    private static final MethodType LONG_PAIR_SAM = MethodType.methodType(void.class, long.class, long.class);
+    private static final MethodType DOUBLE_SAM = MethodType.methodType(void.class, double.class);
+
+    /**
+     * Create the invoker matching the method's parameter types.
+     */
+    static SubscriberInvoker of(Object target, Method method) {
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        if (parameterTypes.length == 2) {
+            return new LongPairInvoker(longPairConsumer(target, method));
+        }
+        if (parameterTypes[0] == long.class) {
+            return new LongInvoker(generate(LongConsumer.class, LONG_SAM, target, method));
+        }
+        if (parameterTypes[0] == double.class) {
+            return new DoubleInvoker(generate(DoubleConsumer.class, DOUBLE_SAM, target, method));
+        }
+        return new ObjectInvoker(consumer(target, method));
+    }
+
+    /**
+     * Generate a consumer calling a one-argument subscriber method, e.g. with a batch.
+     */
+    @SuppressWarnings("unchecked")
+    static Consumer<Object> consumer(Object target, Method method) {
+        return generate(Consumer.class, OBJECT_SAM, target, method);
+    }
+
+    /**
+     * Generate a consumer calling a {@code (long, long)} subscriber method.
+     */
+    static LongPairConsumer longPairConsumer(Object target, Method method) {
+        return generate(LongPairConsumer.class, LONG_PAIR_SAM, target, method);
+    }
+
+    /**
+     * Whether a subscriber method takes two {@code long} values.
+     */
+    static boolean isLongPair(Method method) {
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        return parameterTypes.length == 2
+                && parameterTypes[0] == long.class
+                && parameterTypes[1] == long.class;
+    }
+
+    abstract void invoke(DisruptorEvent event) throws Throwable;
+
+    /**
+     * Spin a {@code functionalType} instance whose {@code accept} calls {@code method}
+     * on {@code target}, or proxy a bound handle if the metafactory is not applicable.
+     */
+    private static <T> T generate(Class<T> functionalType, MethodType samType, Object target, Method method) {
+        try {
+            Class<?> declaringClass = method.getDeclaringClass();
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup());
+            MethodType instantiatedType = samType.equals(OBJECT_SAM)
+                    ? MethodType.methodType(void.class, ClassUtils.resolvePrimitiveIfNecessary(
+                            method.getParameterTypes()[0]))
+                    : samType;
+            CallSite site = LambdaMetafactory.metafactory(
+                    lookup,
+                    "accept",
+                    MethodType.methodType(functionalType, declaringClass),
+                    samType,
+                    lookup.unreflect(method),
+                    instantiatedType);
+            return functionalType.cast(site.getTarget().invoke(target));
+        } catch (Throwable ex) {
+            log.debug("Cannot generate invoker for {}, using a method handle proxy.", method, ex);
+            return MethodHandleProxies.asInterfaceInstance(
+                    functionalType, bind(target, method, samType.parameterArray()));
+        }
+    }
+
+    private static MethodHandle bind(Object target, Method method, Class<?>... parameterTypes) {
+        try {
+            return MethodHandles.lookup()
+                    .unreflect(method)
+                    .bindTo(target)
+                    .asType(MethodType.methodType(void.class, parameterTypes));
+        } catch (IllegalAccessException ex) {
+            throw new IllegalStateException("Cannot access subscriber method " + method, ex);
+        }
+    }
+
+    private static Number numberPayload(DisruptorEvent event, String expected) {
+        Object payload = event.getPayload();
+        if (payload instanceof Number number) {
+            return number;
+        }
+        throw new IllegalArgumentException("Subscriber expects " + expected + " but the event carries "
+                + (payload == null ? "null" : payload.getClass().getName()));
+    }
+
+    private static final class ObjectInvoker extends SubscriberInvoker {
+        private final Consumer<Object> consumer;
+
+        private ObjectInvoker(Consumer<Object> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        void invoke(DisruptorEvent event) {
+            consumer.accept(event.getValue());
+        }
+    }
+
+    private static final class LongInvoker extends SubscriberInvoker {
+        private final LongConsumer consumer;
+
+        private LongInvoker(LongConsumer consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        void invoke(DisruptorEvent event) {
+            ValueKind kind = event.getValueKind();
+            long value = kind == ValueKind.LONG || kind == ValueKind.LONG_PAIR
+                    ? event.getLongValue()
+                    : numberPayload(event, "long").longValue();
+            consumer.accept(value);
+        }
+    }
+
+    private static final class LongPairInvoker extends SubscriberInvoker {
+        private final LongPairConsumer consumer;
+
+        private LongPairInvoker(LongPairConsumer consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        void invoke(DisruptorEvent event) {
+            if (event.getValueKind() != ValueKind.LONG_PAIR) {
+                throw new IllegalArgumentException(
+                        "Subscriber expects a long pair but the event carries " + event.getValueKind());
+            }
+            consumer.accept(event.getLongValue(), event.getSecondLongValue());
+        }
+    }
+
+    /**
+     * Two-{@code long} counterpart of {@link LongConsumer}.
+     * <p>Public so that the class spun in a subscriber's nest, in any package, can
+     * implement it; the enclosing class keeps it out of the API.</p>
+     */
+    @FunctionalInterface
+    public interface LongPairConsumer {
+        void accept(long first, long second);
+    }
+
+    private static final class DoubleInvoker extends SubscriberInvoker {
+        private final DoubleConsumer consumer;
+
+        private DoubleInvoker(DoubleConsumer consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        void invoke(DisruptorEvent event) {
+            ValueKind kind = event.getValueKind();
+            double value = kind == ValueKind.DOUBLE
+                    ? event.getDoubleValue()
+                    : kind == ValueKind.LONG ? event.getLongValue() : numberPayload(event, "double").doubleValue();
+            consumer.accept(value);
+        }
+    }
+}
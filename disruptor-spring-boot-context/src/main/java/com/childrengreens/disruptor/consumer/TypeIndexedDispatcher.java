@@ -0,0 +1,184 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.disruptor.consumer;
+
+import com.childrengreens.disruptor.core.DisruptorEvent;
+import com.childrengreens.disruptor.core.EventTypeRegistry;
+import com.lmax.disruptor.EventHandler;
+import com.lmax.disruptor.TimeoutHandler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Single handler for the subscribers of one order stage, or of one fused group, that
+ * routes each event by its type instead of letting every subscriber read and discard it.
+ *
+ * <p>Routes are precomputed per subscribed type: an interned type ID indexes the
+ * table directly, events typed by name only fall back to a map lookup, and any other
+ * type reaches the subscribers without a filter. Subscribers are invoked in
+ * registration order on the stage's single thread.</p>
+ *
+ * <p>On {@code endOfBatch} the subscribers that were not routed the event are still
+ * told that the batch ended, so batch subscribers flush as they would on their own
+ * processor; they skip the event through their own filter.</p>
+ */
+final class TypeIndexedDispatcher implements EventHandler<DisruptorEvent>, TimeoutHandler {
+    private final EventHandler<DisruptorEvent>[] handlers;
+    private final Route[] routesById;
+    private final Map<String, Route> routesByName;
+    private final Route untypedRoute;
+
+    /**
+     * @param registry the registry the subscribers' type filters are interned in
+     * @param eventTypes the type filter of each handler, {@code null} or empty for none
+     * @param handlers the adapted subscribers of the stage, in registration order
+     */
+    @SuppressWarnings("unchecked")
+    TypeIndexedDispatcher(
+            EventTypeRegistry registry, List<String> eventTypes, List<EventHandler<DisruptorEvent>> handlers) {
+        if (eventTypes.size() != handlers.size()) {
+            throw new IllegalArgumentException("Every handler needs an event type entry");
+        }
+        this.handlers = handlers.toArray(new EventHandler[0]);
+        Set<String> types = new LinkedHashSet<>();
+        for (String eventType : eventTypes) {
+            if (eventType != null && !eventType.isEmpty()) {
+                types.add(eventType);
+            }
+        }
+        this.untypedRoute = route(eventTypes, null);
+        this.routesByName = new HashMap<>();
+        int maxId = EventTypeRegistry.UNKNOWN;
+        for (String type : types) {
+            routesByName.put(type, route(eventTypes, type));
+            maxId = Math.max(maxId, registry.idOf(type));
+        }
+        this.routesById = new Route[maxId + 1];
+        Arrays.fill(routesById, untypedRoute);
+        for (Map.Entry<String, Route> entry : routesByName.entrySet()) {
+            routesById[registry.idOf(entry.getKey())] = entry.getValue();
+        }
+    }
+
+    /**
+     * Split the handlers into those an event of the given type reaches and the rest.
+     */
+    private Route route(List<String> eventTypes, String type) {
+        List<EventHandler<DisruptorEvent>> targets = new ArrayList<>();
+        List<EventHandler<DisruptorEvent>> others = new ArrayList<>();
+        for (int i = 0; i < handlers.length; i++) {
+            String eventType = eventTypes.get(i);
+            boolean unfiltered = eventType == null || eventType.isEmpty();
+            if (unfiltered || eventType.equals(type)) {
+                targets.add(handlers[i]);
+            } else {
+                others.add(handlers[i]);
+            }
+        }
+        return new Route(toArray(targets), toArray(others));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static EventHandler<DisruptorEvent>[] toArray(List<EventHandler<DisruptorEvent>> handlers) {
+        return handlers.toArray(new EventHandler[0]);
+    }
+
+    private Route routeOf(DisruptorEvent event) {
+        int typeId = event.getEventTypeId();
+        if (typeId != EventTypeRegistry.UNKNOWN) {
+            return typeId < routesById.length ? routesById[typeId] : untypedRoute;
+        }
+        String eventType = event.getEventType();
+        if (eventType == null) {
+            return untypedRoute;
+        }
+        return routesByName.getOrDefault(eventType, untypedRoute);
+    }
+
+    /**
+     * Invoke every routed subscriber even if one fails, then rethrow the first
+     * failure so the ring's exception handler sees it.
+     */
+    @Override
+    public void onEvent(DisruptorEvent event, long sequence, boolean endOfBatch) throws Exception {
+        Route route = routeOf(event);
+        Throwable failure = dispatch(route.targets, event, sequence, endOfBatch, null);
+        if (endOfBatch) {
+            failure = dispatch(route.others, event, sequence, true, failure);
+        }
+        if (failure != null) {
+            rethrow(failure);
+        }
+    }
+
+    private static Throwable dispatch(
+            EventHandler<DisruptorEvent>[] targets,
+            DisruptorEvent event,
+            long sequence,
+            boolean endOfBatch,
+            Throwable failure) {
+        for (EventHandler<DisruptorEvent> handler : targets) {
+            try {
+                handler.onEvent(event, sequence, endOfBatch);
+            } catch (Throwable ex) {
+                if (failure == null) {
+                    failure = ex;
+                } else {
+                    failure.addSuppressed(ex);
+                }
+            }
+        }
+        return failure;
+    }
+
+    @Override
+    public void onTimeout(long sequence) throws Exception {
+        Throwable failure = null;
+        for (EventHandler<DisruptorEvent> handler : handlers) {
+            if (!(handler instanceof TimeoutHandler timeoutHandler)) {
+                continue;
+            }
+            try {
+                timeoutHandler.onTimeout(sequence);
+            } catch (Throwable ex) {
+                if (failure == null) {
+                    failure = ex;
+                } else {
+                    failure.addSuppressed(ex);
+                }
+            }
+        }
+        if (failure != null) {
+            rethrow(failure);
+        }
+    }
+
+    private static void rethrow(Throwable failure) throws Exception {
+        if (failure instanceof Exception exception) {
+            throw exception;
+        }
+        throw (Error) failure;
+    }
+
+    private record Route(EventHandler<DisruptorEvent>[] targets, EventHandler<DisruptorEvent>[] others) {
+    }
+}
@@ -16,18 +16,77 @@
 package com.childrengreens.disruptor.consumer;
 
 import com.childrengreens.disruptor.core.DisruptorEvent;
+import com.lmax.disruptor.EventHandler;
+import com.lmax.disruptor.ExceptionHandler;
+import com.lmax.disruptor.Sequence;
+import com.lmax.disruptor.Sequencer;
 import com.lmax.disruptor.WorkHandler;
 import com.lmax.disruptor.dsl.Disruptor;
+import com.lmax.disruptor.dsl.EventHandlerGroup;
+import com.lmax.disruptor.dsl.EventProcessorFactory;
 
 /**
- * Helper to register worker pool handlers on a Disruptor instance.
+ * Helper to register worker pool handlers on a Disruptor instance, either as the
+ * first stage of the ring or behind an earlier stage.
  */
 public class WorkerPoolSupport {
     /**
      * Register worker pool handlers on a Disruptor instance.
      */
-    public void handleWithWorkerPool(
+    public EventHandlerGroup<DisruptorEvent> handleWithWorkerPool(
             Disruptor<DisruptorEvent> disruptor, WorkHandler<DisruptorEvent>[] handlers) {
-        disruptor.handleEventsWithWorkerPool(handlers);
+        return disruptor.handleEventsWithWorkerPool(handlers);
+    }
+
+    /**
+     * Register worker pool handlers that only see events once {@code after} has handled them.
+     */
+    public EventHandlerGroup<DisruptorEvent> handleWithWorkerPool(
+            EventHandlerGroup<DisruptorEvent> after, WorkHandler<DisruptorEvent>[] handlers) {
+        return after.handleEventsWithWorkerPool(handlers);
+    }
+
+    /**
+     * Register competing {@link RangeWorkProcessor}s, one per handler, that claim up to
+     * {@code claimSize} events per CAS.
+     */
+    public EventHandlerGroup<DisruptorEvent> handleWithRangeWorkers(
+            Disruptor<DisruptorEvent> disruptor,
+            EventHandler<DisruptorEvent>[] handlers,
+            int claimSize,
+            ExceptionHandler<? super DisruptorEvent> exceptionHandler) {
+        return disruptor.handleEventsWith(rangeWorkers(handlers, claimSize, exceptionHandler));
+    }
+
+    /**
+     * Register competing {@link RangeWorkProcessor}s that only see events once
+     * {@code after} has handled them.
+     */
+    public EventHandlerGroup<DisruptorEvent> handleWithRangeWorkers(
+            EventHandlerGroup<DisruptorEvent> after,
+            EventHandler<DisruptorEvent>[] handlers,
+            int claimSize,
+            ExceptionHandler<? super DisruptorEvent> exceptionHandler) {
+        return after.handleEventsWith(rangeWorkers(handlers, claimSize, exceptionHandler));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static EventProcessorFactory<DisruptorEvent>[] rangeWorkers(
+            EventHandler<DisruptorEvent>[] handlers,
+            int claimSize,
+            ExceptionHandler<? super DisruptorEvent> exceptionHandler) {
+        Sequence workSequence = new Sequence(Sequencer.INITIAL_CURSOR_VALUE);
+        EventProcessorFactory<DisruptorEvent>[] factories = new EventProcessorFactory[handlers.length];
+        for (int i = 0; i < handlers.length; i++) {
+            EventHandler<DisruptorEvent> handler = handlers[i];
+            factories[i] = (ringBuffer, barrierSequences) -> new RangeWorkProcessor(
+                    ringBuffer,
+                    ringBuffer.newBarrier(barrierSequences),
+                    handler,
+                    exceptionHandler,
+                    workSequence,
+                    claimSize);
+        }
+        return factories;
     }
 }
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.disruptor.core;
+
+/**
+ * What happened to an event that found its ring full.
+ *
+ * @see com.childrengreens.disruptor.properties.BackpressurePolicy
+ */
+public enum BackpressureOutcome {
+    /**
+     * Refused by {@code FAIL_FAST} or by {@link DisruptorTemplate#tryPublish(String, Object)}.
+     */
+    REJECTED,
+    /**
+     * Discarded by {@code DROP_NEWEST}.
+     */
+    DROPPED,
+    /**
+     * Dispatched on the publishing thread by {@code CALLER_RUNS}.
+     */
+    CALLER_RAN,
+    /**
+     * Still full when the {@code BLOCK_WITH_TIMEOUT} deadline passed.
+     */
+    TIMED_OUT
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.disruptor.core;
+
+import java.time.Duration;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * {@link DisruptorClock} that serves a {@link System#nanoTime()} reading cached by
+ * a daemon ticker thread.
+ *
+ * <p>Reading the clock is a single volatile load, which is cheaper than a
+ * {@code nanoTime} call on every publish and consume. The reading lags real time
+ * by up to one tick interval, so latencies below the interval read as zero.</p>
+ */
+public final class CachedClock implements DisruptorClock, AutoCloseable {
+    private final long tickNanos;
+    private final Thread ticker;
+    private volatile long now;
+    private volatile boolean running = true;
+
+    public CachedClock(String name, Duration tickInterval) {
+        this.tickNanos = Math.max(1L, tickInterval.toNanos());
+        this.now = System.nanoTime();
+        this.ticker = new Thread(this::tick, name);
+        this.ticker.setDaemon(true);
+        this.ticker.start();
+    }
+
+    @Override
+    public long nanoTime() {
+        return now;
+    }
+
+    /**
+     * Stop the ticker thread; the clock keeps returning its last reading.
+     */
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(ticker);
+    }
+
+    private void tick() {
+        while (running) {
+            now = System.nanoTime();
+            LockSupport.parkNanos(this, tickNanos);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.disruptor.core;
+
+import com.lmax.disruptor.InsufficientCapacityException;
+import com.lmax.disruptor.RingBuffer;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Waits for ring capacity with a deadline, backing off progressively.
+ *
+ * <p>{@code MultiProducerSequencer.next} parks for 1ns between attempts for as long
+ * as the ring is full, which keeps a core busy per blocked producer. This waiter
+ * spins briefly for short stalls, then yields, then parks with exponentially
+ * growing pauses capped at {@link #MAX_PARK_NANOS} and at the time left.</p>
+ */
+final class CapacityWaiter {
+    /**
+     * Returned when the ring had no capacity.
+     */
+    static final long NO_CAPACITY = -1L;
+
+    private static final int SPIN_TRIES = 100;
+    private static final int YIELD_TRIES = 10;
+    private static final long MIN_PARK_NANOS = 1_000L;
+    private static final long MAX_PARK_NANOS = 1_000_000L;
+
+    private CapacityWaiter() {
+    }
+
+    /**
+     * Claim {@code n} sequences without waiting.
+     *
+     * @return the highest claimed sequence, or {@link #NO_CAPACITY}
+     */
+    static long tryClaim(RingBuffer<DisruptorEvent> ringBuffer, int n) {
+        try {
+            return ringBuffer.tryNext(n);
+        } catch (InsufficientCapacityException ex) {
+            return NO_CAPACITY;
+        }
+    }
+
+    /**
+     * Claim {@code n} sequences, waiting at most {@code timeoutNanos} for capacity.
+     *
+     * @return the highest claimed sequence, or {@link #NO_CAPACITY} if the deadline passed
+     */
+    static long claim(RingBuffer<DisruptorEvent> ringBuffer, int n, long timeoutNanos) {
+        long start = System.nanoTime();
+        int attempt = 0;
+        long parkNanos = MIN_PARK_NANOS;
+        while (true) {
+            long hi = tryClaim(ringBuffer, n);
+            if (hi != NO_CAPACITY) {
+                return hi;
+            }
+            long remaining = timeoutNanos - (System.nanoTime() - start);
+            if (remaining <= 0) {
+                return NO_CAPACITY;
+            }
+            if (attempt < SPIN_TRIES) {
+                Thread.onSpinWait();
+            } else if (attempt < SPIN_TRIES + YIELD_TRIES) {
+                Thread.yield();
+            } else {
+                LockSupport.parkNanos(Math.min(parkNanos, remaining));
+                parkNanos = Math.min(parkNanos << 1, MAX_PARK_NANOS);
+            }
+            attempt++;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.disruptor.core;
+
+import com.lmax.disruptor.RingBuffer;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A claimed slot of a ring with preallocated events, published on {@link #close()}.
+ *
+ * <pre>{@code
+ * try (Claim<OrderEvent> claim = orders.claim()) {
+ *     OrderEvent event = claim.event();
+ *     event.setOrderId(id);
+ *     event.setPrice(price);
+ * }
+ * }</pre>
+ *
+ * <p>Claims are created once per slot and reused, so claiming and publishing does
+ * not allocate. A claim must be closed exactly once and promptly: consumers cannot
+ * move past an unpublished slot, and the claim object is handed out again when
+ * the ring wraps around to the same slot. Do not keep references to the claim or
+ * its event after closing it.</p>
+ *
+ * @param <T> the ring's event class
+ * @see RingPublisher#claim()
+ */
+public final class Claim<T> implements AutoCloseable {
+    private final RingBuffer<DisruptorEvent> ringBuffer;
+    private final LongAdder publishCounter;
+    private final String eventType;
+    private final int eventTypeId;
+    private long sequence = -1L;
+    private DisruptorEvent slot;
+
+    Claim(RingBuffer<DisruptorEvent> ringBuffer, LongAdder publishCounter, String eventType, int eventTypeId) {
+        this.ringBuffer = ringBuffer;
+        this.publishCounter = publishCounter;
+        this.eventType = eventType;
+        this.eventTypeId = eventTypeId;
+    }
+
+    Claim<T> open(long sequence) {
+        this.sequence = sequence;
+        this.slot = ringBuffer.get(sequence);
+        return this;
+    }
+
+    RingBuffer<DisruptorEvent> ringBuffer() {
+        return ringBuffer;
+    }
+
+    /**
+     * The preallocated event of the claimed slot, to be filled in place.
+     */
+    @SuppressWarnings("unchecked")
+    public T event() {
+        DisruptorEvent claimed = slot;
+        if (claimed == null) {
+            throw new IllegalStateException("Claim has already been published.");
+        }
+        return (T) claimed.getPayload();
+    }
+
+    /**
+     * Sequence of the claimed slot.
+     */
+    public long sequence() {
+        return sequence;
+    }
+
+    /**
+     * Publish the slot to consumers. Subsequent calls do nothing.
+     */
+    @Override
+    public void close() {
+        DisruptorEvent claimed = slot;
+        if (claimed == null) {
+            return;
+        }
+        slot = null;
+        claimed.setEventType(eventType, eventTypeId);
+        claimed.stamp();
+        ringBuffer.publish(sequence);
+        if (publishCounter != null) {
+            publishCounter.increment();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.disruptor.core;
+
+/**
+ * Monotonic time source used to stamp events and measure consume latency.
+ *
+ * <p>Implement this interface and expose it as a bean to use it for rings
+ * configured with {@code clock: CUSTOM}. Readings only need to be comparable
+ * with each other, like {@link System#nanoTime()}; a reading of {@code 0} marks
+ * an event as unstamped and skips latency recording.</p>
+ *
+ * @see com.childrengreens.disruptor.properties.ClockType
+ * @see CachedClock
+ */
+@FunctionalInterface
+public interface DisruptorClock {
+    /**
+     * Reads {@link System#nanoTime()} every time.
+     */
+    DisruptorClock SYSTEM = System::nanoTime;
+
+    /**
+     * Never reads a clock; events stay unstamped and no latency is recorded.
+     */
+    DisruptorClock DISABLED = () -> 0L;
+
+    /**
+     * Current time in nanoseconds, or {@code 0} when timestamps are disabled.
+     */
+    long nanoTime();
+}
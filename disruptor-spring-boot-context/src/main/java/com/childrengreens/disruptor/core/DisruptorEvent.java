@@ -15,6 +15,8 @@
  */
 package com.childrengreens.disruptor.core;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * Generic event container stored in the Disruptor RingBuffer.
  *
@@ -27,7 +29,8 @@ package com.childrengreens.disruptor.core;
  * <ul>
  *   <li>{@link #payload} - The actual business event object</li>
  *   <li>{@link #eventType} - Logical type identifier for routing and filtering</li>
- *   <li>{@link #createdAt} - Timestamp for latency tracking and metrics</li>
+ *   <li>{@link #eventTypeId} - Interned ID of the event type for cheap filtering</li>
+ *   <li>{@link #createdAtNanos} - Ring clock timestamp for latency tracking and metrics</li>
  * </ul>
  *
  * <p><strong>Thread Safety:</strong> This class is not thread-safe by design.
@@ -39,6 +42,17 @@ package com.childrengreens.disruptor.core;
  * of the business object. However, the DisruptorEvent instance itself remains
  * in the RingBuffer for reuse.</p>
  *
+ * <p><strong>Preallocated payloads:</strong> Rings that declare an
+ * {@link com.childrengreens.disruptor.properties.RingProperties#getEventClass() event class}
+ * create one payload instance per slot up front. Publishers fill it in place through
+ * {@link RingPublisher#claim()} and {@link #clear()} keeps it, so steady-state
+ * publishing allocates nothing.</p>
+ *
+ * <p><strong>Primitive values:</strong> {@link DisruptorTemplate#publishLong(String, String, long)}
+ * and its siblings write into primitive slot fields instead of boxing into
+ * {@link #payload}. {@link #getValueKind()} tells which fields are set; subscribers
+ * declaring {@code long} or {@code double} parameters read them without boxing.</p>
+ *
  * @see DisruptorEventFactory
  * @see DisruptorTemplate#publish(String, Object)
  */
@@ -66,16 +80,90 @@ public class DisruptorEvent {
     private String eventType;
 
     /**
-     * Event creation timestamp in milliseconds since epoch.
-     * <p>Set automatically when the event is published. Used for:</p>
-     * <ul>
-     *   <li>Calculating event processing latency in metrics</li>
-     *   <li>Monitoring queue delays via Actuator endpoint</li>
-     * </ul>
+     * Interned ID of {@link #eventType} from {@link EventTypeRegistry}.
+     * <p>Subscribers compare this value instead of the type string. It is
+     * {@link EventTypeRegistry#UNKNOWN} when the type was set by name only.</p>
+     */
+    private int eventTypeId;
+
+    /**
+     * Wall-clock timestamp in milliseconds since epoch set by callers, {@code 0} to
+     * derive it from {@link #createdAtNanos} on read.
+     */
+    private long createdAt;
+
+    /**
+     * Event creation timestamp read from the ring's {@link #clock}.
+     * <p>Set automatically when the event is published and used to calculate
+     * consume latency in metrics. {@code 0} means the event is unstamped, as with
+     * {@link DisruptorClock#DISABLED}.</p>
      *
      * @see com.childrengreens.disruptor.core.DisruptorMetrics
      */
-    private long createdAt;
+    private long createdAtNanos;
+
+    /**
+     * Clock of the ring owning this slot, shared by its publishers and subscribers.
+     */
+    private final DisruptorClock clock;
+
+    /**
+     * Which of {@link #payload} or the primitive fields carry the current value.
+     */
+    private ValueKind valueKind = ValueKind.OBJECT;
+
+    /**
+     * First primitive value; a {@code double} is stored as its raw long bits.
+     */
+    private long value;
+
+    /**
+     * Second primitive value, set for {@link ValueKind#LONG_PAIR} only.
+     */
+    private long secondValue;
+
+    /**
+     * Whether {@link #payload} is a per-slot instance that is filled in place.
+     */
+    private final boolean preallocated;
+
+    /**
+     * Create a slot whose payload is set on each publish, stamped with {@link DisruptorClock#SYSTEM}.
+     */
+    public DisruptorEvent() {
+        this(DisruptorClock.SYSTEM);
+    }
+
+    /**
+     * Create a slot whose payload is set on each publish.
+     *
+     * @param clock the clock of the owning ring
+     */
+    public DisruptorEvent(DisruptorClock clock) {
+        this.preallocated = false;
+        this.clock = clock;
+    }
+
+    /**
+     * Create a slot that owns a preallocated payload instance for its whole lifetime.
+     *
+     * @param payload the mutable payload instance reused by every publish to this slot
+     */
+    public DisruptorEvent(Object payload) {
+        this(payload, DisruptorClock.SYSTEM);
+    }
+
+    /**
+     * Create a slot that owns a preallocated payload instance for its whole lifetime.
+     *
+     * @param payload the mutable payload instance reused by every publish to this slot
+     * @param clock the clock of the owning ring
+     */
+    public DisruptorEvent(Object payload, DisruptorClock clock) {
+        this.payload = payload;
+        this.preallocated = true;
+        this.clock = clock;
+    }
 
     /**
      * Returns the business payload object.
@@ -94,6 +182,94 @@ public class DisruptorEvent {
      */
     public void setPayload(Object payload) {
         this.payload = payload;
+        this.valueKind = ValueKind.OBJECT;
+    }
+
+    /**
+     * Returns the payload, or the primitive value boxed for subscribers that take an object.
+     *
+     * @return the payload, a {@link Long}, a {@code long[2]} or a {@link Double}
+     */
+    public Object getValue() {
+        return switch (valueKind) {
+            case OBJECT -> payload;
+            case LONG -> value;
+            case LONG_PAIR -> new long[] {value, secondValue};
+            case DOUBLE -> Double.longBitsToDouble(value);
+        };
+    }
+
+    /**
+     * Returns what kind of value the event carries.
+     *
+     * @return the value kind, {@link ValueKind#OBJECT} unless a primitive was published
+     */
+    public ValueKind getValueKind() {
+        return valueKind;
+    }
+
+    /**
+     * Returns the {@code long} value, or the first of a pair.
+     *
+     * @return the value published with {@code publishLong} or {@code publishLongs}
+     */
+    public long getLongValue() {
+        return value;
+    }
+
+    /**
+     * Returns the second {@code long} of a pair.
+     *
+     * @return the second value published with {@code publishLongs}
+     */
+    public long getSecondLongValue() {
+        return secondValue;
+    }
+
+    /**
+     * Returns the {@code double} value.
+     *
+     * @return the value published with {@code publishDouble}
+     */
+    public double getDoubleValue() {
+        return Double.longBitsToDouble(value);
+    }
+
+    /**
+     * Carries a single {@code long} instead of a payload.
+     *
+     * @param value the value
+     */
+    public void setLongValue(long value) {
+        setPrimitive(ValueKind.LONG, value, 0L);
+    }
+
+    /**
+     * Carries two {@code long}s instead of a payload.
+     *
+     * @param first the first value
+     * @param second the second value
+     */
+    public void setLongValues(long first, long second) {
+        setPrimitive(ValueKind.LONG_PAIR, first, second);
+    }
+
+    /**
+     * Carries a single {@code double} instead of a payload.
+     *
+     * @param value the value
+     */
+    public void setDoubleValue(double value) {
+        setPrimitive(ValueKind.DOUBLE, Double.doubleToRawLongBits(value), 0L);
+    }
+
+    void setPrimitive(ValueKind valueKind, long value, long secondValue) {
+        if (!preallocated) {
+            this.payload = null;
+        }
+        this.valueKind = valueKind;
+        this.value = value;
+        this.secondValue = secondValue;
     }
 
     /**
@@ -106,42 +282,127 @@ public class DisruptorEvent {
     }
 
     /**
-     * Sets the logical event type identifier.
-     * <p>Called internally by {@link DisruptorTemplate} during event publishing.</p>
+     * Sets the logical event type identifier without an interned ID.
+     * <p>The event type ID is reset to {@link EventTypeRegistry#UNKNOWN}, so
+     * subscribers fall back to comparing the type string.</p>
      *
      * @param eventType the event type identifier
      */
     public void setEventType(String eventType) {
         this.eventType = eventType;
+        this.eventTypeId = EventTypeRegistry.UNKNOWN;
     }
 
     /**
-     * Returns the event creation timestamp.
+     * Sets the logical event type identifier together with its interned ID.
+     * <p>Called internally by {@link DisruptorTemplate} during event publishing.</p>
      *
-     * @return milliseconds since epoch when the event was published
+     * @param eventType the event type identifier
+     * @param eventTypeId the ID of {@code eventType} in {@link EventTypeRegistry}
      */
+    public void setEventType(String eventType, int eventTypeId) {
+        this.eventType = eventType;
+        this.eventTypeId = eventTypeId;
+    }
+
+    /**
+     * Returns the interned ID of the event type.
+     *
+     * @return the event type ID, or {@link EventTypeRegistry#UNKNOWN}
+     */
+    public int getEventTypeId() {
+        return eventTypeId;
+    }
+
+    /**
+     * Returns the wall-clock publish time.
+     * <p>Publishers only stamp {@link #getCreatedAtNanos()}; unless a timestamp was set
+     * through {@link #setCreatedAt(long)}, this is computed on each call by subtracting
+     * the time elapsed on the ring's clock since publishing from the current time, so
+     * it is as precise as that clock.</p>
+     *
+     * @return milliseconds since epoch, or {@code 0} if the event is unstamped
+     * @deprecated use {@link #getCreatedAtNanos()} to measure time spent in the ring
+     */
+    @Deprecated
     public long getCreatedAt() {
-        return createdAt;
+        if (createdAt != 0L || createdAtNanos == 0L) {
+            return createdAt;
+        }
+        return System.currentTimeMillis() - TimeUnit.NANOSECONDS.toMillis(clock.nanoTime() - createdAtNanos);
     }
 
     /**
-     * Sets the event creation timestamp.
-     * <p>Called internally by {@link DisruptorTemplate} during event publishing.
-     * Typically set to {@link System#currentTimeMillis()}.</p>
+     * Sets a wall-clock timestamp.
+     * <p>Not used for metrics; latency is measured from {@link #getCreatedAtNanos()}.</p>
      *
-     * @param createdAt milliseconds since epoch
+     * @param createdAt milliseconds since epoch, {@code 0} to derive it from the clock again
+     * @deprecated use {@link #setCreatedAtNanos(long)}
      */
+    @Deprecated
     public void setCreatedAt(long createdAt) {
         this.createdAt = createdAt;
     }
 
+    /**
+     * Returns the publish timestamp read from the ring's clock.
+     *
+     * @return clock reading in nanoseconds, or {@code 0} if the event is unstamped
+     */
+    public long getCreatedAtNanos() {
+        return createdAtNanos;
+    }
+
+    /**
+     * Sets the publish timestamp.
+     * <p>Called internally during event publishing with a reading of {@link #getClock()}.</p>
+     *
+     * @param createdAtNanos clock reading in nanoseconds, {@code 0} for unstamped
+     */
+    public void setCreatedAtNanos(long createdAtNanos) {
+        this.createdAtNanos = createdAtNanos;
+    }
+
+    /**
+     * Returns the clock of the ring owning this slot.
+     *
+     * @return the clock used to stamp and measure this event
+     */
+    public DisruptorClock getClock() {
+        return clock;
+    }
+
+    /**
+     * Stamp the event with the current reading of its ring's clock.
+     */
+    void stamp() {
+        this.createdAtNanos = clock.nanoTime();
+    }
+
+    /**
+     * Returns whether the payload is a preallocated per-slot instance.
+     *
+     * @return {@code true} if the payload is filled in place rather than replaced
+     */
+    public boolean isPreallocated() {
+        return preallocated;
+    }
+
     /**
      * Clear references after consumption to help GC.
-     * <p>Call only when no downstream handlers need the event instance.</p>
+     * <p>Call only when no downstream handlers need the event instance.
+     * A preallocated payload is kept since it belongs to the slot.</p>
      */
     public void clear() {
-        this.payload = null;
+        if (!preallocated) {
+            this.payload = null;
+        }
+        this.valueKind = ValueKind.OBJECT;
+        this.value = 0L;
+        this.secondValue = 0L;
         this.eventType = null;
+        this.eventTypeId = EventTypeRegistry.UNKNOWN;
         this.createdAt = 0L;
+        this.createdAtNanos = 0L;
     }
 }
@@ -17,12 +17,36 @@ package com.childrengreens.disruptor.core;
 
 import com.lmax.disruptor.EventFactory;
 
+import java.util.function.Supplier;
+
 /**
  * Factory for allocating {@link DisruptorEvent} instances in the RingBuffer.
+ *
+ * <p>With a payload factory every slot is created with its own preallocated payload,
+ * which publishers then fill in place.</p>
  */
 public class DisruptorEventFactory implements EventFactory<DisruptorEvent> {
+    private final Supplier<?> payloadFactory;
+    private final DisruptorClock clock;
+
+    public DisruptorEventFactory() {
+        this(null);
+    }
+
+    public DisruptorEventFactory(Supplier<?> payloadFactory) {
+        this(payloadFactory, DisruptorClock.SYSTEM);
+    }
+
+    public DisruptorEventFactory(Supplier<?> payloadFactory, DisruptorClock clock) {
+        this.payloadFactory = payloadFactory;
+        this.clock = clock;
+    }
+
     @Override
     public DisruptorEvent newInstance() {
-        return new DisruptorEvent();
+        if (payloadFactory == null) {
+            return new DisruptorEvent(clock);
+        }
+        return new DisruptorEvent(payloadFactory.get(), clock);
     }
 }
@@ -21,6 +21,9 @@ import com.childrengreens.disruptor.consumer.HandlerAdapter;
 import com.childrengreens.disruptor.consumer.SubscriberDefinition;
 import com.childrengreens.disruptor.consumer.SubscriberRegistry;
 import com.childrengreens.disruptor.consumer.WorkerPoolSupport;
+import com.childrengreens.disruptor.properties.BackpressurePolicy;
+import com.childrengreens.disruptor.properties.ClockType;
+import com.childrengreens.disruptor.properties.DispatchMode;
 import com.childrengreens.disruptor.properties.DisruptorProperties;
 import com.childrengreens.disruptor.properties.RingProperties;
 import com.childrengreens.disruptor.properties.ShutdownStrategy;
@@ -41,14 +44,17 @@ import com.lmax.disruptor.YieldingWaitStrategy;
 import com.lmax.disruptor.dsl.Disruptor;
 import com.lmax.disruptor.dsl.EventHandlerGroup;
 
+import java.lang.reflect.Modifier;
 import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeanUtils;
 import org.springframework.lang.NonNull;
 
 /**
@@ -65,8 +71,17 @@ public class DisruptorManager {
     private final HandlerAdapter handlerAdapter;
     private final ExceptionHandlerSupport exceptionHandlerSupport;
     private final WorkerPoolSupport workerPoolSupport;
-    private final Map<String, Disruptor<DisruptorEvent>> disruptors = new LinkedHashMap<>();
+    private final Map<String, List<Disruptor<DisruptorEvent>>> disruptors = new LinkedHashMap<>();
     private final Map<String, RingBuffer<DisruptorEvent>> ringBuffers = new LinkedHashMap<>();
+    /**
+     * RingBuffers of rings with more than one shard, indexed by shard.
+     */
+    private final Map<String, RingBuffer<DisruptorEvent>[]> shards = new LinkedHashMap<>();
+    private final Map<String, RingProperties> ringProperties = new LinkedHashMap<>();
+    private final Map<String, CallerRunsDispatcher> callerRunsDispatchers = new LinkedHashMap<>();
+    private final List<RingPublisher> publishers = new ArrayList<>();
+    private final List<CachedClock> cachedClocks = new ArrayList<>();
+    private DisruptorClock customClock;
     private volatile boolean running = false;
 
     public DisruptorManager(
@@ -82,6 +97,13 @@ public class DisruptorManager {
         this.workerPoolSupport = workerPoolSupport;
     }
 
+    /**
+     * Set the clock used by rings configured with {@link ClockType#CUSTOM}.
+     */
+    public void setCustomClock(DisruptorClock customClock) {
+        this.customClock = customClock;
+    }
+
     /**
      * Build and start all configured Disruptor rings.
      */
@@ -92,64 +114,53 @@ public class DisruptorManager {
         Map<String, RingProperties> rings = resolveRings();
         validateRings(rings);
 
-        Map<String, Map<Integer, List<EventHandler<DisruptorEvent>>>> orderedHandlers =
-                groupEventHandlersByOrder();
-        Map<String, List<WorkHandler<DisruptorEvent>>> workHandlers =
-                handlerAdapter.adaptWorkHandlers(registry);
-
-        Map<String, Disruptor<DisruptorEvent>> started = new LinkedHashMap<>();
+        List<Disruptor<DisruptorEvent>> started = new ArrayList<>();
         try {
             for (Map.Entry<String, RingProperties> entry : rings.entrySet()) {
                 String ringName = entry.getKey();
                 RingProperties ringProperties = entry.getValue();
-                Disruptor<DisruptorEvent> disruptor = buildDisruptor(ringName, ringProperties);
-                ExceptionHandler<DisruptorEvent> exceptionHandler =
-                        exceptionHandlerSupport.create(ringProperties.getExceptionHandler(), ringName);
-                disruptor.setDefaultExceptionHandler(exceptionHandler);
-
-                Map<Integer, List<EventHandler<DisruptorEvent>>> ringEventHandlers =
-                        orderedHandlers.get(ringName);
-                List<WorkHandler<DisruptorEvent>> ringWorkHandlers = workHandlers.get(ringName);
-                if (ringEventHandlers != null && !ringEventHandlers.isEmpty()) {
-                    EventHandlerGroup<DisruptorEvent> group = null;
-                    for (Map.Entry<Integer, List<EventHandler<DisruptorEvent>>> orderedGroup :
-                            ringEventHandlers.entrySet()) {
-                        @SuppressWarnings("unchecked")
-                        EventHandler<DisruptorEvent>[] handlers =
-                                orderedGroup.getValue().toArray(new EventHandler[0]);
-                        if (group == null) {
-                            group = disruptor.handleEventsWith(handlers);
-                        } else {
-                            group = group.then(handlers);
-                        }
-                    }
+                DisruptorClock clock = createClock(ringName, ringProperties);
+                int shardCount = Math.max(1, ringProperties.getShards());
+                @SuppressWarnings("unchecked")
+                RingBuffer<DisruptorEvent>[] ringShards = new RingBuffer[shardCount];
+                List<Disruptor<DisruptorEvent>> ringDisruptors = new ArrayList<>(shardCount);
+                for (int shard = 0; shard < shardCount; shard++) {
+                    Disruptor<DisruptorEvent> disruptor = buildDisruptor(
+                            shardCount == 1 ? ringName : ringName + "-" + shard, ringProperties, clock);
+                    ExceptionHandler<DisruptorEvent> exceptionHandler =
+                            exceptionHandlerSupport.create(ringProperties.getExceptionHandler(), ringName);
+                    disruptor.setDefaultExceptionHandler(exceptionHandler);
+                    wireSubscribers(disruptor, ringName, ringProperties, exceptionHandler, shard == 0);
+                    disruptor.start();
+                    started.add(disruptor);
+                    ringDisruptors.add(disruptor);
+                    ringShards[shard] = disruptor.getRingBuffer();
                 }
 
-                if (ringWorkHandlers != null && !ringWorkHandlers.isEmpty()) {
-                    if (ringEventHandlers != null && !ringEventHandlers.isEmpty()) {
+                if (ringProperties.getBackpressure() == BackpressurePolicy.CALLER_RUNS) {
+                    callerRunsDispatchers.put(ringName, buildCallerRunsDispatcher(ringName));
+                    if (hasNonWorkerSubscribers(ringName)) {
                         log.warn(
-                                "Ring {} has both handler and worker subscribers. WorkerPool will run in parallel.",
+                                "Ring {} uses CALLER_RUNS with handler or keyed subscribers: when the ring is full "
+                                        + "they also run on publishing threads, concurrently with the ring's "
+                                        + "consumer threads and ahead of queued events.",
                                 ringName);
                     }
-                    @SuppressWarnings("unchecked")
-                    WorkHandler<DisruptorEvent>[] handlers =
-                            ringWorkHandlers.toArray(new WorkHandler[0]);
-                    workerPoolSupport.handleWithWorkerPool(disruptor, handlers);
                 }
 
-                if ((ringEventHandlers == null || ringEventHandlers.isEmpty())
-                        && (ringWorkHandlers == null || ringWorkHandlers.isEmpty())) {
-                    log.info("Ring {} has no subscribers registered.", ringName);
+                disruptors.put(ringName, ringDisruptors);
+                ringBuffers.put(ringName, ringShards[0]);
+                if (shardCount > 1) {
+                    shards.put(ringName, ringShards);
                 }
-
-                disruptor.start();
-                disruptors.put(ringName, disruptor);
-                ringBuffers.put(ringName, disruptor.getRingBuffer());
-                started.put(ringName, disruptor);
+                this.ringProperties.put(ringName, ringProperties);
+            }
+            for (RingPublisher publisher : publishers) {
+                publisher.bind(ringBuffers.get(publisher.getRing()), shards.get(publisher.getRing()));
             }
             running = true;
         } catch (Exception ex) {
-            for (Disruptor<DisruptorEvent> disruptor : started.values()) {
+            for (Disruptor<DisruptorEvent> disruptor : started) {
                 try {
                     disruptor.halt();
                 } catch (Exception haltEx) {
@@ -158,11 +169,77 @@ public class DisruptorManager {
             }
             disruptors.clear();
             ringBuffers.clear();
+            shards.clear();
+            this.ringProperties.clear();
+            callerRunsDispatchers.clear();
+            closeCachedClocks();
+            handlerAdapter.getEventTypeRegistry().clear();
             running = false;
             throw ex;
         }
     }
 
+    /**
+     * Attach freshly adapted handler chains and worker pools of a ring to one of its Disruptors.
+     * <p>Called once per shard, so every shard owns its own handler instances.</p>
+     */
+    private void wireSubscribers(
+            Disruptor<DisruptorEvent> disruptor,
+            String ringName,
+            RingProperties props,
+            ExceptionHandler<DisruptorEvent> exceptionHandler,
+            boolean logSetup) {
+        int defaultThreads = Math.max(1, Concurrency.parseThreads(props.getConcurrency()));
+        int claimSize = workerClaimSize(ringName, props);
+        Map<String, List<EventHandler<DisruptorEvent>>> stages = new HashMap<>();
+        Map<Integer, List<EventHandler<DisruptorEvent>>> ringEventHandlers =
+                groupEventHandlersByOrder(ringName, defaultThreads, props.getDispatch(), stages);
+        Map<Integer, List<SubscriberDefinition>> ringWorkers = groupWorkersByOrder(ringName);
+        // Workers only clear their own slots when their pool is the only stage of the ring.
+        boolean workersClearSlots = props.isClearOnConsume()
+                && ringWorkers.size() == 1
+                && ringEventHandlers.isEmpty()
+                && dependentSubscribers(ringName).isEmpty();
+        SortedSet<Integer> orders = new TreeSet<>(ringEventHandlers.keySet());
+        orders.addAll(ringWorkers.keySet());
+        EventHandlerGroup<DisruptorEvent> chain = null;
+        for (Integer order : orders) {
+            EventHandlerGroup<DisruptorEvent> stage = null;
+            List<EventHandler<DisruptorEvent>> handlers = ringEventHandlers.get(order);
+            if (handlers != null) {
+                stage = chain == null
+                        ? disruptor.handleEventsWith(toArray(handlers))
+                        : chain.handleEventsWith(toArray(handlers));
+            }
+            List<SubscriberDefinition> workers = ringWorkers.get(order);
+            if (workers != null) {
+                EventHandlerGroup<DisruptorEvent> pool = wireWorkers(
+                        disruptor, chain, workers, defaultThreads, claimSize, workersClearSlots, exceptionHandler);
+                if (pool != null) {
+                    stage = stage == null ? pool : stage.and(pool);
+                }
+            }
+            if (stage != null) {
+                chain = stage;
+            }
+        }
+        // The last ordered stage is itself gated on every earlier one.
+        EventHandlerGroup<DisruptorEvent> terminal = chain;
+        List<EventHandler<DisruptorEvent>> dependents =
+                wireDependentSubscribers(disruptor, ringName, defaultThreads, stages);
+        if (!dependents.isEmpty()) {
+            EventHandlerGroup<DisruptorEvent> branches = disruptor.after(toArray(dependents));
+            terminal = terminal == null ? branches : terminal.and(branches);
+        }
+        if (props.isClearOnConsume() && !workersClearSlots && terminal != null) {
+            terminal.then((event, sequence, endOfBatch) -> event.clear());
+        }
+
+        if (logSetup && terminal == null) {
+            log.info("Ring {} has no subscribers registered.", ringName);
+        }
+    }
+
     /**
      * Stop all rings with the given timeout and strategy.
      */
@@ -171,30 +248,79 @@ public class DisruptorManager {
             return;
         }
         try {
-            for (Map.Entry<String, Disruptor<DisruptorEvent>> entry : disruptors.entrySet()) {
-                Disruptor<DisruptorEvent> disruptor = entry.getValue();
-                try {
-                    if (strategy == ShutdownStrategy.HALT) {
-                        disruptor.halt();
-                    } else {
-                        disruptor.shutdown(timeout.toMillis(), TimeUnit.MILLISECONDS);
-                    }
-                } catch (Exception ex) {
-                    log.warn("Failed to shutdown ring {} gracefully, forcing halt.", entry.getKey(), ex);
+            for (Map.Entry<String, List<Disruptor<DisruptorEvent>>> entry : disruptors.entrySet()) {
+                for (Disruptor<DisruptorEvent> disruptor : entry.getValue()) {
                     try {
-                        disruptor.halt();
-                    } catch (Exception haltEx) {
-                        log.error("Failed to halt ring {} after shutdown failure.", entry.getKey(), haltEx);
+                        if (strategy == ShutdownStrategy.HALT) {
+                            disruptor.halt();
+                        } else {
+                            disruptor.shutdown(timeout.toMillis(), TimeUnit.MILLISECONDS);
+                        }
+                    } catch (Exception ex) {
+                        log.warn("Failed to shutdown ring {} gracefully, forcing halt.", entry.getKey(), ex);
+                        try {
+                            disruptor.halt();
+                        } catch (Exception haltEx) {
+                            log.error("Failed to halt ring {} after shutdown failure.", entry.getKey(), haltEx);
+                        }
                     }
                 }
             }
         } finally {
+            for (RingPublisher publisher : publishers) {
+                publisher.unbind();
+            }
             disruptors.clear();
             ringBuffers.clear();
+            shards.clear();
+            ringProperties.clear();
+            callerRunsDispatchers.clear();
+            closeCachedClocks();
+            handlerAdapter.getEventTypeRegistry().clear();
             running = false;
         }
     }
 
+    /**
+     * Resolve the clock of a ring, starting a ticker for {@link ClockType#CACHED}.
+     */
+    private DisruptorClock createClock(String ring, RingProperties props) {
+        ClockType type = props.getClock() == null ? ClockType.SYSTEM : props.getClock();
+        return switch (type) {
+            case CACHED -> {
+                Duration tickInterval = props.getClockTickInterval();
+                CachedClock clock = new CachedClock(
+                        "disruptor-" + ring + "-clock",
+                        tickInterval == null || tickInterval.isNegative() || tickInterval.isZero()
+                                ? Duration.ofMillis(1)
+                                : tickInterval);
+                cachedClocks.add(clock);
+                yield clock;
+            }
+            case DISABLED -> DisruptorClock.DISABLED;
+            case CUSTOM -> customClock;
+            default -> DisruptorClock.SYSTEM;
+        };
+    }
+
+    private void closeCachedClocks() {
+        for (CachedClock clock : cachedClocks) {
+            clock.close();
+        }
+        cachedClocks.clear();
+    }
+
+    /**
+     * Keep a ring publisher bound to its RingBuffer across start and stop.
+     * <p>Binds it immediately when the ring is already running.</p>
+     */
+    public synchronized void registerPublisher(RingPublisher publisher) {
+        publishers.add(publisher);
+        if (running) {
+            publisher.bind(ringBuffers.get(publisher.getRing()), shards.get(publisher.getRing()));
+        }
+    }
+
     /**
      * Whether Disruptor rings are running.
      */
@@ -202,6 +328,14 @@ public class DisruptorManager {
         return running;
     }
 
+    /**
+     * Return the registry that interns the event types subscribed on these rings;
+     * publishers share it to tag events with matching IDs.
+     */
+    public EventTypeRegistry getEventTypeRegistry() {
+        return handlerAdapter.getEventTypeRegistry();
+    }
+
     /**
      * Return an immutable view of RingBuffers by ring name.
      */
@@ -211,11 +345,57 @@ public class DisruptorManager {
 
     /**
      * Return RingBuffer for the given ring, or {@code null} when not available.
+     * <p>For a sharded ring this is its first shard; see {@link #getShards(String)}.</p>
      */
     public RingBuffer<DisruptorEvent> getRingBuffer(String name) {
         return ringBuffers.get(name);
     }
 
+    /**
+     * Return the RingBuffers of every shard of a ring, in shard order.
+     * <p>A ring that is not sharded has a single shard; a ring that is not running has none.</p>
+     */
+    public List<RingBuffer<DisruptorEvent>> getShards(String name) {
+        RingBuffer<DisruptorEvent>[] ringShards = shards.get(name);
+        if (ringShards != null) {
+            return List.of(ringShards);
+        }
+        RingBuffer<DisruptorEvent> ringBuffer = ringBuffers.get(name);
+        return ringBuffer == null ? List.of() : List.of(ringBuffer);
+    }
+
+    /**
+     * Shard RingBuffers of a ring, or {@code null} when it is not sharded.
+     */
+    RingBuffer<DisruptorEvent>[] shardsOf(String name) {
+        return shards.get(name);
+    }
+
+    /**
+     * Return the configuration of a running ring, or {@code null} when not available.
+     */
+    public RingProperties getRingProperties(String name) {
+        return ringProperties.get(name);
+    }
+
+    /**
+     * Dispatch an event to the ring's subscribers on the calling thread.
+     * <p>Used by the {@link BackpressurePolicy#CALLER_RUNS} policy when the ring is full.
+     * Handler and keyed subscribers run in order and the first worker subscriber, if any, runs
+     * last. Dispatches on the same ring are serialized with each other but not with the
+     * ring's consumer threads, and they overtake the events queued in the ring; subscriber
+     * exceptions that are not swallowed by their exception policy propagate to the caller.</p>
+     *
+     * @return {@code false} if the ring has no inline dispatcher
+     */
+    public boolean dispatchInline(String ring, DisruptorEvent event) {
+        CallerRunsDispatcher dispatcher = callerRunsDispatchers.get(ring);
+        if (dispatcher == null) {
+            return false;
+        }
+        dispatcher.dispatch(event);
+        return true;
+    }
 
     /**
      * Return resolved ring names, including those discovered from subscribers.
@@ -240,28 +420,275 @@ public class DisruptorManager {
     }
 
     /**
-     * Build ordered handler chains grouped by ring and order.
+     * Build the ordered handler chain of a ring, grouped by order.
+     * <p>A keyed subscriber contributes one handler per partition to its order group;
+     * with {@link DispatchMode#TYPE_INDEXED} the other handler subscribers of a group
+     * share one type-indexed handler, otherwise only those with the same {@code group}
+     * are fused into one. Subscribers with {@code after} are left to
+     * {@link #wireDependentSubscribers}. The handlers of subscribers with an
+     * {@code id} are recorded in {@code stages}.</p>
      */
-    private Map<String, Map<Integer, List<EventHandler<DisruptorEvent>>>> groupEventHandlersByOrder() {
-        Map<String, Map<Integer, List<EventHandler<DisruptorEvent>>>> result =
-                new LinkedHashMap<>();
+    private Map<Integer, List<EventHandler<DisruptorEvent>>> groupEventHandlersByOrder(
+            String ringName,
+            int defaultThreads,
+            DispatchMode dispatch,
+            Map<String, List<EventHandler<DisruptorEvent>>> stages) {
+        Map<Integer, List<EventHandler<DisruptorEvent>>> result = new TreeMap<>();
+        Map<Integer, Map<String, List<SubscriberDefinition>>> fused = new TreeMap<>();
         for (SubscriberDefinition definition : registry.getDefinitions()) {
-            if (definition.mode()
-                    != Concurrency.MODE_HANDLER) {
+            if (definition.mode() == Concurrency.MODE_WORKER
+                    || !ringName.equals(definition.ring())
+                    || !definition.after().isEmpty()) {
+                continue;
+            }
+            if (definition.mode() == Concurrency.MODE_HANDLER
+                    && (dispatch == DispatchMode.TYPE_INDEXED || !definition.group().isEmpty())) {
+                String group = dispatch == DispatchMode.TYPE_INDEXED ? "" : definition.group();
+                fused.computeIfAbsent(definition.order(), key -> new LinkedHashMap<>())
+                        .computeIfAbsent(group, key -> new ArrayList<>())
+                        .add(definition);
                 continue;
             }
-            EventHandler<DisruptorEvent> handler = handlerAdapter.adaptEventHandler(definition);
-            if (handler == null) {
+            List<EventHandler<DisruptorEvent>> handlers = adaptEventHandlers(definition, defaultThreads);
+            if (handlers.isEmpty()) {
+                continue;
+            }
+            result.computeIfAbsent(definition.order(), key -> new ArrayList<>()).addAll(handlers);
+            recordStage(stages, definition, handlers);
+        }
+        for (Map.Entry<Integer, Map<String, List<SubscriberDefinition>>> stage : fused.entrySet()) {
+            for (List<SubscriberDefinition> group : stage.getValue().values()) {
+                EventHandler<DisruptorEvent> handler = handlerAdapter.adaptTypeIndexedHandler(group);
+                if (handler == null) {
+                    continue;
+                }
+                result.computeIfAbsent(stage.getKey(), key -> new ArrayList<>()).add(handler);
+                for (SubscriberDefinition definition : group) {
+                    recordStage(stages, definition, List.of(handler));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Attach each subscriber with {@code after} behind exactly the subscribers it names,
+     * so independent branches of the graph do not wait for each other.
+     *
+     * @return the attached handlers
+     */
+    private List<EventHandler<DisruptorEvent>> wireDependentSubscribers(
+            Disruptor<DisruptorEvent> disruptor,
+            String ringName,
+            int defaultThreads,
+            Map<String, List<EventHandler<DisruptorEvent>>> stages) {
+        List<EventHandler<DisruptorEvent>> wired = new ArrayList<>();
+        for (SubscriberDefinition definition : dependentSubscribers(ringName)) {
+            List<EventHandler<DisruptorEvent>> handlers = adaptEventHandlers(definition, defaultThreads);
+            if (handlers.isEmpty()) {
                 continue;
             }
-            result
-                    .computeIfAbsent(definition.ring(), key -> new TreeMap<>())
-                    .computeIfAbsent(definition.order(), key -> new ArrayList<>())
-                    .add(handler);
+            List<EventHandler<DisruptorEvent>> dependencies = new ArrayList<>();
+            for (String id : definition.after()) {
+                dependencies.addAll(stages.getOrDefault(id, List.of()));
+            }
+            if (dependencies.isEmpty()) {
+                disruptor.handleEventsWith(toArray(handlers));
+            } else {
+                disruptor.after(toArray(dependencies)).handleEventsWith(toArray(handlers));
+            }
+            recordStage(stages, definition, handlers);
+            wired.addAll(handlers);
+        }
+        return wired;
+    }
+
+    /**
+     * The ring's subscribers with {@code after}, each placed behind the ones it depends on.
+     *
+     * @throws IllegalArgumentException if the dependencies form a cycle
+     */
+    private List<SubscriberDefinition> dependentSubscribers(String ringName) {
+        List<SubscriberDefinition> pending = new ArrayList<>(registry.getDefinitions().stream()
+                .filter(definition -> ringName.equals(definition.ring()))
+                .filter(definition -> !definition.after().isEmpty())
+                .toList());
+        Set<String> pendingIds = new HashSet<>();
+        pending.forEach(definition -> pendingIds.add(definition.id()));
+        List<SubscriberDefinition> sorted = new ArrayList<>(pending.size());
+        while (!pending.isEmpty()) {
+            boolean progressed = false;
+            for (Iterator<SubscriberDefinition> it = pending.iterator(); it.hasNext(); ) {
+                SubscriberDefinition definition = it.next();
+                if (definition.after().stream().noneMatch(pendingIds::contains)) {
+                    it.remove();
+                    pendingIds.remove(definition.id());
+                    sorted.add(definition);
+                    progressed = true;
+                }
+            }
+            if (!progressed) {
+                throw new IllegalArgumentException(
+                        "Ring "
+                                + ringName
+                                + " has a dependency cycle between subscribers "
+                                + pending.stream().map(SubscriberDefinition::getHandlerId).toList());
+            }
+        }
+        return sorted;
+    }
+
+    private List<EventHandler<DisruptorEvent>> adaptEventHandlers(
+            SubscriberDefinition definition, int defaultThreads) {
+        if (definition.mode() == Concurrency.MODE_KEYED) {
+            return handlerAdapter.adaptKeyedHandlers(definition, threadsOf(definition, defaultThreads));
+        }
+        EventHandler<DisruptorEvent> handler = handlerAdapter.adaptEventHandler(definition);
+        return handler == null ? List.of() : List.of(handler);
+    }
+
+    private static void recordStage(
+            Map<String, List<EventHandler<DisruptorEvent>>> stages,
+            SubscriberDefinition definition,
+            List<EventHandler<DisruptorEvent>> handlers) {
+        if (!definition.id().isEmpty()) {
+            stages.computeIfAbsent(definition.id(), key -> new ArrayList<>()).addAll(handlers);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static EventHandler<DisruptorEvent>[] toArray(List<EventHandler<DisruptorEvent>> handlers) {
+        return handlers.toArray(new EventHandler[0]);
+    }
+
+    /**
+     * Group the worker subscribers of a ring by order; each order becomes one pool.
+     */
+    private Map<Integer, List<SubscriberDefinition>> groupWorkersByOrder(String ringName) {
+        Map<Integer, List<SubscriberDefinition>> result = new TreeMap<>();
+        for (SubscriberDefinition definition : registry.getDefinitions()) {
+            if (definition.mode() == Concurrency.MODE_WORKER && ringName.equals(definition.ring())) {
+                result.computeIfAbsent(definition.order(), key -> new ArrayList<>()).add(definition);
+            }
         }
         return result;
     }
 
+    /**
+     * Attach the workers of one order as a single pool, behind {@code after} when given.
+     *
+     * @return the pool's group, or {@code null} if none of the workers could be adapted
+     */
+    private EventHandlerGroup<DisruptorEvent> wireWorkers(
+            Disruptor<DisruptorEvent> disruptor,
+            EventHandlerGroup<DisruptorEvent> after,
+            List<SubscriberDefinition> definitions,
+            int defaultThreads,
+            int claimSize,
+            boolean clearSlots,
+            ExceptionHandler<DisruptorEvent> exceptionHandler) {
+        if (claimSize > 0) {
+            List<EventHandler<DisruptorEvent>> handlers = adaptWorkers(
+                    definitions,
+                    defaultThreads,
+                    definition -> handlerAdapter.adaptRangeWorkHandler(definition, clearSlots));
+            if (handlers.isEmpty()) {
+                return null;
+            }
+            EventHandler<DisruptorEvent>[] pool = toArray(handlers);
+            return after == null
+                    ? workerPoolSupport.handleWithRangeWorkers(disruptor, pool, claimSize, exceptionHandler)
+                    : workerPoolSupport.handleWithRangeWorkers(after, pool, claimSize, exceptionHandler);
+        }
+        List<WorkHandler<DisruptorEvent>> handlers = adaptWorkers(
+                definitions, defaultThreads, definition -> handlerAdapter.adaptWorkHandler(definition, clearSlots));
+        if (handlers.isEmpty()) {
+            return null;
+        }
+        @SuppressWarnings("unchecked")
+        WorkHandler<DisruptorEvent>[] pool = handlers.toArray(new WorkHandler[0]);
+        return after == null
+                ? workerPoolSupport.handleWithWorkerPool(disruptor, pool)
+                : workerPoolSupport.handleWithWorkerPool(after, pool);
+    }
+
+    /**
+     * Adapt worker subscribers in subscriber order.
+     * <p>Every subscriber contributes one handler instance per thread to the shared pool.</p>
+     */
+    private static <H> List<H> adaptWorkers(
+            List<SubscriberDefinition> definitions, int defaultThreads, Function<SubscriberDefinition, H> adapter) {
+        List<H> result = new ArrayList<>();
+        for (SubscriberDefinition definition : definitions) {
+            int threads = threadsOf(definition, defaultThreads);
+            for (int i = 0; i < threads; i++) {
+                H handler = adapter.apply(definition);
+                if (handler == null) {
+                    break;
+                }
+                result.add(handler);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Claim size of a ring's workers: the configured one or, when batch workers need
+     * ranges to collect, their largest {@code batchSize} (the buffer size for batches
+     * that flush on endOfBatch only). 0 selects the {@code WorkerPool}.
+     */
+    private int workerClaimSize(String ringName, RingProperties props) {
+        if (props.getWorkerClaimSize() > 0) {
+            return props.getWorkerClaimSize();
+        }
+        int claimSize = 0;
+        for (SubscriberDefinition definition : registry.getDefinitions()) {
+            if (definition.mode() == Concurrency.MODE_WORKER
+                    && definition.batch()
+                    && ringName.equals(definition.ring())) {
+                int batchSize = definition.batchSize() > 0 ? definition.batchSize() : props.getBufferSize();
+                claimSize = Math.max(claimSize, batchSize);
+            }
+        }
+        return claimSize;
+    }
+
+    private static int threadsOf(SubscriberDefinition definition, int defaultThreads) {
+        return definition.concurrency() > 0 ? definition.concurrency() : defaultThreads;
+    }
+
+    private boolean hasNonWorkerSubscribers(String ringName) {
+        return registry.getDefinitions().stream()
+                .anyMatch(definition -> ringName.equals(definition.ring())
+                        && definition.mode() != Concurrency.MODE_WORKER);
+    }
+
+    /**
+     * Build dedicated handler instances for inline dispatch so batch buffers are not
+     * shared with the ring's consumer threads.
+     */
+    private CallerRunsDispatcher buildCallerRunsDispatcher(String ringName) {
+        List<EventHandler<DisruptorEvent>> eventHandlers = new ArrayList<>();
+        EventHandler<DisruptorEvent> workHandler = null;
+        List<SubscriberDefinition> definitions = new ArrayList<>(registry.getDefinitions().stream()
+                .filter(definition -> ringName.equals(definition.ring()))
+                .filter(definition -> definition.after().isEmpty())
+                .sorted(Comparator.comparingInt(SubscriberDefinition::order))
+                .toList());
+        definitions.addAll(dependentSubscribers(ringName));
+        for (SubscriberDefinition definition : definitions) {
+            if (definition.mode() != Concurrency.MODE_WORKER) {
+                EventHandler<DisruptorEvent> handler = handlerAdapter.adaptEventHandler(definition);
+                if (handler != null) {
+                    eventHandlers.add(handler);
+                }
+            } else if (workHandler == null) {
+                workHandler = handlerAdapter.adaptRangeWorkHandler(definition);
+            }
+        }
+        return new CallerRunsDispatcher(eventHandlers, workHandler);
+    }
+
     /**
      * Validate ring configuration before Disruptor creation.
      */
@@ -276,16 +703,144 @@ public class DisruptorManager {
                                 + " bufferSize must be a power of two, but was "
                                 + bufferSize);
             }
+            if (props.getClock() == ClockType.CUSTOM && customClock == null) {
+                throw new IllegalArgumentException(
+                        "Ring " + entry.getKey() + " uses a CUSTOM clock, but no DisruptorClock is configured");
+            }
+            if (props.getShards() < 1) {
+                throw new IllegalArgumentException(
+                        "Ring " + entry.getKey() + " shards must be at least 1, but was " + props.getShards());
+            }
+            if (Concurrency.parseThreads(props.getConcurrency()) < 0) {
+                throw new IllegalArgumentException(
+                        "Ring "
+                                + entry.getKey()
+                                + " concurrency must be a positive number or 'auto', but was "
+                                + props.getConcurrency());
+            }
+            if (props.getWorkerClaimSize() < 0) {
+                throw new IllegalArgumentException(
+                        "Ring "
+                                + entry.getKey()
+                                + " workerClaimSize must not be negative, but was "
+                                + props.getWorkerClaimSize());
+            }
+            Class<?> eventClass = props.getEventClass();
+            if (eventClass != null && props.getShards() > 1) {
+                throw new IllegalArgumentException(
+                        "Ring " + entry.getKey() + " cannot combine an eventClass with shards");
+            }
+            if (eventClass != null && !isInstantiable(eventClass)) {
+                throw new IllegalArgumentException(
+                        "Ring "
+                                + entry.getKey()
+                                + " eventClass must be a concrete class with a no-arg constructor, but was "
+                                + eventClass.getName());
+            }
+            validateBatchTimeouts(entry.getKey(), props);
+            validateDependencies(entry.getKey());
+        }
+    }
+
+    /**
+     * Every {@code after} entry must name exactly one handler, keyed or dependent
+     * subscriber of the same ring, without cycles.
+     */
+    private void validateDependencies(String ringName) {
+        Map<String, SubscriberDefinition> ids = new HashMap<>();
+        for (SubscriberDefinition definition : registry.getDefinitions()) {
+            if (definition.id().isEmpty()
+                    || definition.mode() == Concurrency.MODE_WORKER
+                    || !ringName.equals(definition.ring())) {
+                continue;
+            }
+            SubscriberDefinition previous = ids.putIfAbsent(definition.id(), definition);
+            if (previous != null) {
+                throw new IllegalArgumentException(
+                        "Ring "
+                                + ringName
+                                + " subscriber id '"
+                                + definition.id()
+                                + "' is used by both "
+                                + previous.getHandlerId()
+                                + " and "
+                                + definition.getHandlerId());
+            }
+        }
+        for (SubscriberDefinition definition : registry.getDefinitions()) {
+            if (!ringName.equals(definition.ring())) {
+                continue;
+            }
+            for (String id : definition.after()) {
+                if (!ids.containsKey(id)) {
+                    throw new IllegalArgumentException(
+                            "Ring "
+                                    + ringName
+                                    + " subscriber "
+                                    + definition.getHandlerId()
+                                    + " depends on unknown subscriber id '"
+                                    + id
+                                    + "'");
+                }
+            }
+        }
+        dependentSubscribers(ringName);
+    }
+
+    /**
+     * Batch timeouts are checked on wait strategy timeouts, and partial batches outlive
+     * their slots, which preallocated payloads do not allow.
+     */
+    private void validateBatchTimeouts(String ringName, RingProperties props) {
+        for (SubscriberDefinition definition : registry.getDefinitions()) {
+            if (definition.batchTimeoutNanos() == 0L || !ringName.equals(definition.ring())) {
+                continue;
+            }
+            if (!timesOut(props)) {
+                throw new IllegalArgumentException(
+                        "Ring "
+                                + ringName
+                                + " subscriber "
+                                + definition.getHandlerId()
+                                + " uses a batchTimeout, which needs a TIMEOUT_BLOCKING or LITE_TIMEOUT_BLOCKING"
+                                + " wait strategy");
+            }
+            if (props.getEventClass() != null) {
+                throw new IllegalArgumentException(
+                        "Ring " + ringName + " cannot combine an eventClass with batchTimeout subscribers");
+            }
+        }
+    }
+
+    private static boolean timesOut(RingProperties props) {
+        WaitStrategyType type = props.getWaitStrategy();
+        if (type == WaitStrategyType.PHASED_BACKOFF && props.getWaitStrategyConfig() != null) {
+            type = props.getWaitStrategyConfig().getPhasedBackoffFallback();
+        }
+        return type == WaitStrategyType.TIMEOUT_BLOCKING || type == WaitStrategyType.LITE_TIMEOUT_BLOCKING;
+    }
+
+    private static boolean isInstantiable(Class<?> type) {
+        if (type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+            return false;
+        }
+        try {
+            type.getDeclaredConstructor();
+            return true;
+        } catch (NoSuchMethodException ex) {
+            return false;
         }
     }
 
     /**
      * Create a Disruptor instance for the given ring.
      */
-    private Disruptor<DisruptorEvent> buildDisruptor(String ring, RingProperties props) {
+    private Disruptor<DisruptorEvent> buildDisruptor(String ring, RingProperties props, DisruptorClock clock) {
         ThreadFactory threadFactory = new NamedThreadFactory("disruptor-" + ring + "-");
+        Class<?> eventClass = props.getEventClass();
         return new Disruptor<>(
-                new DisruptorEventFactory(),
+                new DisruptorEventFactory(
+                        eventClass == null ? null : () -> BeanUtils.instantiateClass(eventClass), clock),
                 props.getBufferSize(),
                 threadFactory,
                 props.getProducerType(),
@@ -356,6 +911,36 @@ public class DisruptorManager {
         return effective.toNanos();
     }
 
+    /**
+     * Runs a ring's subscribers on the publishing thread for {@code CALLER_RUNS}.
+     */
+    private static final class CallerRunsDispatcher {
+        private final List<EventHandler<DisruptorEvent>> eventHandlers;
+        private final EventHandler<DisruptorEvent> workHandler;
+
+        private CallerRunsDispatcher(
+                List<EventHandler<DisruptorEvent>> eventHandlers,
+                EventHandler<DisruptorEvent> workHandler) {
+            this.eventHandlers = eventHandlers;
+            this.workHandler = workHandler;
+        }
+
+        private synchronized void dispatch(DisruptorEvent event) {
+            try {
+                for (EventHandler<DisruptorEvent> handler : eventHandlers) {
+                    handler.onEvent(event, -1L, true);
+                }
+                if (workHandler != null) {
+                    workHandler.onEvent(event, -1L, true);
+                }
+            } catch (RuntimeException ex) {
+                throw ex;
+            } catch (Exception ex) {
+                throw new IllegalStateException("Inline dispatch failed.", ex);
+            }
+        }
+    }
+
     private static final class NamedThreadFactory implements ThreadFactory {
         private final String prefix;
         private final AtomicInteger index = new AtomicInteger(1);
@@ -20,30 +20,87 @@ import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.LongAdder;
 
 /**
  * In-memory metrics recorder for Disruptor usage.
+ *
+ * <p>Latency is accumulated in nanoseconds. Hot paths resolve their counters once
+ * through {@link #consumeCounter(String)}, {@link #handlerCounter(String, String)} and
+ * {@link #latencyRecorder(String)} instead of looking them up per event.</p>
  */
 public class DisruptorMetrics {
     private final Map<String, LongAdder> publishCounts = new ConcurrentHashMap<>();
     private final Map<String, LongAdder> consumeCounts = new ConcurrentHashMap<>();
-    private final Map<String, LongAdder> latencyTotalMillis = new ConcurrentHashMap<>();
-    private final Map<String, LongAdder> latencyCount = new ConcurrentHashMap<>();
+    private final Map<String, LatencyRecorder> latencies = new ConcurrentHashMap<>();
     private final Map<String, LongAdder> handlerCounts = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> payloadMismatchCounts = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder[]> backpressureCounts = new ConcurrentHashMap<>();
 
     public void recordPublish(String ring) {
         publishCounts.computeIfAbsent(ring, key -> new LongAdder()).increment();
     }
 
+    public void recordPublish(String ring, long count) {
+        publishCounts.computeIfAbsent(ring, key -> new LongAdder()).add(count);
+    }
+
+    /**
+     * Return the publish counter of a ring so hot publishers can skip the map lookup.
+     */
+    public LongAdder publishCounter(String ring) {
+        return publishCounts.computeIfAbsent(ring, key -> new LongAdder());
+    }
+
     public void recordConsume(String ring, String handlerId) {
-        consumeCounts.computeIfAbsent(ring, key -> new LongAdder()).increment();
-        handlerCounts.computeIfAbsent(handlerKey(ring, handlerId), key -> new LongAdder()).increment();
+        consumeCounter(ring).increment();
+        handlerCounter(ring, handlerId).increment();
+    }
+
+    /**
+     * Return the consume counter of a ring so handlers can skip the map lookup.
+     */
+    public LongAdder consumeCounter(String ring) {
+        return consumeCounts.computeIfAbsent(ring, key -> new LongAdder());
+    }
+
+    /**
+     * Return the counter of a single handler so it can skip building its key per event.
+     */
+    public LongAdder handlerCounter(String ring, String handlerId) {
+        return handlerCounts.computeIfAbsent(handlerKey(ring, handlerId), key -> new LongAdder());
+    }
+
+    /**
+     * Return the counter of events a ring's subscribers skipped because the payload
+     * did not fit the subscriber method's parameter type.
+     */
+    public LongAdder payloadMismatchCounter(String ring) {
+        return payloadMismatchCounts.computeIfAbsent(ring, key -> new LongAdder());
     }
 
     public void recordLatency(String ring, long latencyMillis) {
-        latencyTotalMillis.computeIfAbsent(ring, key -> new LongAdder()).add(latencyMillis);
-        latencyCount.computeIfAbsent(ring, key -> new LongAdder()).increment();
+        recordLatencyNanos(ring, TimeUnit.MILLISECONDS.toNanos(latencyMillis));
+    }
+
+    public void recordLatencyNanos(String ring, long latencyNanos) {
+        latencyRecorder(ring).record(latencyNanos);
+    }
+
+    /**
+     * Return the latency recorder of a ring so handlers can skip the map lookup.
+     */
+    public LatencyRecorder latencyRecorder(String ring) {
+        return latencies.computeIfAbsent(ring, key -> new LatencyRecorder());
+    }
+
+    public void recordBackpressure(String ring, BackpressureOutcome outcome) {
+        recordBackpressure(ring, outcome, 1);
+    }
+
+    public void recordBackpressure(String ring, BackpressureOutcome outcome, long count) {
+        backpressureCounts.computeIfAbsent(ring, key -> newOutcomeCounters())[outcome.ordinal()].add(count);
     }
 
     public long getPublishCount(String ring) {
@@ -54,13 +111,29 @@ public class DisruptorMetrics {
         return sum(consumeCounts.get(ring));
     }
 
+    public long getPayloadMismatchCount(String ring) {
+        return sum(payloadMismatchCounts.get(ring));
+    }
+
     public double getAverageLatencyMillis(String ring) {
-        long count = sum(latencyCount.get(ring));
+        return getAverageLatencyNanos(ring) / 1_000_000.0;
+    }
+
+    public double getAverageLatencyNanos(String ring) {
+        LatencyRecorder recorder = latencies.get(ring);
+        if (recorder == null) {
+            return 0.0;
+        }
+        long count = recorder.count.sum();
         if (count == 0) {
             return 0.0;
         }
-        long total = sum(latencyTotalMillis.get(ring));
-        return total / (double) count;
+        return recorder.totalNanos.sum() / (double) count;
+    }
+
+    public long getBackpressureCount(String ring, BackpressureOutcome outcome) {
+        LongAdder[] counters = backpressureCounts.get(ring);
+        return counters == null ? 0 : counters[outcome.ordinal()].sum();
     }
 
     public Map<String, LongAdder> getHandlerCounts() {
@@ -75,7 +148,34 @@ public class DisruptorMetrics {
         return adder == null ? 0 : adder.sum();
     }
 
+    /**
+     * One counter per {@link BackpressureOutcome}, indexed by ordinal.
+     */
+    private static LongAdder[] newOutcomeCounters() {
+        LongAdder[] counters = new LongAdder[BackpressureOutcome.values().length];
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = new LongAdder();
+        }
+        return counters;
+    }
+
     private String handlerKey(String ring, String handlerId) {
         return ring + "::" + handlerId;
     }
+
+    /**
+     * Running latency total and sample count of one ring.
+     */
+    public static final class LatencyRecorder {
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAdder count = new LongAdder();
+
+        private LatencyRecorder() {
+        }
+
+        public void record(long latencyNanos) {
+            totalNanos.add(Math.max(0L, latencyNanos));
+            count.increment();
+        }
+    }
 }
@@ -16,79 +16,780 @@
 package com.childrengreens.disruptor.core;
 
 import com.childrengreens.disruptor.annotation.DisruptorEventType;
+import com.childrengreens.disruptor.properties.BackpressurePolicy;
+import com.childrengreens.disruptor.properties.RingProperties;
+import com.lmax.disruptor.EventTranslatorTwoArg;
 import com.lmax.disruptor.RingBuffer;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.springframework.core.annotation.AnnotationAwareOrderComparator;
 
 /**
  * Template-style publisher for sending events to a named Disruptor ring.
+ *
+ * <p>The publish path is allocation-free in steady state: the slot translator is a
+ * shared non-capturing instance, event types are resolved once per payload class,
+ * and converters that can never change the payload are dropped at construction.</p>
+ *
+ * <p>The winning converter is also cached per payload class, so publishing does not
+ * probe every {@link EventConverter#supports(Object)} once a class has been seen.
+ * Converters that opt out via {@link EventConverter#isCacheable()} keep being probed
+ * on each publish.</p>
+ *
+ * <p>Every publish first tries a non-blocking claim; the ring's
+ * {@link BackpressurePolicy} is consulted only when that fails.</p>
+ *
+ * <p>Rings configured with an {@code event-class} preallocate their events and only
+ * accept publishes through {@link RingPublisher#claim()}.</p>
+ *
+ * <p>On rings with {@code shards}, each payload goes to the shard picked by its key,
+ * extracted from the payload as passed in, before conversion (see {@link KeyExtractor}
+ * and {@link com.childrengreens.disruptor.annotation.DisruptorKey}). Primitive
+ * publishes are keyed by their first value. Backpressure applies to the chosen
+ * shard only.</p>
  */
 public class DisruptorTemplate implements EventPublisher {
+    /**
+     * Non-capturing translator shared by all publishes; payload and type are passed as arguments.
+     */
+    private static final EventTranslatorTwoArg<DisruptorEvent, Object, EventTypeInfo> TRANSLATOR =
+            (disruptorEvent, sequence, payload, eventType) -> {
+                disruptorEvent.setPayload(payload);
+                disruptorEvent.setEventType(eventType.name(), eventType.id());
+                disruptorEvent.stamp();
+            };
+
+    /**
+     * {@link #claim} result for events that were not published and need no further action.
+     */
+    private static final long DROPPED = -1L;
+    /**
+     * {@link #claim} result for events that must be dispatched on the calling thread.
+     */
+    private static final long RUN_INLINE = -2L;
+
+    private static final EventTypeInfo NULL_EVENT_TYPE =
+            new EventTypeInfo("null", EventTypeRegistry.UNKNOWN, 0);
+
+    /**
+     * Logical event type per payload class, read from {@link DisruptorEventType} once.
+     */
+    private static final ClassValue<String> EVENT_TYPE_NAMES = new ClassValue<>() {
+        @Override
+        protected String computeValue(Class<?> type) {
+            DisruptorEventType annotation = type.getAnnotation(DisruptorEventType.class);
+            if (annotation != null && !annotation.value().isEmpty()) {
+                return annotation.value();
+            }
+            return type.getName();
+        }
+    };
+
     private final DisruptorManager manager;
-    private final List<EventConverter<?>> converters;
+    private final EventConverter<?>[] converters;
     private final DisruptorMetrics metrics;
+    private final ShardRouter shardRouter;
+    private final Map<String, RingPublisher> ringPublishers = new ConcurrentHashMap<>();
+    /**
+     * Event type and its ID in the manager's {@link EventTypeRegistry} per payload class,
+     * looked up again once the registry's generation moves on.
+     */
+    private final ClassValue<EventTypeInfo> eventTypes = new ClassValue<>() {
+        @Override
+        protected EventTypeInfo computeValue(Class<?> type) {
+            return EventTypeInfo.of(EVENT_TYPE_NAMES.get(type), manager.getEventTypeRegistry());
+        }
+    };
+    private final ClassValue<ConverterRoute> converterRoutes = new ClassValue<>() {
+        @Override
+        protected ConverterRoute computeValue(Class<?> type) {
+            return new ConverterRoute();
+        }
+    };
 
     public DisruptorTemplate(
             DisruptorManager manager, List<EventConverter<?>> converters, DisruptorMetrics metrics) {
+        this(manager, converters, metrics, null);
+    }
+
+    public DisruptorTemplate(
+            DisruptorManager manager,
+            List<EventConverter<?>> converters,
+            DisruptorMetrics metrics,
+            KeyExtractor keyExtractor) {
         this.manager = manager;
-        this.converters = new ArrayList<>(converters);
-        AnnotationAwareOrderComparator.sort(this.converters);
+        this.converters = resolveConverters(converters);
         this.metrics = metrics;
+        this.shardRouter = new ShardRouter(keyExtractor);
     }
 
     /**
      * Publish payload into the target ring via Disruptor RingBuffer.
+     * <p>When the ring is full the ring's {@link BackpressurePolicy} decides whether
+     * to wait, throw {@link PublishRejectedException}, drop the event or dispatch it
+     * on the calling thread.</p>
      */
     @Override
     public void publish(String ring, Object event) {
+        String targetRing = resolveRingName(ring);
+        publish(targetRing, resolveRingBuffer(targetRing, event), publishCounter(targetRing), event);
+    }
+
+    /**
+     * Publish payload into the target ring, waiting at most {@code timeout} for a slot.
+     * <p>Gives producers a bounded worst-case latency regardless of the ring's
+     * backpressure policy.</p>
+     * <p>The wait spins, then yields, then parks with exponential backoff instead of
+     * the sequencer's fixed 1ns park loop. The ring's backpressure policy is not
+     * applied; the explicit timeout takes its place.</p>
+     *
+     * @throws PublishRejectedException if the ring is still full at the deadline
+     */
+    public void publish(String ring, Object event, Duration timeout) {
+        Objects.requireNonNull(timeout, "timeout must not be null");
+        String targetRing = resolveRingName(ring);
+        publish(targetRing, resolveRingBuffer(targetRing, event), publishCounter(targetRing), event, timeout);
+    }
+
+    /**
+     * Publish payload only if the target ring has a free slot right now.
+     * <p>Never waits and ignores the ring's backpressure policy.</p>
+     *
+     * @return {@code true} if the event was published, {@code false} if the ring was full
+     */
+    public boolean tryPublish(String ring, Object event) {
+        String targetRing = resolveRingName(ring);
+        return tryPublish(targetRing, resolveRingBuffer(targetRing, event), publishCounter(targetRing), event);
+    }
+
+    /**
+     * Publish all payloads into the target ring using ranged sequence claims.
+     */
+    @Override
+    public void publishAll(String ring, Collection<?> events) {
+        Object[] payloads = events.toArray();
+        publishAll(ring, payloads, 0, payloads.length);
+    }
+
+    /**
+     * Publish a slice of payloads into the target ring using ranged sequence claims.
+     * <p>Payloads are converted before any sequence is claimed, so a failing converter
+     * leaves the ring untouched. Slices larger than the ring are split into chunks of
+     * at most {@code bufferSize} events, each claimed with {@link RingBuffer#next(int)}
+     * and released with a single {@link RingBuffer#publish(long, long)}.</p>
+     * <p>The backpressure policy applies per chunk: a chunk that does not fit is
+     * dropped, run inline or rejected as a whole, and chunks published before it
+     * stay in the ring.</p>
+     * <p>On a sharded ring the slice is split by shard, keeping the order of each
+     * shard's payloads, and each part is published as above.</p>
+     */
+    @Override
+    public void publishAll(String ring, Object[] events, int from, int to) {
+        Objects.checkFromToIndex(from, to, events.length);
+        String targetRing = resolveRingName(ring);
+        RingBuffer<DisruptorEvent> ringBuffer = resolveRingBuffer(targetRing);
+        RingBuffer<DisruptorEvent>[] shards = manager.shardsOf(targetRing);
+        if (shards != null) {
+            publishAllSharded(targetRing, shards, publishCounter(targetRing), events, from, to);
+            return;
+        }
+        publishAll(targetRing, ringBuffer, publishCounter(targetRing), events, from, to);
+    }
+
+    /**
+     * Publish a {@code long} into a primitive slot field of the target ring.
+     * <p>{@code eventType} takes the place of the payload class for subscriber
+     * filtering. Backpressure applies as for {@link #publish(String, Object)}.</p>
+     */
+    public void publishLong(String ring, String eventType, long value) {
+        String targetRing = resolveRingName(ring);
+        publishPrimitive(
+                targetRing,
+                resolveRingBuffer(targetRing, value),
+                publishCounter(targetRing),
+                eventType,
+                ValueKind.LONG,
+                value,
+                0L);
+    }
+
+    /**
+     * Publish two {@code long}s into primitive slot fields of the target ring.
+     */
+    public void publishLongs(String ring, String eventType, long first, long second) {
+        String targetRing = resolveRingName(ring);
+        publishPrimitive(
+                targetRing,
+                resolveRingBuffer(targetRing, first),
+                publishCounter(targetRing),
+                eventType,
+                ValueKind.LONG_PAIR,
+                first,
+                second);
+    }
+
+    /**
+     * Publish a {@code double} into a primitive slot field of the target ring.
+     */
+    public void publishDouble(String ring, String eventType, double value) {
+        String targetRing = resolveRingName(ring);
+        long bits = Double.doubleToRawLongBits(value);
+        publishPrimitive(
+                targetRing,
+                resolveRingBuffer(targetRing, bits),
+                publishCounter(targetRing),
+                eventType,
+                ValueKind.DOUBLE,
+                bits,
+                0L);
+    }
+
+    /**
+     * Return the pre-bound publisher for a ring, creating it on first use.
+     * <p>The handle keeps the ring name, RingBuffer and publish counter resolved, so
+     * its publishes skip the per-call lookups of this template. There is one handle
+     * per ring and template; it is bound while the ring is running.</p>
+     */
+    public RingPublisher forRing(String ring) {
+        return ringPublishers.computeIfAbsent(resolveRingName(ring), name -> {
+            RingPublisher publisher = new RingPublisher(name, this, publishCounter(name));
+            manager.registerPublisher(publisher);
+            return publisher;
+        });
+    }
+
+    /**
+     * Claim a slot of a ring with preallocated events, waiting for one to be filled in place.
+     * <p>{@link BackpressurePolicy#BLOCK} and {@link BackpressurePolicy#BLOCK_WITH_TIMEOUT}
+     * behave as for {@link #publish(String, Object)}. The other policies cannot drop or
+     * run a slot that has not been filled yet, so a full ring rejects the claim.</p>
+     *
+     * @see RingPublisher#claim()
+     */
+    public <T> Claim<T> claim(String ring) {
+        return forRing(ring).claim();
+    }
+
+    void publish(String ring, RingBuffer<DisruptorEvent> ringBuffer, LongAdder publishCounter, Object event) {
+        requireNotPreallocated(ring, ringBuffer);
+        Object convertedPayload = convert(event);
+        EventTypeInfo eventType = resolveEventType(convertedPayload);
+        long sequence = claim(ring, ringBuffer, 1);
+        if (sequence < 0) {
+            if (sequence == RUN_INLINE) {
+                runInline(ring, ringBuffer, convertedPayload, eventType);
+            }
+            return;
+        }
+        publishClaimed(ringBuffer, publishCounter, sequence, convertedPayload, eventType);
+    }
+
+    /**
+     * Publish primitive values; a {@code double} arrives as its raw long bits.
+     */
+    void publishPrimitive(
+            String ring,
+            RingBuffer<DisruptorEvent> ringBuffer,
+            LongAdder publishCounter,
+            String eventType,
+            ValueKind valueKind,
+            long value,
+            long secondValue) {
+        Objects.requireNonNull(eventType, "eventType must not be null");
+        requireNotPreallocated(ring, ringBuffer);
+        int eventTypeId = manager.getEventTypeRegistry().lookup(eventType);
+        long sequence = claim(ring, ringBuffer, 1);
+        if (sequence < 0) {
+            if (sequence == RUN_INLINE) {
+                DisruptorEvent event = new DisruptorEvent(ringBuffer.get(0).getClock());
+                fillPrimitive(event, eventType, eventTypeId, valueKind, value, secondValue);
+                manager.dispatchInline(ring, event);
+            }
+            return;
+        }
+        try {
+            fillPrimitive(
+                    ringBuffer.get(sequence), eventType, eventTypeId, valueKind, value, secondValue);
+        } finally {
+            ringBuffer.publish(sequence);
+        }
+        if (publishCounter != null) {
+            publishCounter.increment();
+        }
+    }
+
+    void publish(
+            String ring,
+            RingBuffer<DisruptorEvent> ringBuffer,
+            LongAdder publishCounter,
+            Object event,
+            Duration timeout) {
+        requireNotPreallocated(ring, ringBuffer);
+        Object convertedPayload = convert(event);
+        EventTypeInfo eventType = resolveEventType(convertedPayload);
+        long sequence = CapacityWaiter.tryClaim(ringBuffer, 1);
+        if (sequence == CapacityWaiter.NO_CAPACITY) {
+            sequence = claimWithin(ring, ringBuffer, 1, timeout);
+        }
+        publishClaimed(ringBuffer, publishCounter, sequence, convertedPayload, eventType);
+    }
+
+    boolean tryPublish(
+            String ring, RingBuffer<DisruptorEvent> ringBuffer, LongAdder publishCounter, Object event) {
+        requireNotPreallocated(ring, ringBuffer);
+        Object convertedPayload = convert(event);
+        if (!ringBuffer.tryPublishEvent(TRANSLATOR, convertedPayload, resolveEventType(convertedPayload))) {
+            recordBackpressure(ring, BackpressureOutcome.REJECTED, 1);
+            return false;
+        }
+        if (publishCounter != null) {
+            publishCounter.increment();
+        }
+        return true;
+    }
+
+    void publishAll(
+            String ring,
+            RingBuffer<DisruptorEvent> ringBuffer,
+            LongAdder publishCounter,
+            Object[] events,
+            int from,
+            int to) {
+        Objects.checkFromToIndex(from, to, events.length);
+        requireNotPreallocated(ring, ringBuffer);
+        int count = to - from;
+        if (count == 0) {
+            return;
+        }
+        Object[] payloads = events;
+        int offset = from;
+        if (converters.length > 0) {
+            payloads = new Object[count];
+            for (int i = 0; i < count; i++) {
+                payloads[i] = convert(events[from + i]);
+            }
+            offset = 0;
+        }
+        int chunkSize = ringBuffer.getBufferSize();
+        int published = 0;
+        for (int processed = 0; processed < count; ) {
+            int batchSize = Math.min(chunkSize, count - processed);
+            int index = offset + processed;
+            processed += batchSize;
+            long hi = claim(ring, ringBuffer, batchSize);
+            if (hi < 0) {
+                if (hi == RUN_INLINE) {
+                    for (int i = index; i < index + batchSize; i++) {
+                        runInline(ring, ringBuffer, payloads[i], resolveEventType(payloads[i]));
+                    }
+                }
+                continue;
+            }
+            long lo = hi - (batchSize - 1);
+            try {
+                for (long sequence = lo; sequence <= hi; sequence++, index++) {
+                    Object payload = payloads[index];
+                    TRANSLATOR.translateTo(
+                            ringBuffer.get(sequence), sequence, payload, resolveEventType(payload));
+                }
+            } finally {
+                ringBuffer.publish(lo, hi);
+            }
+            published += batchSize;
+        }
+        if (publishCounter != null && published > 0) {
+            publishCounter.add(published);
+        }
+    }
+
+    /**
+     * Publish a slice into a sharded ring, one ranged publish per shard.
+     */
+    void publishAllSharded(
+            String ring,
+            RingBuffer<DisruptorEvent>[] shards,
+            LongAdder publishCounter,
+            Object[] events,
+            int from,
+            int to) {
+        Objects.checkFromToIndex(from, to, events.length);
+        int[] counts = new int[shards.length];
+        int[] shardOf = new int[to - from];
+        for (int i = from; i < to; i++) {
+            int shard = shardRouter.shardOf(events[i], shards.length);
+            shardOf[i - from] = shard;
+            counts[shard]++;
+        }
+        for (int shard = 0; shard < shards.length; shard++) {
+            if (counts[shard] == 0) {
+                continue;
+            }
+            Object[] part = new Object[counts[shard]];
+            int index = 0;
+            for (int i = from; i < to; i++) {
+                if (shardOf[i - from] == shard) {
+                    part[index++] = events[i];
+                }
+            }
+            publishAll(ring, shards[shard], publishCounter, part, 0, part.length);
+        }
+    }
+
+    /**
+     * Shard index of a payload among {@code shards} shards.
+     */
+    int shardOf(Object payload, int shards) {
+        return shardRouter.shardOf(payload, shards);
+    }
+
+    /**
+     * Claim one preallocated slot, applying the ring's blocking policy if it is full.
+     *
+     * @return the claimed sequence
+     * @throws PublishRejectedException if the ring is full and the policy does not wait
+     */
+    long claimSlot(String ring, RingBuffer<DisruptorEvent> ringBuffer) {
+        long sequence = CapacityWaiter.tryClaim(ringBuffer, 1);
+        if (sequence != CapacityWaiter.NO_CAPACITY) {
+            return sequence;
+        }
+        RingProperties ringProperties = manager.getRingProperties(ring);
+        switch (policyOf(ringProperties)) {
+            case BLOCK -> {
+                return ringBuffer.next();
+            }
+            case BLOCK_WITH_TIMEOUT -> {
+                Duration timeout = ringProperties.getBackpressureTimeout();
+                return claimWithin(ring, ringBuffer, 1, timeout == null ? Duration.ZERO : timeout);
+            }
+            default -> {
+                recordBackpressure(ring, BackpressureOutcome.REJECTED, 1);
+                throw new PublishRejectedException(ring, "Ring " + ring + " is full.");
+            }
+        }
+    }
+
+    /**
+     * Claim one preallocated slot only if the ring has room right now.
+     *
+     * @return the claimed sequence or {@link CapacityWaiter#NO_CAPACITY}
+     */
+    long tryClaimSlot(String ring, RingBuffer<DisruptorEvent> ringBuffer) {
+        long sequence = CapacityWaiter.tryClaim(ringBuffer, 1);
+        if (sequence == CapacityWaiter.NO_CAPACITY) {
+            recordBackpressure(ring, BackpressureOutcome.REJECTED, 1);
+        }
+        return sequence;
+    }
+
+    /**
+     * Create one reusable {@link Claim} per slot of a ring with preallocated events.
+     */
+    Claim<?>[] newClaims(String ring, RingBuffer<DisruptorEvent> ringBuffer, LongAdder publishCounter) {
+        return newClaims(ring, ringBuffer, publishCounter, ringBuffer.getBufferSize());
+    }
+
+    /**
+     * Create {@code count} reusable {@link Claim}s, a power of two, for a ring with
+     * preallocated events; slot {@code sequence & (count - 1)} serves each sequence.
+     */
+    Claim<?>[] newClaims(String ring, RingBuffer<DisruptorEvent> ringBuffer, LongAdder publishCounter, int count) {
+        if (!ringBuffer.get(0).isPreallocated()) {
+            throw new IllegalStateException(
+                    "Ring " + ring + " does not preallocate events; configure its event-class to use claim().");
+        }
+        EventTypeInfo eventType = resolveEventType(ringBuffer.get(0).getPayload());
+        Claim<?>[] claims = new Claim<?>[count];
+        for (int i = 0; i < claims.length; i++) {
+            claims[i] = new Claim<>(ringBuffer, publishCounter, eventType.name(), eventType.id());
+        }
+        return claims;
+    }
+
+    /**
+     * Reject payload publishes into a ring whose slots own their event instances.
+     */
+    private static void requireNotPreallocated(String ring, RingBuffer<DisruptorEvent> ringBuffer) {
+        if (ringBuffer.get(0).isPreallocated()) {
+            throw new IllegalStateException(
+                    "Ring " + ring + " preallocates its events; publish through RingPublisher.claim().");
+        }
+    }
+
+    /**
+     * Claim {@code n} sequences, applying the ring's backpressure policy if it is full.
+     * <p>The policy is only looked up once a non-blocking claim has failed.</p>
+     *
+     * @return the highest claimed sequence, {@link #DROPPED} or {@link #RUN_INLINE}
+     */
+    private long claim(String ring, RingBuffer<DisruptorEvent> ringBuffer, int n) {
+        long hi = CapacityWaiter.tryClaim(ringBuffer, n);
+        if (hi != CapacityWaiter.NO_CAPACITY) {
+            return hi;
+        }
+        RingProperties ringProperties = manager.getRingProperties(ring);
+        switch (policyOf(ringProperties)) {
+            case FAIL_FAST -> {
+                recordBackpressure(ring, BackpressureOutcome.REJECTED, n);
+                throw new PublishRejectedException(ring, "Ring " + ring + " is full.");
+            }
+            case DROP_NEWEST -> {
+                recordBackpressure(ring, BackpressureOutcome.DROPPED, n);
+                return DROPPED;
+            }
+            case CALLER_RUNS -> {
+                recordBackpressure(ring, BackpressureOutcome.CALLER_RAN, n);
+                return RUN_INLINE;
+            }
+            case BLOCK_WITH_TIMEOUT -> {
+                Duration timeout = ringProperties.getBackpressureTimeout();
+                return claimWithin(ring, ringBuffer, n, timeout == null ? Duration.ZERO : timeout);
+            }
+            default -> {
+                return ringBuffer.next(n);
+            }
+        }
+    }
+
+    private static BackpressurePolicy policyOf(RingProperties ringProperties) {
+        return ringProperties == null || ringProperties.getBackpressure() == null
+                ? BackpressurePolicy.BLOCK
+                : ringProperties.getBackpressure();
+    }
+
+    /**
+     * Wait for {@code n} sequences until the timeout elapses, or reject.
+     */
+    private long claimWithin(
+            String ring, RingBuffer<DisruptorEvent> ringBuffer, int n, Duration timeout) {
+        long hi = CapacityWaiter.claim(ringBuffer, n, toNanos(timeout));
+        if (hi == CapacityWaiter.NO_CAPACITY) {
+            recordBackpressure(ring, BackpressureOutcome.TIMED_OUT, n);
+            throw new PublishRejectedException(
+                    ring, "Ring " + ring + " is still full after " + timeout + ".");
+        }
+        return hi;
+    }
+
+    /**
+     * Fill a claimed slot and make it visible to consumers.
+     */
+    private static void publishClaimed(
+            RingBuffer<DisruptorEvent> ringBuffer,
+            LongAdder publishCounter,
+            long sequence,
+            Object payload,
+            EventTypeInfo eventType) {
+        try {
+            TRANSLATOR.translateTo(ringBuffer.get(sequence), sequence, payload, eventType);
+        } finally {
+            ringBuffer.publish(sequence);
+        }
+        if (publishCounter != null) {
+            publishCounter.increment();
+        }
+    }
+
+    private static void fillPrimitive(
+            DisruptorEvent event,
+            String eventType,
+            int eventTypeId,
+            ValueKind valueKind,
+            long value,
+            long secondValue) {
+        event.setPrimitive(valueKind, value, secondValue);
+        event.setEventType(eventType, eventTypeId);
+        event.stamp();
+    }
+
+    private LongAdder publishCounter(String ring) {
+        return metrics == null ? null : metrics.publishCounter(ring);
+    }
+
+    /**
+     * Convert a timeout to nanoseconds, saturating instead of overflowing.
+     */
+    private static long toNanos(Duration timeout) {
+        try {
+            return timeout.toNanos();
+        } catch (ArithmeticException ex) {
+            return timeout.isNegative() ? Long.MIN_VALUE : Long.MAX_VALUE;
+        }
+    }
+
+    /**
+     * Dispatch a payload to the ring's subscribers on the calling thread.
+     */
+    private void runInline(
+            String ring, RingBuffer<DisruptorEvent> ringBuffer, Object payload, EventTypeInfo eventType) {
+        DisruptorEvent event = new DisruptorEvent(ringBuffer.get(0).getClock());
+        TRANSLATOR.translateTo(event, -1L, payload, eventType);
+        manager.dispatchInline(ring, event);
+    }
+
+    private void recordBackpressure(String ring, BackpressureOutcome outcome, int count) {
+        if (metrics != null) {
+            metrics.recordBackpressure(ring, outcome, count);
+        }
+    }
+
+    /**
+     * Resolve the target ring name, defaulting blank names to {@code default}.
+     */
+    private String resolveRingName(String ring) {
+        return (ring == null || ring.isBlank()) ? "default" : ring;
+    }
+
+    /**
+     * Return the running RingBuffer for the ring or fail.
+     */
+    RingBuffer<DisruptorEvent> resolveRingBuffer(String targetRing) {
         if (!manager.isRunning()) {
             throw new IllegalStateException("Disruptor is not running.");
         }
-        String targetRing = (ring == null || ring.isBlank()) ? "default" : ring;
         RingBuffer<DisruptorEvent> ringBuffer = manager.getRingBuffer(targetRing);
         if (ringBuffer == null) {
             throw new IllegalStateException("Ring not found: " + targetRing);
         }
-        Object convertedPayload = convert(event);
-        String eventType = resolveEventType(convertedPayload);
-        ringBuffer.publishEvent(
-                (disruptorEvent, sequence, payload) -> {
-                    disruptorEvent.setPayload(payload);
-                    disruptorEvent.setEventType(eventType);
-                    disruptorEvent.setCreatedAt(System.currentTimeMillis());
-                },
-                convertedPayload);
-        if (metrics != null) {
-            metrics.recordPublish(targetRing);
-        }
+        return ringBuffer;
+    }
+
+    /**
+     * Return the RingBuffer of the running ring, or of the shard the payload routes to.
+     */
+    RingBuffer<DisruptorEvent> resolveRingBuffer(String targetRing, Object payload) {
+        RingBuffer<DisruptorEvent> ringBuffer = resolveRingBuffer(targetRing);
+        RingBuffer<DisruptorEvent>[] shards = manager.shardsOf(targetRing);
+        return shards == null ? ringBuffer : shards[shardRouter.shardOf(payload, shards.length)];
+    }
+
+    /**
+     * Return the RingBuffer of the running ring, or of the shard the primitive key routes to.
+     */
+    RingBuffer<DisruptorEvent> resolveRingBuffer(String targetRing, long key) {
+        RingBuffer<DisruptorEvent> ringBuffer = resolveRingBuffer(targetRing);
+        RingBuffer<DisruptorEvent>[] shards = manager.shardsOf(targetRing);
+        return shards == null ? ringBuffer : shards[ShardRouter.shardOf(key, shards.length)];
     }
 
     /**
      * Resolve logical event type from annotation or class name.
      */
-    private String resolveEventType(Object event) {
+    private EventTypeInfo resolveEventType(Object event) {
         if (event == null) {
-            return "null";
+            return NULL_EVENT_TYPE;
         }
-        DisruptorEventType annotation = event.getClass().getAnnotation(DisruptorEventType.class);
-        if (annotation != null && !annotation.value().isEmpty()) {
-            return annotation.value();
+        Class<?> type = event.getClass();
+        EventTypeInfo eventType = eventTypes.get(type);
+        if (eventType.generation() != manager.getEventTypeRegistry().generation()) {
+            eventTypes.remove(type);
+            eventType = eventTypes.get(type);
         }
-        return event.getClass().getName();
+        return eventType;
     }
 
     /**
      * Convert payload using the first matching converter.
      */
     private Object convert(Object payload) {
-        for (EventConverter<?> converter : converters) {
+        if (converters.length == 0) {
+            return payload;
+        }
+        if (payload == null) {
+            return convertFrom(0, null);
+        }
+        ConverterRoute route = converterRoutes.get(payload.getClass());
+        if (!route.resolved) {
+            route.resolve(converters, payload);
+        }
+        if (route.converter != null) {
+            return route.converter.convert(payload);
+        }
+        if (route.dynamicFrom >= 0) {
+            return convertFrom(route.dynamicFrom, payload);
+        }
+        return payload;
+    }
+
+    /**
+     * Probe converters linearly starting at the given index.
+     */
+    private Object convertFrom(int start, Object payload) {
+        for (int i = start; i < converters.length; i++) {
+            EventConverter<?> converter = converters[i];
             if (converter.supports(payload)) {
                 return converter.convert(payload);
             }
         }
         return payload;
     }
+
+    /**
+     * Sort converters and cut the chain at the first {@link DefaultEventConverter}.
+     * <p>The default converter accepts every payload and returns it unchanged, so it
+     * and anything ordered after it are equivalent to the identity fallback.</p>
+     */
+    private static EventConverter<?>[] resolveConverters(List<EventConverter<?>> converters) {
+        List<EventConverter<?>> sorted = new ArrayList<>(converters);
+        AnnotationAwareOrderComparator.sort(sorted);
+        List<EventConverter<?>> effective = new ArrayList<>(sorted.size());
+        for (EventConverter<?> converter : sorted) {
+            if (converter.getClass() == DefaultEventConverter.class) {
+                break;
+            }
+            effective.add(converter);
+        }
+        return effective.toArray(new EventConverter<?>[0]);
+    }
+
+    /**
+     * Event type name paired with its {@link EventTypeRegistry} ID as of the
+     * registry generation it was looked up in.
+     */
+    private record EventTypeInfo(String name, int id, int generation) {
+        private static EventTypeInfo of(String name, EventTypeRegistry registry) {
+            int generation = registry.generation();
+            return new EventTypeInfo(name, registry.lookup(name), generation);
+        }
+    }
+
+    /**
+     * Converter decision cached for one payload class.
+     * <p>Resolved from the first payload of the class. Concurrent publishers may both
+     * resolve it; they compute the same values, and the volatile flag publishes them.</p>
+     */
+    private static final class ConverterRoute {
+        /**
+         * Cacheable converter that accepts this class, or {@code null} when none does.
+         */
+        private EventConverter<?> converter;
+        /**
+         * Index of the first non-cacheable converter to probe per publish, or {@code -1}.
+         */
+        private int dynamicFrom = -1;
+        private volatile boolean resolved;
+
+        private void resolve(EventConverter<?>[] converters, Object sample) {
+            for (int i = 0; i < converters.length; i++) {
+                EventConverter<?> candidate = converters[i];
+                if (!candidate.isCacheable()) {
+                    dynamicFrom = i;
+                    break;
+                }
+                if (candidate.supports(sample)) {
+                    converter = candidate;
+                    break;
+                }
+            }
+            resolved = true;
+        }
+    }
 }
@@ -27,4 +27,15 @@ public interface EventConverter<T> {
     default boolean supports(Object source) {
         return true;
     }
+
+    /**
+     * Whether {@link #supports(Object)} depends only on the payload class.
+     * <p>When {@code true}, {@link DisruptorTemplate} evaluates {@code supports} once per
+     * payload class and reuses the winning converter for later payloads of that class.
+     * Return {@code false} when the decision inspects payload state; such a converter,
+     * and every converter ordered after it, is then evaluated on each publish.</p>
+     */
+    default boolean isCacheable() {
+        return true;
+    }
 }
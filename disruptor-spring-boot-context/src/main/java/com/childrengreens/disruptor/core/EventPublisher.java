@@ -15,9 +15,36 @@
  */
 package com.childrengreens.disruptor.core;
 
+import java.util.Collection;
+import java.util.Objects;
+
 public interface EventPublisher {
     /**
      * Publish an event payload to the given ring.
      */
     void publish(String ring, Object event);
+
+    /**
+     * Publish all payloads to the given ring, in iteration order.
+     * <p>Sequences are claimed as contiguous ranges and each range is made visible
+     * to consumers with a single publish, instead of one claim per event.</p>
+     * <p>The default implementation publishes the payloads one by one.</p>
+     */
+    default void publishAll(String ring, Collection<?> events) {
+        for (Object event : events) {
+            publish(ring, event);
+        }
+    }
+
+    /**
+     * Publish {@code events[from]} (inclusive) to {@code events[to]} (exclusive) to
+     * the given ring, in index order, using ranged sequence claims.
+     * <p>The default implementation publishes the payloads one by one.</p>
+     */
+    default void publishAll(String ring, Object[] events, int from, int to) {
+        Objects.checkFromToIndex(from, to, events.length);
+        for (int i = from; i < to; i++) {
+            publish(ring, events[i]);
+        }
+    }
 }
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.disruptor.core;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interns logical event type names into compact int IDs.
+ *
+ * <p>Subscriber filters are interned when handlers are built and publishers look up
+ * the type of each payload class once, so matching an event against a filter is a
+ * single int comparison instead of a {@link String#equals(Object)}.</p>
+ *
+ * <p>One registry is owned by each {@link com.childrengreens.disruptor.consumer.HandlerAdapter}
+ * and shared with its {@link DisruptorManager} and {@link DisruptorTemplate}. Only
+ * subscribed types are interned, so the registry is bounded by the subscribers of one
+ * application context; publishers never add to it and events of other types carry
+ * {@link #UNKNOWN}, which handlers match by name. The manager clears it on stop.</p>
+ *
+ * <p>Every new ID and every {@link #clear()} advances the {@link #generation()}, so
+ * publishers caching IDs know when to look them up again.</p>
+ */
+public final class EventTypeRegistry {
+    /**
+     * ID carried by events whose type has not been interned.
+     */
+    public static final int UNKNOWN = 0;
+
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private int nextId = UNKNOWN + 1;
+    private volatile int generation;
+
+    /**
+     * Return the ID for the given subscribed event type, assigning one on first use.
+     */
+    public int idOf(String eventType) {
+        Integer id = ids.get(eventType);
+        if (id != null) {
+            return id;
+        }
+        synchronized (this) {
+            id = ids.get(eventType);
+            if (id == null) {
+                id = nextId++;
+                ids.put(eventType, id);
+                generation++;
+            }
+            return id;
+        }
+    }
+
+    /**
+     * Return the ID of the given event type, or {@link #UNKNOWN} if no subscriber
+     * interned it.
+     */
+    public int lookup(String eventType) {
+        Integer id = ids.get(eventType);
+        return id == null ? UNKNOWN : id;
+    }
+
+    /**
+     * Counter advanced whenever an ID is assigned or the registry is cleared.
+     */
+    public int generation() {
+        return generation;
+    }
+
+    /**
+     * Number of interned event types.
+     */
+    public int size() {
+        return ids.size();
+    }
+
+    /**
+     * Forget every interned type; handlers built afterwards intern their filters again.
+     */
+    public synchronized void clear() {
+        ids.clear();
+        nextId = UNKNOWN + 1;
+        generation++;
+    }
+}
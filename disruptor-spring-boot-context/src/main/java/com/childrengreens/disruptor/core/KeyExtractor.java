@@ -0,0 +1,30 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.disruptor.core;
+
+/**
+ * Extracts the routing key of a payload published to a sharded ring.
+ * <p>Register one as a bean to route payloads that cannot carry a
+ * {@link com.childrengreens.disruptor.annotation.DisruptorKey} member.</p>
+ */
+@FunctionalInterface
+public interface KeyExtractor {
+    /**
+     * Return the key of the payload, or {@code null} to fall back to its
+     * {@code @DisruptorKey} member or the payload itself.
+     */
+    Object extractKey(Object payload);
+}
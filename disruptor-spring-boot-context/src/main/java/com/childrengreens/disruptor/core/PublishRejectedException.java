@@ -0,0 +1,38 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.disruptor.core;
+
+/**
+ * Thrown when an event is not published because its ring is full and the ring's
+ * backpressure policy rejects it.
+ *
+ * @see com.childrengreens.disruptor.properties.BackpressurePolicy
+ */
+public class PublishRejectedException extends IllegalStateException {
+    private final String ring;
+
+    public PublishRejectedException(String ring, String message) {
+        super(message);
+        this.ring = ring;
+    }
+
+    /**
+     * Name of the ring that rejected the event.
+     */
+    public String getRing() {
+        return ring;
+    }
+}
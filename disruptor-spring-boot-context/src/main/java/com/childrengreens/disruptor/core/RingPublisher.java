@@ -0,0 +1,255 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.disruptor.core;
+
+import com.lmax.disruptor.RingBuffer;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Publisher bound to a single ring.
+ *
+ * <p>Obtained from {@link DisruptorTemplate#forRing(String)} or injected with
+ * {@link com.childrengreens.disruptor.annotation.DisruptorRing}:</p>
+ * <pre>{@code
+ * @DisruptorRing("order")
+ * private RingPublisher orders;
+ * }</pre>
+ *
+ * <p>The ring name, RingBuffer and publish counter are resolved once, so a publish
+ * is a single volatile read away from the RingBuffer instead of a name check, a
+ * ring lookup, a running check and a metrics map lookup. {@link DisruptorManager}
+ * binds the RingBuffer when the ring starts and clears it when it stops; publishing
+ * while unbound falls back to the template's lookup and fails the same way.</p>
+ *
+ * <p>Conversion, event typing, shard routing and backpressure behave exactly as in
+ * {@link DisruptorTemplate}.</p>
+ *
+ * <p>On rings with an {@code event-class}, events are filled in place instead:</p>
+ * <pre>{@code
+ * try (Claim<OrderEvent> claim = orders.claim()) {
+ *     claim.event().setPrice(price);
+ * }
+ * }</pre>
+ */
+public final class RingPublisher {
+    private final String ring;
+    private final DisruptorTemplate template;
+    private final LongAdder publishCounter;
+    private volatile RingBuffer<DisruptorEvent> ringBuffer;
+    /**
+     * Shard RingBuffers while bound to a sharded ring, otherwise {@code null}.
+     */
+    private volatile RingBuffer<DisruptorEvent>[] shards;
+    /**
+     * One reusable claim per slot while bound to a ring with preallocated events.
+     */
+    private volatile Claim<?>[] claims;
+
+    RingPublisher(String ring, DisruptorTemplate template, LongAdder publishCounter) {
+        this.ring = ring;
+        this.template = template;
+        this.publishCounter = publishCounter;
+    }
+
+    /**
+     * Name of the ring this publisher targets.
+     */
+    public String getRing() {
+        return ring;
+    }
+
+    /**
+     * Whether the publisher is currently bound to a running RingBuffer.
+     */
+    public boolean isBound() {
+        return ringBuffer != null;
+    }
+
+    /**
+     * Publish an event payload, applying the ring's backpressure policy when full.
+     *
+     * @see DisruptorTemplate#publish(String, Object)
+     */
+    public void publish(Object event) {
+        template.publish(ring, ringBuffer(event), publishCounter, event);
+    }
+
+    /**
+     * Publish an event payload, waiting at most {@code timeout} for a free slot.
+     *
+     * @throws PublishRejectedException if the ring is still full at the deadline
+     * @see DisruptorTemplate#publish(String, Object, Duration)
+     */
+    public void publish(Object event, Duration timeout) {
+        Objects.requireNonNull(timeout, "timeout must not be null");
+        template.publish(ring, ringBuffer(event), publishCounter, event, timeout);
+    }
+
+    /**
+     * Publish an event payload only if a slot is free right now.
+     *
+     * @return {@code true} if the event was published
+     * @see DisruptorTemplate#tryPublish(String, Object)
+     */
+    public boolean tryPublish(Object event) {
+        return template.tryPublish(ring, ringBuffer(event), publishCounter, event);
+    }
+
+    /**
+     * Publish all payloads using ranged sequence claims.
+     *
+     * @see DisruptorTemplate#publishAll(String, Collection)
+     */
+    public void publishAll(Collection<?> events) {
+        Object[] payloads = events.toArray();
+        publishAll(payloads, 0, payloads.length);
+    }
+
+    /**
+     * Publish {@code events[from]} (inclusive) to {@code events[to]} (exclusive).
+     *
+     * @see DisruptorTemplate#publishAll(String, Object[], int, int)
+     */
+    public void publishAll(Object[] events, int from, int to) {
+        RingBuffer<DisruptorEvent>[] bound = shards;
+        if (bound != null) {
+            template.publishAllSharded(ring, bound, publishCounter, events, from, to);
+            return;
+        }
+        template.publishAll(ring, ringBuffer(), publishCounter, events, from, to);
+    }
+
+    /**
+     * Publish a single {@code long} without boxing.
+     *
+     * @see DisruptorTemplate#publishLong(String, String, long)
+     */
+    public void publishLong(String eventType, long value) {
+        template.publishPrimitive(
+                ring, ringBuffer(value), publishCounter, eventType, ValueKind.LONG, value, 0L);
+    }
+
+    /**
+     * Publish two {@code long}s without boxing.
+     *
+     * @see DisruptorTemplate#publishLongs(String, String, long, long)
+     */
+    public void publishLongs(String eventType, long first, long second) {
+        template.publishPrimitive(
+                ring, ringBuffer(first), publishCounter, eventType, ValueKind.LONG_PAIR, first, second);
+    }
+
+    /**
+     * Publish a single {@code double} without boxing.
+     *
+     * @see DisruptorTemplate#publishDouble(String, String, double)
+     */
+    public void publishDouble(String eventType, double value) {
+        long bits = Double.doubleToRawLongBits(value);
+        template.publishPrimitive(
+                ring, ringBuffer(bits), publishCounter, eventType, ValueKind.DOUBLE, bits, 0L);
+    }
+
+    /**
+     * Claim the next slot of a ring with preallocated events; closing the claim publishes it.
+     * <p>Waits per the ring's {@code BLOCK} or {@code BLOCK_WITH_TIMEOUT} policy when the
+     * ring is full; the other policies reject the claim.</p>
+     *
+     * @throws PublishRejectedException if the ring is full and the policy does not wait
+     * @throws IllegalStateException if the ring has no {@code event-class}
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Claim<T> claim() {
+        Claim<?>[] slots = claims();
+        long sequence = template.claimSlot(ring, slots[0].ringBuffer());
+        return (Claim<T>) slots[(int) sequence & (slots.length - 1)].open(sequence);
+    }
+
+    /**
+     * Claim the next slot of a ring with preallocated events only if one is free right now.
+     *
+     * @return the claim, or {@code null} if the ring is full
+     * @throws IllegalStateException if the ring has no {@code event-class}
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Claim<T> tryClaim() {
+        Claim<?>[] slots = claims();
+        long sequence = template.tryClaimSlot(ring, slots[0].ringBuffer());
+        if (sequence == CapacityWaiter.NO_CAPACITY) {
+            return null;
+        }
+        return (Claim<T>) slots[(int) sequence & (slots.length - 1)].open(sequence);
+    }
+
+    void bind(RingBuffer<DisruptorEvent> ringBuffer, RingBuffer<DisruptorEvent>[] shards) {
+        this.claims = ringBuffer != null && ringBuffer.get(0).isPreallocated()
+                ? template.newClaims(ring, ringBuffer, publishCounter)
+                : null;
+        this.shards = shards;
+        this.ringBuffer = ringBuffer;
+    }
+
+    void unbind() {
+        this.ringBuffer = null;
+        this.shards = null;
+        this.claims = null;
+    }
+
+    private RingBuffer<DisruptorEvent> ringBuffer() {
+        RingBuffer<DisruptorEvent> bound = ringBuffer;
+        return bound != null ? bound : template.resolveRingBuffer(ring);
+    }
+
+    private RingBuffer<DisruptorEvent> ringBuffer(Object payload) {
+        RingBuffer<DisruptorEvent>[] bound = shards;
+        if (bound != null) {
+            return bound[template.shardOf(payload, bound.length)];
+        }
+        RingBuffer<DisruptorEvent> ringBuffer = this.ringBuffer;
+        return ringBuffer != null ? ringBuffer : template.resolveRingBuffer(ring, payload);
+    }
+
+    private RingBuffer<DisruptorEvent> ringBuffer(long key) {
+        RingBuffer<DisruptorEvent>[] bound = shards;
+        if (bound != null) {
+            return bound[ShardRouter.shardOf(key, bound.length)];
+        }
+        RingBuffer<DisruptorEvent> ringBuffer = this.ringBuffer;
+        return ringBuffer != null ? ringBuffer : template.resolveRingBuffer(ring, key);
+    }
+
+    /**
+     * Claims of the bound ring, or a single claim for this call when unbound; the
+     * ring is resolved first so a stopped or missing ring fails before allocating.
+     */
+    private Claim<?>[] claims() {
+        Claim<?>[] bound = claims;
+        if (bound != null) {
+            return bound;
+        }
+        RingBuffer<DisruptorEvent> ringBuffer = ringBuffer();
+        return template.newClaims(ring, ringBuffer, publishCounter, 1);
+    }
+
+    @Override
+    public String toString() {
+        return "RingPublisher[" + ring + "]";
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.disruptor.core;
+
+import com.childrengreens.disruptor.annotation.DisruptorRing;
+
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.config.BeanDefinitionHolder;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.config.DependencyDescriptor;
+import org.springframework.beans.factory.support.AutowireCandidateResolver;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.lang.NonNull;
+
+/**
+ * Autowire candidate resolver that supplies {@link RingPublisher} handles for
+ * dependencies annotated with {@link DisruptorRing}, such as constructor parameters:
+ * <pre>{@code
+ * public OrderService(@DisruptorRing("order") RingPublisher orders) { ... }
+ * }</pre>
+ *
+ * <p>Wraps the bean factory's existing resolver and delegates everything else to it,
+ * so {@code @Qualifier}, {@code @Value} and {@code @Lazy} keep working.</p>
+ */
+public class RingPublisherAutowireCandidateResolver implements AutowireCandidateResolver {
+    private final AutowireCandidateResolver delegate;
+    private final BeanFactory beanFactory;
+
+    public RingPublisherAutowireCandidateResolver(
+            AutowireCandidateResolver delegate, BeanFactory beanFactory) {
+        this.delegate = delegate;
+        this.beanFactory = beanFactory;
+    }
+
+    /**
+     * Wrap the resolver of the given bean factory, once.
+     */
+    public static void install(ConfigurableListableBeanFactory beanFactory) {
+        if (beanFactory instanceof DefaultListableBeanFactory listableBeanFactory
+                && !(listableBeanFactory.getAutowireCandidateResolver()
+                        instanceof RingPublisherAutowireCandidateResolver)) {
+            listableBeanFactory.setAutowireCandidateResolver(new RingPublisherAutowireCandidateResolver(
+                    listableBeanFactory.getAutowireCandidateResolver(), listableBeanFactory));
+        }
+    }
+
+    @Override
+    public Object getSuggestedValue(@NonNull DependencyDescriptor descriptor) {
+        DisruptorRing ring = descriptor.getAnnotation(DisruptorRing.class);
+        if (ring != null && descriptor.getDependencyType() == RingPublisher.class) {
+            return beanFactory.getBean(DisruptorTemplate.class).forRing(ring.value());
+        }
+        return delegate.getSuggestedValue(descriptor);
+    }
+
+    @Override
+    public boolean isAutowireCandidate(
+            @NonNull BeanDefinitionHolder bdHolder, @NonNull DependencyDescriptor descriptor) {
+        return delegate.isAutowireCandidate(bdHolder, descriptor);
+    }
+
+    @Override
+    public boolean isRequired(@NonNull DependencyDescriptor descriptor) {
+        return delegate.isRequired(descriptor);
+    }
+
+    @Override
+    public boolean hasQualifier(@NonNull DependencyDescriptor descriptor) {
+        return delegate.hasQualifier(descriptor);
+    }
+
+    @Override
+    public String getSuggestedName(@NonNull DependencyDescriptor descriptor) {
+        return delegate.getSuggestedName(descriptor);
+    }
+
+    @Override
+    public Object getLazyResolutionProxyIfNecessary(
+            @NonNull DependencyDescriptor descriptor, String beanName) {
+        return delegate.getLazyResolutionProxyIfNecessary(descriptor, beanName);
+    }
+
+    @Override
+    public Class<?> getLazyResolutionProxyClass(
+            @NonNull DependencyDescriptor descriptor, String beanName) {
+        return delegate.getLazyResolutionProxyClass(descriptor, beanName);
+    }
+
+    @Override
+    @NonNull
+    public AutowireCandidateResolver cloneIfNecessary() {
+        return new RingPublisherAutowireCandidateResolver(delegate.cloneIfNecessary(), beanFactory);
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.disruptor.core;
+
+import com.childrengreens.disruptor.annotation.DisruptorRing;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.PropertyValues;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.InstantiationAwareBeanPostProcessor;
+import org.springframework.lang.NonNull;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Bean post-processor that injects {@link RingPublisher} handles into fields
+ * annotated with {@link DisruptorRing}.
+ *
+ * <p>Constructor and method parameters are handled by
+ * {@link RingPublisherAutowireCandidateResolver}.</p>
+ */
+public class RingPublisherBeanPostProcessor implements InstantiationAwareBeanPostProcessor {
+    private static final Logger log = LoggerFactory.getLogger(RingPublisherBeanPostProcessor.class);
+
+    private final ObjectProvider<DisruptorTemplate> template;
+
+    public RingPublisherBeanPostProcessor(ObjectProvider<DisruptorTemplate> template) {
+        this.template = template;
+    }
+
+    /**
+     * Assign a ring publisher to each {@link DisruptorRing} field before property population.
+     */
+    @Override
+    public PropertyValues postProcessProperties(
+            @NonNull PropertyValues pvs, @NonNull Object bean, @NonNull String beanName)
+            throws BeansException {
+        ReflectionUtils.doWithFields(
+                bean.getClass(),
+                field -> inject(bean, beanName, field),
+                field -> field.isAnnotationPresent(DisruptorRing.class)
+                        && !Modifier.isStatic(field.getModifiers()));
+        return pvs;
+    }
+
+    private void inject(Object bean, String beanName, Field field) {
+        if (field.getType() != RingPublisher.class) {
+            log.warn(
+                    "Skip @DisruptorRing field {}.{} in bean {}: only RingPublisher fields are injected.",
+                    field.getDeclaringClass().getName(),
+                    field.getName(),
+                    beanName);
+            return;
+        }
+        DisruptorRing ring = field.getAnnotation(DisruptorRing.class);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, bean, template.getObject().forRing(ring.value()));
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.disruptor.core;
+
+import com.childrengreens.disruptor.annotation.DisruptorKey;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Objects;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Maps payloads to shards of a sharded ring, or to partitions of a keyed
+ * subscriber, by the hash of their key.
+ *
+ * <p>The key is, in order: the {@link KeyExtractor} result, the payload's
+ * {@link DisruptorKey} member, or the payload itself. Key members are read through
+ * a method handle resolved once per payload class that hashes primitive keys
+ * directly, so routing by a {@code long} id does not box it. A {@code long} key
+ * routes to the same shard whether it is published as a primitive or as a payload
+ * member, and a {@code null} key routes to shard 0.</p>
+ *
+ * <p>A payload without a key member is hashed by its own {@code hashCode()}. That
+ * suits value types such as strings, boxed numbers or records, but a class that
+ * inherits {@link Object#hashCode()} hashes by identity, so events of one logical
+ * key scatter across shards and lose their relative order. A warning is logged the
+ * first time each payload class is routed without a key.</p>
+ */
+public final class ShardRouter {
+    private static final Logger log = LoggerFactory.getLogger(ShardRouter.class);
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType HASH_TYPE = MethodType.methodType(int.class, Object.class);
+    private static final MethodHandle OBJECT_HASH = findHash(Object.class);
+
+    /**
+     * {@code (Object)int} handle hashing the key of a payload class.
+     */
+    private static final ClassValue<MethodHandle> KEY_HASHES = new ClassValue<>() {
+        @Override
+        protected MethodHandle computeValue(Class<?> type) {
+            return resolveKeyHash(type);
+        }
+    };
+
+    private final KeyExtractor keyExtractor;
+
+    public ShardRouter(KeyExtractor keyExtractor) {
+        this.keyExtractor = keyExtractor;
+    }
+
+    /**
+     * Shard index of a published event among {@code shards} shards.
+     * <p>Primitive values are keyed by their first value, as on publish.</p>
+     */
+    public int shardOfEvent(DisruptorEvent event, int shards) {
+        return indexOf(hashOfEvent(event), shards);
+    }
+
+    /**
+     * Partition index of a published event among the {@code partitions} handlers of
+     * a keyed subscriber.
+     * <p>The key hash is mixed again before taking the index, so it does not follow
+     * the shard index: on a sharded ring every event of one shard shares
+     * {@code hash % shards}, and reusing that hash would leave the partitions of a
+     * shard idle whenever the two counts share a factor.</p>
+     */
+    public int partitionOfEvent(DisruptorEvent event, int partitions) {
+        return indexOf(remix(hashOfEvent(event)), partitions);
+    }
+
+    /**
+     * Partition index of a payload among {@code partitions} keyed handlers.
+     *
+     * @see #partitionOfEvent(DisruptorEvent, int)
+     */
+    public int partitionOf(Object payload, int partitions) {
+        return indexOf(remix(hashOf(payload)), partitions);
+    }
+
+    /**
+     * Shard index of a payload among {@code shards} shards.
+     */
+    public int shardOf(Object payload, int shards) {
+        return indexOf(hashOf(payload), shards);
+    }
+
+    /**
+     * Shard index of a primitive value among {@code shards} shards.
+     */
+    public static int shardOf(long value, int shards) {
+        return indexOf(Long.hashCode(value), shards);
+    }
+
+    private int hashOfEvent(DisruptorEvent event) {
+        if (event.getValueKind() == ValueKind.OBJECT) {
+            return hashOf(event.getPayload());
+        }
+        return Long.hashCode(event.getLongValue());
+    }
+
+    private int hashOf(Object payload) {
+        if (payload == null) {
+            return 0;
+        }
+        if (keyExtractor != null) {
+            Object key = keyExtractor.extractKey(payload);
+            if (key != null) {
+                return key.hashCode();
+            }
+        }
+        return hashKey(payload);
+    }
+
+    /**
+     * MurmurHash3 finalizer, decorrelating the bits {@link #indexOf} reads from the raw hash.
+     */
+    private static int remix(int hash) {
+        int h = hash;
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    private static int indexOf(int hash, int shards) {
+        int spread = hash ^ (hash >>> 16);
+        return (spread & Integer.MAX_VALUE) % shards;
+    }
+
+    private static int hashKey(Object payload) {
+        try {
+            return (int) KEY_HASHES.get(payload.getClass()).invokeExact(payload);
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new IllegalStateException(
+                    "Failed to read @DisruptorKey of " + payload.getClass().getName(), ex);
+        }
+    }
+
+    private static MethodHandle resolveKeyHash(Class<?> type) {
+        MethodHandle getter = findKeyGetter(type);
+        if (getter == null) {
+            warnKeyless(type);
+            return OBJECT_HASH;
+        }
+        Class<?> keyType = getter.type().returnType();
+        MethodHandle hash = keyType.isPrimitive()
+                ? findHash(keyType)
+                : OBJECT_HASH.asType(MethodType.methodType(int.class, keyType));
+        return MethodHandles.filterReturnValue(getter, hash).asType(HASH_TYPE);
+    }
+
+    private static void warnKeyless(Class<?> type) {
+        if (hasIdentityHash(type)) {
+            log.warn(
+                    "Payload class {} has no @DisruptorKey and no KeyExtractor key, and does not override "
+                            + "hashCode(); events are routed by identity hash, so equal logical keys may reach "
+                            + "different shards or partitions out of order.",
+                    type.getName());
+        } else {
+            log.info(
+                    "Payload class {} has no @DisruptorKey and no KeyExtractor key; events are routed by "
+                            + "the payload's own hashCode().",
+                    type.getName());
+        }
+    }
+
+    private static boolean hasIdentityHash(Class<?> type) {
+        try {
+            return type.getMethod("hashCode").getDeclaringClass() == Object.class;
+        } catch (NoSuchMethodException ex) {
+            return true;
+        }
+    }
+
+    private static MethodHandle findKeyGetter(Class<?> type) {
+        try {
+            for (Class<?> current = type; current != null && current != Object.class;
+                    current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (field.isAnnotationPresent(DisruptorKey.class)) {
+                        ReflectionUtils.makeAccessible(field);
+                        return LOOKUP.unreflectGetter(field);
+                    }
+                }
+            }
+            for (Method method : ReflectionUtils.getAllDeclaredMethods(type)) {
+                if (method.isAnnotationPresent(DisruptorKey.class)) {
+                    if (method.getParameterCount() != 0 || method.getReturnType() == void.class) {
+                        throw new IllegalArgumentException(
+                                "@DisruptorKey method must take no arguments and return a value: " + method);
+                    }
+                    ReflectionUtils.makeAccessible(method);
+                    return LOOKUP.unreflect(method);
+                }
+            }
+            return null;
+        } catch (IllegalAccessException ex) {
+            throw new IllegalStateException("Cannot access @DisruptorKey of " + type.getName(), ex);
+        }
+    }
+
+    /**
+     * Static {@code hashCode} of the wrapper for a primitive type, or {@link Objects#hashCode(Object)}.
+     */
+    private static MethodHandle findHash(Class<?> keyType) {
+        try {
+            if (keyType.isPrimitive()) {
+                return LOOKUP.findStatic(
+                        ClassUtils.resolvePrimitiveIfNecessary(keyType),
+                        "hashCode",
+                        MethodType.methodType(int.class, keyType));
+            }
+            return LOOKUP.findStatic(Objects.class, "hashCode", HASH_TYPE);
+        } catch (ReflectiveOperationException ex) {
+            throw new IllegalStateException("No hashCode for key type " + keyType.getName(), ex);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.disruptor.properties;
+
+/**
+ * Producer-side behaviour when a ring has no free slot for a new event.
+ *
+ * <p>The policy only applies once a non-blocking claim has failed, so rings with
+ * spare capacity publish at the same cost under every policy.</p>
+ *
+ * <p>Configuration example:</p>
+ * <pre>{@code
+ * spring:
+ *   disruptor:
+ *     rings:
+ *       order:
+ *         backpressure: BLOCK_WITH_TIMEOUT
+ *         backpressure-timeout: 50ms
+ * }</pre>
+ *
+ * @see RingProperties#getBackpressure()
+ */
+public enum BackpressurePolicy {
+
+    /**
+     * Wait until consumers free a slot, as {@code RingBuffer.publishEvent} does.
+     * <p>The publishing thread parks in a tight loop for as long as the ring
+     * stays full. This is the default and matches the previous behaviour.</p>
+     */
+    BLOCK,
+
+    /**
+     * Reject the event immediately.
+     * <p>{@code publish} throws {@link com.childrengreens.disruptor.core.PublishRejectedException}
+     * so the caller can shed load or report an error upstream.</p>
+     */
+    FAIL_FAST,
+
+    /**
+     * Silently discard the event that could not be published.
+     * <p>Events already in the ring are kept; the drop is only visible in metrics.</p>
+     */
+    DROP_NEWEST,
+
+    /**
+     * Run the ring's subscribers on the publishing thread.
+     * <p>The event bypasses the ring and is dispatched inline, which slows the
+     * producer down to consumer speed instead of queueing more work. Handler
+     * subscribers run in order, and at most one worker subscriber receives the
+     * event. Inline dispatches on one ring are serialized.</p>
+     * <p><strong>Subscribers lose their single-thread and ordering guarantees:</strong>
+     * the inline call runs on the publisher while the ring's consumer threads keep
+     * invoking the same subscriber beans, so handler and keyed subscribers must be
+     * thread-safe, and an inline event overtakes the events still queued in the ring.
+     * Use it for rings whose subscribers are all workers, or whose handlers tolerate
+     * both.</p>
+     */
+    CALLER_RUNS,
+
+    /**
+     * Wait for a free slot up to {@link RingProperties#getBackpressureTimeout()}.
+     * <p>If the ring is still full at the deadline, {@code publish} throws
+     * {@link com.childrengreens.disruptor.core.PublishRejectedException}.</p>
+     */
+    BLOCK_WITH_TIMEOUT
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.disruptor.properties;
+
+/**
+ * Clock a ring uses to stamp events and measure consume latency.
+ *
+ * <p>Latency is the difference between the publish stamp and the clock reading
+ * when a subscriber finishes, in nanoseconds. Each ring can trade precision for
+ * the cost of reading the clock twice per event.</p>
+ *
+ * <p>Configuration example:</p>
+ * <pre>{@code
+ * spring:
+ *   disruptor:
+ *     rings:
+ *       ticks:
+ *         clock: CACHED
+ *         clock-tick-interval: 100us
+ * }</pre>
+ *
+ * @see RingProperties#getClock()
+ * @see com.childrengreens.disruptor.core.DisruptorClock
+ */
+public enum ClockType {
+
+    /**
+     * {@link System#nanoTime()} on every read.
+     * <p>Precise, at the cost of a clock call on publish and on each consume.</p>
+     */
+    SYSTEM,
+
+    /**
+     * A timestamp refreshed by a background thread every {@code clock-tick-interval}.
+     * <p>Reads are a single volatile load; latencies are quantized to the tick
+     * interval, so sub-tick latencies read as zero.</p>
+     */
+    CACHED,
+
+    /**
+     * No timestamps; latency is not recorded for the ring.
+     */
+    DISABLED,
+
+    /**
+     * The application's {@link com.childrengreens.disruptor.core.DisruptorClock} bean.
+     */
+    CUSTOM
+}
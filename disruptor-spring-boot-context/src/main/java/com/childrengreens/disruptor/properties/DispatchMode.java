@@ -0,0 +1,49 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.disruptor.properties;
+
+/**
+ * How a ring hands events to its handler-mode subscribers.
+ *
+ * <p>Configuration example:</p>
+ * <pre>{@code
+ * spring:
+ *   disruptor:
+ *     rings:
+ *       orders:
+ *         dispatch: TYPE_INDEXED
+ * }</pre>
+ *
+ * @see RingProperties#getDispatch()
+ */
+public enum DispatchMode {
+
+    /**
+     * One event processor thread per subscriber.
+     * <p>Every subscriber reads every event and skips the types it does not handle,
+     * so subscribers of a stage run in parallel.</p>
+     */
+    PER_SUBSCRIBER,
+
+    /**
+     * One event processor thread per {@code order} stage.
+     * <p>The stage looks each event's type up in a table built at startup and invokes
+     * only the matching subscribers, one after another. Threads and wake-ups no
+     * longer grow with the number of type-filtered subscribers. Keyed subscribers
+     * keep their own partition threads.</p>
+     */
+    TYPE_INDEXED
+}
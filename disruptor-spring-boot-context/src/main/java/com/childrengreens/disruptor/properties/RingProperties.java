@@ -35,6 +35,7 @@ import java.time.Duration;
  *         producer-type: MULTI
  *         wait-strategy: BLOCKING
  *         exception-handler: LOG_AND_CONTINUE
+ *         backpressure: FAIL_FAST
  * }</pre>
  *
  * @see DisruptorProperties
@@ -108,6 +109,113 @@ public class RingProperties {
      */
     private WaitStrategyConfig waitStrategyConfig = new WaitStrategyConfig();
 
+    /**
+     * What publishers do when the RingBuffer has no free slot.
+     * <ul>
+     *   <li>{@code BLOCK} - Wait until a slot is free.</li>
+     *   <li>{@code FAIL_FAST} - Throw immediately.</li>
+     *   <li>{@code DROP_NEWEST} - Discard the new event.</li>
+     *   <li>{@code CALLER_RUNS} - Dispatch the event on the publishing thread, concurrently
+     *   with the ring's consumers and ahead of queued events (see {@link BackpressurePolicy#CALLER_RUNS}).</li>
+     *   <li>{@code BLOCK_WITH_TIMEOUT} - Wait up to {@link #backpressureTimeout}, then throw.</li>
+     * </ul>
+     * <p>Default: BLOCK</p>
+     *
+     * @see BackpressurePolicy
+     */
+    private BackpressurePolicy backpressure = BackpressurePolicy.BLOCK;
+
+    /**
+     * Maximum time a publisher waits for a free slot under
+     * {@link BackpressurePolicy#BLOCK_WITH_TIMEOUT}.
+     * <p>Default: 100ms</p>
+     */
+    private Duration backpressureTimeout = Duration.ofMillis(100);
+
+    /**
+     * Mutable event class preallocated once per RingBuffer slot.
+     * <p>When set, each slot owns an instance created with the class's no-arg
+     * constructor. Publishers fill it in place through
+     * {@code RingPublisher.claim()} instead of publishing new payload objects,
+     * and subscribers receive the slot instance itself. Plain {@code publish}
+     * calls are rejected on such rings.</p>
+     * <p>Default: none (payloads are published by reference)</p>
+     */
+    private Class<?> eventClass;
+
+    /**
+     * Clock used to stamp events and measure consume latency.
+     * <ul>
+     *   <li>{@code SYSTEM} - {@code System.nanoTime()} on publish and consume.</li>
+     *   <li>{@code CACHED} - A reading refreshed every {@link #clockTickInterval}.</li>
+     *   <li>{@code DISABLED} - No timestamps and no latency metrics.</li>
+     *   <li>{@code CUSTOM} - The application's {@code DisruptorClock} bean.</li>
+     * </ul>
+     * <p>Default: SYSTEM</p>
+     *
+     * @see ClockType
+     */
+    private ClockType clock = ClockType.SYSTEM;
+
+    /**
+     * Refresh interval of the {@link ClockType#CACHED} clock.
+     * <p>Default: 1ms</p>
+     */
+    private Duration clockTickInterval = Duration.ofMillis(1);
+
+    /**
+     * Number of independent Disruptors the ring is partitioned into.
+     * <p>Each shard has its own RingBuffer and its own consumer threads, and every
+     * subscriber of the ring is adapted once per shard. Publishes are routed by
+     * key, so events with the same key always land on the same shard and are
+     * consumed in publish order, while different keys are processed in parallel.
+     * Every shard gets the full {@link #bufferSize}. Cannot be combined with
+     * {@link #eventClass}.</p>
+     * <p>Default: 1 (not sharded)</p>
+     */
+    private int shards = 1;
+
+    /**
+     * Default thread count of worker and keyed subscribers that do not set
+     * {@code concurrency} themselves: a positive number or {@code auto} for one
+     * thread per available processor.
+     * <p>Default: empty (one thread per subscriber)</p>
+     */
+    private String concurrency = "";
+
+    /**
+     * Number of events a worker claims per CAS on the shared work sequence.
+     * <p>0 keeps Disruptor's {@code WorkerPool}, which claims one event at a time.
+     * A positive value runs worker subscribers on range-claiming processors that
+     * take up to this many published events at once, cutting contention with many
+     * workers, and deliver {@code endOfBatch} at the end of each range.</p>
+     * <p>Default: 0</p>
+     */
+    private int workerClaimSize = 0;
+
+    /**
+     * How events reach handler-mode subscribers.
+     * <ul>
+     *   <li>{@code PER_SUBSCRIBER} - One processor thread per subscriber, each skipping foreign types.</li>
+     *   <li>{@code TYPE_INDEXED} - One processor thread per order stage invoking only matching subscribers.</li>
+     * </ul>
+     * <p>Default: PER_SUBSCRIBER</p>
+     *
+     * @see DispatchMode
+     */
+    private DispatchMode dispatch = DispatchMode.PER_SUBSCRIBER;
+
+    /**
+     * Whether each slot is cleared once every subscriber has consumed it, so consumed
+     * payloads do not stay reachable until the slot is reused. Applies to every ring:
+     * a final stage clears behind the last handler or worker stage, and a single
+     * worker pool without other stages clears each slot itself. Subscribers must not
+     * keep the event instance beyond the call. The final stage is one more consumer
+     * thread per ring, or per shard of a sharded ring.
+     * <p>Default: false</p>
+     */
+    private boolean clearOnConsume = false;
+
     public int getBufferSize() {
         return bufferSize;
     }
@@ -148,6 +256,86 @@ public class RingProperties {
         this.waitStrategyConfig = waitStrategyConfig;
     }
 
+    public BackpressurePolicy getBackpressure() {
+        return backpressure;
+    }
+
+    public void setBackpressure(BackpressurePolicy backpressure) {
+        this.backpressure = backpressure;
+    }
+
+    public Duration getBackpressureTimeout() {
+        return backpressureTimeout;
+    }
+
+    public void setBackpressureTimeout(Duration backpressureTimeout) {
+        this.backpressureTimeout = backpressureTimeout;
+    }
+
+    public Class<?> getEventClass() {
+        return eventClass;
+    }
+
+    public void setEventClass(Class<?> eventClass) {
+        this.eventClass = eventClass;
+    }
+
+    public ClockType getClock() {
+        return clock;
+    }
+
+    public void setClock(ClockType clock) {
+        this.clock = clock;
+    }
+
+    public Duration getClockTickInterval() {
+        return clockTickInterval;
+    }
+
+    public void setClockTickInterval(Duration clockTickInterval) {
+        this.clockTickInterval = clockTickInterval;
+    }
+
+    public int getShards() {
+        return shards;
+    }
+
+    public void setShards(int shards) {
+        this.shards = shards;
+    }
+
+    public String getConcurrency() {
+        return concurrency;
+    }
+
+    public void setConcurrency(String concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    public int getWorkerClaimSize() {
+        return workerClaimSize;
+    }
+
+    public void setWorkerClaimSize(int workerClaimSize) {
+        this.workerClaimSize = workerClaimSize;
+    }
+
+    public DispatchMode getDispatch() {
+        return dispatch;
+    }
+
+    public void setDispatch(DispatchMode dispatch) {
+        this.dispatch = dispatch;
+    }
+
+    public boolean isClearOnConsume() {
+        return clearOnConsume;
+    }
+
+    public void setClearOnConsume(boolean clearOnConsume) {
+        this.clearOnConsume = clearOnConsume;
+    }
+
     /**
      * Advanced configuration parameters for wait strategies.
      *
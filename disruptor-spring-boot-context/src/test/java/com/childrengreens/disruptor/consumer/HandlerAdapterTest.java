@@ -17,16 +17,23 @@ package com.childrengreens.disruptor.consumer;
 
 import com.childrengreens.disruptor.annotation.Concurrency;
 import com.childrengreens.disruptor.annotation.ExceptionPolicy;
+import com.childrengreens.disruptor.core.DisruptorClock;
 import com.childrengreens.disruptor.core.DisruptorEvent;
 import com.childrengreens.disruptor.core.DisruptorMetrics;
+import com.childrengreens.disruptor.core.EventTypeRegistry;
+import com.childrengreens.disruptor.core.ShardRouter;
+import com.childrengreens.disruptor.core.ValueKind;
 import com.lmax.disruptor.EventHandler;
+import com.lmax.disruptor.TimeoutHandler;
 import com.lmax.disruptor.WorkHandler;
 import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -55,13 +62,41 @@ class HandlerAdapterTest {
         DisruptorEvent event = new DisruptorEvent();
         event.setPayload("hello");
         event.setEventType("type");
-        event.setCreatedAt(System.currentTimeMillis());
+        event.setCreatedAtNanos(System.nanoTime());
         handler.onEvent(event, 0L, true);
 
         assertThat(subscriber.payloads).containsExactly("hello");
         assertThat(metrics.getConsumeCount("ring")).isEqualTo(1);
     }
 
+    @Test
+    void recordsLatencyInNanosecondsFromEventClock() throws Exception {
+        DisruptorMetrics metrics = new DisruptorMetrics();
+        HandlerAdapter adapter = new HandlerAdapter(metrics);
+        EventHandler<DisruptorEvent> handler = adapter.adaptEventHandler(stringSubscriber(new TestSubscriber()));
+        AtomicLong now = new AtomicLong(1_000);
+        DisruptorEvent event = new DisruptorEvent(now::get);
+        event.setPayload("hello");
+        event.setCreatedAtNanos(1_000);
+        now.set(1_750);
+        handler.onEvent(event, 0L, true);
+
+        assertThat(metrics.getAverageLatencyNanos("ring")).isEqualTo(750.0);
+    }
+
+    @Test
+    void skipsLatencyForUnstampedEvents() throws Exception {
+        DisruptorMetrics metrics = new DisruptorMetrics();
+        HandlerAdapter adapter = new HandlerAdapter(metrics);
+        EventHandler<DisruptorEvent> handler = adapter.adaptEventHandler(stringSubscriber(new TestSubscriber()));
+        DisruptorEvent event = new DisruptorEvent(DisruptorClock.DISABLED);
+        event.setPayload("hello");
+        handler.onEvent(event, 0L, true);
+
+        assertThat(metrics.getConsumeCount("ring")).isEqualTo(1);
+        assertThat(metrics.getAverageLatencyNanos("ring")).isZero();
+    }
+
     @Test
     void skipsMismatchedEventType() throws Exception {
         HandlerAdapter adapter = new HandlerAdapter(new DisruptorMetrics());
@@ -89,6 +124,86 @@ class HandlerAdapterTest {
         assertThat(subscriber.payloads).isEmpty();
     }
 
+    @Test
+    void filtersByInternedEventTypeId() throws Exception {
+        HandlerAdapter adapter = new HandlerAdapter(new DisruptorMetrics());
+        TestSubscriber subscriber = new TestSubscriber();
+        Method method = TestSubscriber.class.getDeclaredMethod("handle", String.class);
+        SubscriberDefinition definition = new SubscriberDefinition(
+                subscriber,
+                "subscriber",
+                method,
+                String.class,
+                "ring",
+                Concurrency.MODE_HANDLER,
+                0,
+                false,
+                0,
+                "expected",
+                ExceptionPolicy.LOG_AND_CONTINUE);
+
+        EventHandler<DisruptorEvent> handler = adapter.adaptEventHandler(definition);
+        EventTypeRegistry registry = adapter.getEventTypeRegistry();
+        DisruptorEvent mismatch = new DisruptorEvent();
+        mismatch.setPayload("skip");
+        mismatch.setEventType("other", registry.idOf("other"));
+        handler.onEvent(mismatch, 0L, false);
+        DisruptorEvent match = new DisruptorEvent();
+        match.setPayload("hello");
+        match.setEventType("expected", registry.lookup("expected"));
+        handler.onEvent(match, 1L, true);
+
+        assertThat(subscriber.payloads).containsExactly("hello");
+    }
+
+    @Test
+    void skipsAndCountsPayloadsThatDoNotFitTheMethod() throws Exception {
+        DisruptorMetrics metrics = new DisruptorMetrics();
+        HandlerAdapter adapter = new HandlerAdapter(metrics);
+        TestSubscriber subscriber = new TestSubscriber();
+        SubscriberDefinition definition = typedDefinition(subscriber, "");
+        EventHandler<DisruptorEvent> handler = adapter.adaptEventHandler(definition);
+        WorkHandler<DisruptorEvent> workHandler = adapter.adaptWorkHandler(definition);
+
+        DisruptorEvent primitive = new DisruptorEvent();
+        primitive.setLongValue(7L);
+        handler.onEvent(eventWithPayload(42), 0L, false);
+        handler.onEvent(primitive, 1L, false);
+        handler.onEvent(eventWithPayload("hello"), 2L, true);
+        workHandler.onEvent(eventWithPayload(43));
+
+        assertThat(subscriber.payloads).containsExactly("hello");
+        assertThat(metrics.getPayloadMismatchCount("ring")).isEqualTo(3);
+        assertThat(metrics.getConsumeCount("ring")).isEqualTo(1);
+    }
+
+    @Test
+    void batchesOnlyCollectPayloadsMatchingTheListElementType() throws Exception {
+        DisruptorMetrics metrics = new DisruptorMetrics();
+        TestSubscriber subscriber = new TestSubscriber();
+        SubscriberDefinition definition = new SubscriberDefinition(
+                subscriber,
+                "subscriber",
+                TestSubscriber.class.getDeclaredMethod("handleBatch", List.class),
+                List.class,
+                "ring",
+                Concurrency.MODE_HANDLER,
+                0,
+                true,
+                0,
+                "",
+                ExceptionPolicy.THROW);
+        EventHandler<DisruptorEvent> handler = new HandlerAdapter(metrics).adaptEventHandler(definition);
+
+        handler.onEvent(eventWithPayload("a"), 0L, false);
+        handler.onEvent(eventWithPayload(1), 1L, false);
+        handler.onEvent(eventWithPayload("b"), 2L, false);
+        handler.onEvent(eventWithPayload(2), 3L, true);
+
+        assertThat(subscriber.batches).containsExactly(List.of("a", "b"));
+        assertThat(metrics.getPayloadMismatchCount("ring")).isEqualTo(2);
+    }
+
     @Test
     void supportsBatchDelivery() throws Exception {
         DisruptorMetrics metrics = new DisruptorMetrics();
@@ -122,6 +237,190 @@ class HandlerAdapterTest {
         assertThat(metrics.getConsumeCount("ring")).isEqualTo(2);
     }
 
+    @Test
+    void keyedHandlersPartitionEventsByKey() throws Exception {
+        DisruptorMetrics metrics = new DisruptorMetrics();
+        HandlerAdapter adapter = new HandlerAdapter(metrics);
+        TestSubscriber subscriber = new TestSubscriber();
+        SubscriberDefinition definition = new SubscriberDefinition(
+                subscriber,
+                "subscriber",
+                TestSubscriber.class.getDeclaredMethod("handle", String.class),
+                String.class,
+                "ring",
+                Concurrency.MODE_KEYED,
+                0,
+                false,
+                0,
+                "",
+                ExceptionPolicy.LOG_AND_CONTINUE,
+                3,
+                0L,
+                false,
+                "",
+                List.of(),
+                "");
+
+        List<EventHandler<DisruptorEvent>> handlers = adapter.adaptKeyedHandlers(definition, 3);
+        assertThat(handlers).hasSize(3);
+        ShardRouter router = new ShardRouter(null);
+        for (String key : List.of("a", "b", "c", "d", "e", "f")) {
+            DisruptorEvent event = eventWithPayload(key);
+            int handled = 0;
+            for (int partition = 0; partition < handlers.size(); partition++) {
+                int before = subscriber.payloads.size();
+                handlers.get(partition).onEvent(event, 0L, true);
+                if (subscriber.payloads.size() > before) {
+                    handled++;
+                    assertThat(partition).isEqualTo(router.partitionOf(key, 3));
+                }
+            }
+            assertThat(handled).isEqualTo(1);
+        }
+        assertThat(metrics.getConsumeCount("ring")).isEqualTo(6);
+    }
+
+    @Test
+    void keyedHandlersUseKeyExtractor() throws Exception {
+        HandlerAdapter adapter = new HandlerAdapter(null, payload -> "same");
+        TestSubscriber subscriber = new TestSubscriber();
+        SubscriberDefinition definition = new SubscriberDefinition(
+                subscriber,
+                "subscriber",
+                TestSubscriber.class.getDeclaredMethod("handle", String.class),
+                String.class,
+                "ring",
+                Concurrency.MODE_KEYED,
+                0,
+                false,
+                0,
+                "",
+                ExceptionPolicy.LOG_AND_CONTINUE,
+                4,
+                0L,
+                false,
+                "",
+                List.of(),
+                "");
+        List<EventHandler<DisruptorEvent>> handlers = adapter.adaptKeyedHandlers(definition, 4);
+        EventHandler<DisruptorEvent> owner = handlers.get(new ShardRouter(null).partitionOf("same", 4));
+
+        for (String payload : List.of("x", "y", "z")) {
+            owner.onEvent(eventWithPayload(payload), 0L, true);
+        }
+
+        assertThat(subscriber.payloads).containsExactly("x", "y", "z");
+    }
+
+    @Test
+    void batchFlushesWhenSkippedEventEndsTheBatch() throws Exception {
+        TestSubscriber subscriber = new TestSubscriber();
+        SubscriberDefinition definition = new SubscriberDefinition(
+                subscriber,
+                "subscriber",
+                TestSubscriber.class.getDeclaredMethod("handleBatch", List.class),
+                List.class,
+                "ring",
+                Concurrency.MODE_HANDLER,
+                0,
+                true,
+                0,
+                "wanted",
+                ExceptionPolicy.LOG_AND_CONTINUE);
+        EventHandler<DisruptorEvent> handler = new HandlerAdapter(null).adaptEventHandler(definition);
+
+        DisruptorEvent wanted = eventWithPayload("a");
+        wanted.setEventType("wanted");
+        DisruptorEvent other = eventWithPayload("b");
+        other.setEventType("other");
+        handler.onEvent(wanted, 0L, false);
+        handler.onEvent(other, 1L, true);
+
+        assertThat(subscriber.batches).containsExactly(List.of("a"));
+    }
+
+    @Test
+    void typeIndexedHandlerRoutesEventsToMatchingSubscribers() throws Exception {
+        TestSubscriber orders = new TestSubscriber();
+        TestSubscriber refunds = new TestSubscriber();
+        TestSubscriber audit = new TestSubscriber();
+        HandlerAdapter adapter = new HandlerAdapter(null);
+        EventHandler<DisruptorEvent> handler = adapter.adaptTypeIndexedHandler(List.of(
+                typedDefinition(orders, "order"),
+                typedDefinition(refunds, "refund"),
+                typedDefinition(audit, "")));
+        assertThat(handler).isInstanceOf(TypeIndexedDispatcher.class);
+        EventTypeRegistry registry = adapter.getEventTypeRegistry();
+
+        DisruptorEvent order = eventWithPayload("o1");
+        order.setEventType("order", registry.lookup("order"));
+        DisruptorEvent refundByName = eventWithPayload("r1");
+        refundByName.setEventType("refund");
+        DisruptorEvent unsubscribed = eventWithPayload("x1");
+        unsubscribed.setEventType("other", registry.idOf("other"));
+        handler.onEvent(order, 0L, false);
+        handler.onEvent(refundByName, 1L, false);
+        handler.onEvent(unsubscribed, 2L, true);
+
+        assertThat(orders.payloads).containsExactly("o1");
+        assertThat(refunds.payloads).containsExactly("r1");
+        assertThat(audit.payloads).containsExactly("o1", "r1", "x1");
+    }
+
+    @Test
+    void typeIndexedHandlerFlushesSkippedBatchesAndRethrowsAfterAllSubscribers() throws Exception {
+        TestSubscriber batches = new TestSubscriber();
+        TestSubscriber audit = new TestSubscriber();
+        SubscriberDefinition batch = new SubscriberDefinition(
+                batches,
+                "batches",
+                TestSubscriber.class.getDeclaredMethod("handleBatch", List.class),
+                List.class,
+                "ring",
+                Concurrency.MODE_HANDLER,
+                0,
+                true,
+                0,
+                "order",
+                ExceptionPolicy.THROW);
+        SubscriberDefinition failing = new SubscriberDefinition(
+                new FailingSubscriber(),
+                "failing",
+                FailingSubscriber.class.getDeclaredMethod("handle", String.class),
+                String.class,
+                "ring",
+                Concurrency.MODE_HANDLER,
+                0,
+                false,
+                0,
+                "refund",
+                ExceptionPolicy.THROW);
+        EventHandler<DisruptorEvent> handler = new HandlerAdapter(null)
+                .adaptTypeIndexedHandler(List.of(batch, failing, typedDefinition(audit, "")));
+
+        DisruptorEvent order = eventWithPayload("o1");
+        order.setEventType("order");
+        DisruptorEvent refund = eventWithPayload("r1");
+        refund.setEventType("refund");
+        handler.onEvent(order, 0L, false);
+
+        assertThatThrownBy(() -> handler.onEvent(refund, 1L, true))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("boom");
+        assertThat(batches.batches).containsExactly(List.of("o1"));
+        assertThat(audit.payloads).containsExactly("o1", "r1");
+    }
+
+    @Test
+    void typeIndexedHandlerIsSkippedForSingleSubscriber() throws Exception {
+        TestSubscriber subscriber = new TestSubscriber();
+        HandlerAdapter adapter = new HandlerAdapter(null);
+
+        assertThat(adapter.adaptTypeIndexedHandler(List.of(typedDefinition(subscriber, "order"))))
+                .isNotInstanceOf(TypeIndexedDispatcher.class);
+        assertThat(adapter.adaptTypeIndexedHandler(List.of())).isNull();
+    }
+
     @Test
     void logsAndContinuesOnExceptionWhenPolicyAllows() throws Exception {
         HandlerAdapter adapter = new HandlerAdapter(null);
@@ -192,6 +491,115 @@ class HandlerAdapterTest {
         assertThat(adapter.adaptWorkHandler(definition)).isNull();
     }
 
+    @Test
+    void deliversBatchesAsReusedReadOnlyViewUnlessCopyRequested() throws Exception {
+        RetainingBatchSubscriber viewSubscriber = new RetainingBatchSubscriber();
+        RetainingBatchSubscriber copySubscriber = new RetainingBatchSubscriber();
+        EventHandler<DisruptorEvent> viewHandler =
+                new HandlerAdapter(null).adaptEventHandler(retainingBatchDefinition(viewSubscriber, false));
+        EventHandler<DisruptorEvent> copyHandler =
+                new HandlerAdapter(null).adaptEventHandler(retainingBatchDefinition(copySubscriber, true));
+
+        for (EventHandler<DisruptorEvent> handler : List.of(viewHandler, copyHandler)) {
+            handler.onEvent(eventWithPayload("a"), 0L, false);
+            handler.onEvent(eventWithPayload("b"), 1L, true);
+            handler.onEvent(eventWithPayload("c"), 2L, true);
+        }
+
+        assertThat(viewSubscriber.batches).hasSize(2);
+        assertThat(viewSubscriber.batches.get(0)).isSameAs(viewSubscriber.batches.get(1)).isEmpty();
+        assertThatThrownBy(() -> viewSubscriber.batches.get(0).add("d"))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThat(copySubscriber.batches).containsExactly(List.of("a", "b"), List.of("c"));
+    }
+
+    private static SubscriberDefinition retainingBatchDefinition(
+            RetainingBatchSubscriber subscriber, boolean copyBatch) throws NoSuchMethodException {
+        return new SubscriberDefinition(
+                subscriber,
+                "subscriber",
+                RetainingBatchSubscriber.class.getDeclaredMethod("handleBatch", List.class),
+                List.class,
+                "ring",
+                Concurrency.MODE_HANDLER,
+                0,
+                true,
+                0,
+                "",
+                ExceptionPolicy.LOG_AND_CONTINUE,
+                0,
+                0L,
+                copyBatch,
+                "",
+                List.of(),
+                "");
+    }
+
+    @Test
+    void batchTimeoutHoldsPartialBatchesUntilExpired() throws Exception {
+        TestSubscriber subscriber = new TestSubscriber();
+        SubscriberDefinition definition = new SubscriberDefinition(
+                subscriber,
+                "subscriber",
+                TestSubscriber.class.getDeclaredMethod("handleBatch", List.class),
+                List.class,
+                "ring",
+                Concurrency.MODE_HANDLER,
+                0,
+                true,
+                3,
+                "",
+                ExceptionPolicy.LOG_AND_CONTINUE,
+                0,
+                TimeUnit.MILLISECONDS.toNanos(50),
+                false,
+                "",
+                List.of(),
+                "");
+        EventHandler<DisruptorEvent> handler = new HandlerAdapter(null).adaptEventHandler(definition);
+        TimeoutHandler timeoutHandler = (TimeoutHandler) handler;
+
+        handler.onEvent(eventWithPayload("a"), 0L, true);
+        timeoutHandler.onTimeout(0L);
+        assertThat(subscriber.batches).isEmpty();
+
+        handler.onEvent(eventWithPayload("b"), 1L, false);
+        handler.onEvent(eventWithPayload("c"), 2L, false);
+        assertThat(subscriber.batches).containsExactly(List.of("a", "b", "c"));
+
+        handler.onEvent(eventWithPayload("d"), 3L, true);
+        Thread.sleep(60);
+        timeoutHandler.onTimeout(3L);
+        assertThat(subscriber.batches).containsExactly(List.of("a", "b", "c"), List.of("d"));
+    }
+
+    @Test
+    void adaptsBatchWorkerAsRangeHandlerFlushingPerRange() throws Exception {
+        HandlerAdapter adapter = new HandlerAdapter(new DisruptorMetrics());
+        TestSubscriber subscriber = new TestSubscriber();
+        SubscriberDefinition definition = new SubscriberDefinition(
+                subscriber,
+                "subscriber",
+                TestSubscriber.class.getDeclaredMethod("handleBatch", List.class),
+                List.class,
+                "ring",
+                Concurrency.MODE_WORKER,
+                0,
+                true,
+                2,
+                "",
+                ExceptionPolicy.LOG_AND_CONTINUE);
+        EventHandler<DisruptorEvent> handler = adapter.adaptRangeWorkHandler(definition);
+
+        DisruptorEvent last = eventWithPayload("c");
+        handler.onEvent(eventWithPayload("a"), 0L, false);
+        handler.onEvent(eventWithPayload("b"), 1L, false);
+        handler.onEvent(last, 2L, true);
+
+        assertThat(subscriber.batches).containsExactly(List.of("a", "b"), List.of("c"));
+        assertThat(last.getPayload()).isNull();
+    }
+
     @Test
     void adaptsDelegatingHandlers() {
         HandlerAdapter adapter = new HandlerAdapter(new DisruptorMetrics());
@@ -258,7 +666,7 @@ class HandlerAdapterTest {
         DisruptorEvent event = new DisruptorEvent();
         event.setPayload("ok");
         event.setEventType("expected");
-        event.setCreatedAt(System.currentTimeMillis());
+        event.setCreatedAtNanos(System.nanoTime());
         handler.onEvent(event);
 
         assertThat(subscriber.payloads).containsExactly("ok");
@@ -443,12 +851,161 @@ class HandlerAdapterTest {
         assertThat(subscriber.batches.get(0)).containsExactly("c", "d");
     }
 
-    private DisruptorEvent eventWithPayload(String payload) {
+    private DisruptorEvent eventWithPayload(Object payload) {
         DisruptorEvent event = new DisruptorEvent();
         event.setPayload(payload);
         return event;
     }
 
+    @Test
+    void invokesPrimitiveSubscribersWithPrimitiveValues() throws Exception {
+        HandlerAdapter adapter = new HandlerAdapter(null);
+        PrimitiveSubscriber subscriber = new PrimitiveSubscriber();
+        EventHandler<DisruptorEvent> longHandler = adapter.adaptEventHandler(
+                primitiveDefinition(subscriber, "onId", Concurrency.MODE_HANDLER, long.class));
+        EventHandler<DisruptorEvent> pairHandler = adapter.adaptEventHandler(
+                primitiveDefinition(subscriber, "onFill", Concurrency.MODE_HANDLER, long.class, long.class));
+        WorkHandler<DisruptorEvent> priceHandler = adapter.adaptWorkHandler(
+                primitiveDefinition(subscriber, "onPrice", Concurrency.MODE_WORKER, double.class));
+        EventHandler<DisruptorEvent> objectHandler = adapter.adaptEventHandler(
+                primitiveDefinition(subscriber, "onObject", Concurrency.MODE_HANDLER, Object.class));
+
+        DisruptorEvent event = new DisruptorEvent();
+        event.setLongValue(42L);
+        longHandler.onEvent(event, 0L, true);
+        objectHandler.onEvent(event, 0L, true);
+        event.setPayload(7);
+        longHandler.onEvent(event, 1L, true);
+        event.setLongValues(3L, 4L);
+        pairHandler.onEvent(event, 2L, true);
+        event.setDoubleValue(1.25d);
+        priceHandler.onEvent(event);
+
+        assertThat(subscriber.calls).containsExactly("id=42", "object=42", "id=7", "fill=3/4", "price=1.25");
+        assertThat(event.getValueKind()).isEqualTo(ValueKind.OBJECT);
+    }
+
+    @Test
+    void primitiveSubscribersSkipAndCountValuesThatDoNotWiden() throws Exception {
+        DisruptorMetrics metrics = new DisruptorMetrics();
+        HandlerAdapter adapter = new HandlerAdapter(metrics);
+        PrimitiveSubscriber subscriber = new PrimitiveSubscriber();
+        EventHandler<DisruptorEvent> longHandler = adapter.adaptEventHandler(
+                primitiveDefinition(subscriber, "onId", Concurrency.MODE_HANDLER, long.class));
+        WorkHandler<DisruptorEvent> priceHandler = adapter.adaptWorkHandler(
+                primitiveDefinition(subscriber, "onPrice", Concurrency.MODE_WORKER, double.class));
+
+        DisruptorEvent doubleEvent = new DisruptorEvent();
+        doubleEvent.setDoubleValue(1.5d);
+        DisruptorEvent longEvent = new DisruptorEvent();
+        longEvent.setLongValue(3L);
+        // The definitions use ExceptionPolicy.THROW, so an invocation failure would surface here.
+        longHandler.onEvent(eventWithPayload("text"), 0L, false);
+        longHandler.onEvent(doubleEvent, 1L, false);
+        longHandler.onEvent(eventWithPayload(2.5d), 2L, true);
+        priceHandler.onEvent(eventWithPayload("text"));
+        priceHandler.onEvent(longEvent);
+
+        assertThat(subscriber.calls).containsExactly("price=3.0");
+        assertThat(metrics.getPayloadMismatchCount("ring")).isEqualTo(4);
+    }
+
+    @Test
+    void longPairSubscribersSkipAndCountEverythingButLongPairs() throws Exception {
+        DisruptorMetrics metrics = new DisruptorMetrics();
+        HandlerAdapter adapter = new HandlerAdapter(metrics);
+        PrimitiveSubscriber subscriber = new PrimitiveSubscriber();
+        EventHandler<DisruptorEvent> pairHandler = adapter.adaptEventHandler(
+                primitiveDefinition(subscriber, "onFill", Concurrency.MODE_HANDLER, long.class, long.class));
+        WorkHandler<DisruptorEvent> pairWorker = adapter.adaptWorkHandler(
+                primitiveDefinition(subscriber, "onFill", Concurrency.MODE_WORKER, long.class, long.class));
+        EventHandler<DisruptorEvent> longHandler = adapter.adaptEventHandler(
+                primitiveDefinition(subscriber, "onId", Concurrency.MODE_HANDLER, long.class));
+
+        DisruptorEvent longEvent = new DisruptorEvent();
+        longEvent.setLongValue(3L);
+        DisruptorEvent pairEvent = new DisruptorEvent();
+        pairEvent.setLongValues(5L, 6L);
+        // The definitions use ExceptionPolicy.THROW, so an invocation failure would surface here.
+        pairHandler.onEvent(eventWithPayload("text"), 0L, false);
+        pairHandler.onEvent(longEvent, 1L, false);
+        pairHandler.onEvent(pairEvent, 2L, true);
+        pairWorker.onEvent(eventWithPayload(null));
+        longHandler.onEvent(eventWithPayload(null), 3L, true);
+
+        assertThat(subscriber.calls).containsExactly("fill=5/6");
+        assertThat(metrics.getPayloadMismatchCount("ring")).isEqualTo(4);
+    }
+
+    private static SubscriberDefinition stringSubscriber(TestSubscriber subscriber)
+            throws NoSuchMethodException {
+        return new SubscriberDefinition(
+                subscriber,
+                "subscriber",
+                TestSubscriber.class.getDeclaredMethod("handle", String.class),
+                String.class,
+                "ring",
+                Concurrency.MODE_HANDLER,
+                0,
+                false,
+                0,
+                "",
+                ExceptionPolicy.LOG_AND_CONTINUE);
+    }
+
+    private static SubscriberDefinition primitiveDefinition(
+            PrimitiveSubscriber subscriber, String name, Concurrency mode, Class<?>... parameterTypes)
+            throws NoSuchMethodException {
+        return new SubscriberDefinition(
+                subscriber,
+                "primitive",
+                PrimitiveSubscriber.class.getDeclaredMethod(name, parameterTypes),
+                parameterTypes[0],
+                "ring",
+                mode,
+                0,
+                false,
+                0,
+                "",
+                ExceptionPolicy.THROW);
+    }
+
+    private static SubscriberDefinition typedDefinition(TestSubscriber subscriber, String eventType)
+            throws NoSuchMethodException {
+        return new SubscriberDefinition(
+                subscriber,
+                "subscriber-" + eventType,
+                TestSubscriber.class.getDeclaredMethod("handle", String.class),
+                String.class,
+                "ring",
+                Concurrency.MODE_HANDLER,
+                0,
+                false,
+                0,
+                eventType,
+                ExceptionPolicy.THROW);
+    }
+
+    public static class PrimitiveSubscriber {
+        private final List<String> calls = new ArrayList<>();
+
+        public void onId(long id) {
+            calls.add("id=" + id);
+        }
+
+        public void onFill(long quantity, long price) {
+            calls.add("fill=" + quantity + "/" + price);
+        }
+
+        public void onPrice(double price) {
+            calls.add("price=" + price);
+        }
+
+        public void onObject(Object value) {
+            calls.add("object=" + value);
+        }
+    }
+
     public static class TestSubscriber {
         private final List<String> payloads = new ArrayList<>();
         private final List<List<String>> batches = new ArrayList<>();
@@ -458,6 +1015,15 @@ class HandlerAdapterTest {
         }
 
         public void handleBatch(List<String> payloads) {
+            // Batches are reused views, so keep a copy.
+            batches.add(new ArrayList<>(payloads));
+        }
+    }
+
+    public static class RetainingBatchSubscriber {
+        private final List<List<Object>> batches = new ArrayList<>();
+
+        public void handleBatch(List<Object> payloads) {
             batches.add(payloads);
         }
     }
@@ -471,7 +1037,7 @@ class HandlerAdapterTest {
                 fail = false;
                 throw new IllegalStateException("boom");
             }
-            batches.add(payloads);
+            batches.add(new ArrayList<>(payloads));
         }
     }
 
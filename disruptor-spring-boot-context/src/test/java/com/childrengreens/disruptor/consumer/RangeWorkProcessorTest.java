@@ -0,0 +1,135 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.disruptor.consumer;
+
+import com.childrengreens.disruptor.core.DisruptorEvent;
+import com.childrengreens.disruptor.core.DisruptorEventFactory;
+import com.lmax.disruptor.EventHandler;
+import com.lmax.disruptor.ExceptionHandler;
+import com.lmax.disruptor.FatalExceptionHandler;
+import com.lmax.disruptor.RingBuffer;
+import com.lmax.disruptor.Sequence;
+import com.lmax.disruptor.YieldingWaitStrategy;
+import com.lmax.disruptor.dsl.Disruptor;
+import com.lmax.disruptor.dsl.ProducerType;
+import com.lmax.disruptor.util.DaemonThreadFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RangeWorkProcessorTest {
+    private static final int EVENTS = 20_000;
+
+    @Test
+    void handlesEveryEventExactlyOnceAcrossWorkers() throws Exception {
+        AtomicIntegerArray handled = new AtomicIntegerArray(EVENTS);
+        AtomicLong endOfBatches = new AtomicLong();
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        CountDownLatch done = new CountDownLatch(EVENTS);
+        EventHandler<DisruptorEvent> handler = (event, sequence, endOfBatch) -> {
+            handled.incrementAndGet((Integer) event.getPayload());
+            threads.add(Thread.currentThread().getName());
+            if (endOfBatch) {
+                endOfBatches.incrementAndGet();
+            }
+            done.countDown();
+        };
+        // A small ring wraps many times, so handled counts also prove the workers gate the producer.
+        Disruptor<DisruptorEvent> disruptor = new Disruptor<>(
+                new DisruptorEventFactory(), 64, DaemonThreadFactory.INSTANCE,
+                ProducerType.SINGLE, new YieldingWaitStrategy());
+        @SuppressWarnings("unchecked")
+        EventHandler<DisruptorEvent>[] handlers = new EventHandler[]{handler, handler, handler, handler};
+        new WorkerPoolSupport().handleWithRangeWorkers(disruptor, handlers, 8, new FatalExceptionHandler());
+        RingBuffer<DisruptorEvent> ringBuffer = disruptor.start();
+        try {
+            for (int i = 0; i < EVENTS; i++) {
+                ringBuffer.publishEvent((event, sequence, value) -> event.setPayload(value), i);
+            }
+            assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            disruptor.shutdown();
+        }
+
+        for (int i = 0; i < EVENTS; i++) {
+            assertThat(handled.get(i)).as("event %d", i).isEqualTo(1);
+        }
+        assertThat(endOfBatches.get()).isPositive().isLessThanOrEqualTo(EVENTS);
+        assertThat(threads).isNotEmpty();
+    }
+
+    @Test
+    void reportsHandlerFailuresAndKeepsGoing() throws Exception {
+        CountDownLatch done = new CountDownLatch(3);
+        AtomicLong failures = new AtomicLong();
+        ExceptionHandler<DisruptorEvent> exceptionHandler = new ExceptionHandler<>() {
+            @Override
+            public void handleEventException(Throwable ex, long sequence, DisruptorEvent event) {
+                failures.incrementAndGet();
+            }
+
+            @Override
+            public void handleOnStartException(Throwable ex) {
+            }
+
+            @Override
+            public void handleOnShutdownException(Throwable ex) {
+            }
+        };
+        Disruptor<DisruptorEvent> disruptor = new Disruptor<>(
+                new DisruptorEventFactory(), 8, DaemonThreadFactory.INSTANCE,
+                ProducerType.SINGLE, new YieldingWaitStrategy());
+        EventHandler<DisruptorEvent> failing = (event, sequence, endOfBatch) -> {
+            done.countDown();
+            if (sequence == 1) {
+                throw new IllegalStateException("boom");
+            }
+        };
+        @SuppressWarnings("unchecked")
+        EventHandler<DisruptorEvent>[] handlers = new EventHandler[]{failing};
+        new WorkerPoolSupport().handleWithRangeWorkers(disruptor, handlers, 4, exceptionHandler);
+        RingBuffer<DisruptorEvent> ringBuffer = disruptor.start();
+        try {
+            for (int i = 0; i < 3; i++) {
+                ringBuffer.publishEvent((event, sequence) -> event.setPayload(sequence));
+            }
+            assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            disruptor.shutdown();
+        }
+
+        assertThat(failures.get()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsNonPositiveClaimSize() {
+        RingBuffer<DisruptorEvent> ringBuffer = RingBuffer.createSingleProducer(new DisruptorEventFactory(), 8);
+
+        assertThatThrownBy(() -> new RangeWorkProcessor(
+                ringBuffer, ringBuffer.newBarrier(), (event, sequence, endOfBatch) -> {
+                }, new FatalExceptionHandler(), new Sequence(), 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("claimSize must be at least 1");
+    }
+}
@@ -66,16 +66,93 @@ class SubscriberBeanPostProcessorTest {
     }
 
     @Test
-    void skipsBatchWorkerSubscriber() {
+    void registersBatchWorkerSubscriber() {
         SubscriberRegistry registry = new SubscriberRegistry();
         SubscriberBeanPostProcessor processor = new SubscriberBeanPostProcessor(registry);
 
         BatchWorkerSubscriber bean = new BatchWorkerSubscriber();
         processor.postProcessAfterInitialization(bean, "batchWorker");
 
-        assertThat(registry.getDefinitions()).isEmpty();
+        assertThat(registry.getDefinitions()).singleElement()
+                .satisfies(definition -> {
+                    assertThat(definition.mode()).isEqualTo(Concurrency.MODE_WORKER);
+                    assertThat(definition.batch()).isTrue();
+                });
+    }
+
+    @Test
+    void registersPrimitiveSubscribers() {
+        SubscriberRegistry registry = new SubscriberRegistry();
+        SubscriberBeanPostProcessor processor = new SubscriberBeanPostProcessor(registry);
+
+        processor.postProcessAfterInitialization(new PrimitiveSubscriber(), "primitive");
+
+        assertThat(registry.getDefinitions())
+                .extracting(definition -> definition.method().getName())
+                .containsExactlyInAnyOrder("onId", "onFill");
+        assertThat(registry.getDefinitions())
+                .anyMatch(definition -> definition.eventClass() == long.class);
+    }
+
+    @Test
+    void parsesConcurrencyAndSkipsInvalidValues() {
+        SubscriberRegistry registry = new SubscriberRegistry();
+        SubscriberBeanPostProcessor processor = new SubscriberBeanPostProcessor(registry);
+
+        processor.postProcessAfterInitialization(new KeyedSubscriber(), "keyed");
+
+        assertThat(registry.getDefinitions()).hasSize(2);
+        assertThat(registry.getDefinitions())
+                .anyMatch(definition -> "onEntry".equals(definition.method().getName())
+                        && definition.mode() == Concurrency.MODE_KEYED
+                        && definition.concurrency() == 4);
+        assertThat(registry.getDefinitions())
+                .anyMatch(definition -> "onDefault".equals(definition.method().getName())
+                        && definition.concurrency() == 0);
+    }
+
+    @Test
+    void parsesDependenciesAndSkipsWorkersWithAfter() {
+        SubscriberRegistry registry = new SubscriberRegistry();
+        SubscriberBeanPostProcessor processor = new SubscriberBeanPostProcessor(registry);
+
+        processor.postProcessAfterInitialization(new DependentSubscriber(), "dependent");
+
+        assertThat(registry.getDefinitions()).hasSize(2);
+        assertThat(registry.getDefinitions())
+                .anyMatch(definition -> "journal".equals(definition.id()) && definition.after().isEmpty());
+        assertThat(registry.getDefinitions())
+                .anyMatch(definition -> "onBusiness".equals(definition.method().getName())
+                        && definition.id().isEmpty()
+                        && definition.after().equals(List.of("journal", "replicate")));
+    }
+
+    @Test
+    void parsesBatchTimeoutAndSkipsInvalidValues() {
+        SubscriberRegistry registry = new SubscriberRegistry();
+        SubscriberBeanPostProcessor processor = new SubscriberBeanPostProcessor(registry);
+
+        processor.postProcessAfterInitialization(new TimedBatchSubscriber(), "timedBatch");
+
+        assertThat(registry.getDefinitions()).singleElement()
+                .satisfies(definition -> {
+                    assertThat(definition.method().getName()).isEqualTo("onRows");
+                    assertThat(definition.batchTimeoutNanos()).isEqualTo(50_000_000L);
+                    assertThat(definition.copyBatch()).isTrue();
+                });
     }
 
+    @Test
+    void sizesAutoConcurrencyFromAvailableProcessors() {
+        SubscriberRegistry registry = new SubscriberRegistry();
+        SubscriberBeanPostProcessor processor = new SubscriberBeanPostProcessor(registry);
+
+        processor.postProcessAfterInitialization(new AutoWorkerSubscriber(), "autoWorker");
+
+        assertThat(registry.getDefinitions()).singleElement()
+                .satisfies(definition -> assertThat(definition.concurrency())
+                        .isEqualTo(Runtime.getRuntime().availableProcessors()));
+    }
 
     static class ValidSubscriber {
         @DisruptorSubscriber(ring = "ringA", mode = Concurrency.MODE_HANDLER)
@@ -96,6 +173,76 @@ class SubscriberBeanPostProcessorTest {
         }
     }
 
+    static class PrimitiveSubscriber {
+        @DisruptorSubscriber
+        public void onId(long id) {
+        }
+
+        @DisruptorSubscriber
+        public void onFill(long quantity, long price) {
+        }
+
+        @DisruptorSubscriber
+        public void onMixed(long id, String note) {
+        }
+    }
+
+    static class DependentSubscriber {
+        @DisruptorSubscriber(id = "journal")
+        public void onJournal(String entry) {
+        }
+
+        @DisruptorSubscriber(after = {"journal", "replicate"})
+        public void onBusiness(String entry) {
+        }
+
+        @DisruptorSubscriber(mode = Concurrency.MODE_WORKER, after = "journal")
+        public void onWorker(String entry) {
+        }
+
+        @DisruptorSubscriber(after = " ")
+        public void onBlank(String entry) {
+        }
+    }
+
+    static class KeyedSubscriber {
+        @DisruptorSubscriber(mode = Concurrency.MODE_KEYED, concurrency = " 4 ")
+        public void onEntry(String entry) {
+        }
+
+        @DisruptorSubscriber(mode = Concurrency.MODE_KEYED)
+        public void onDefault(String entry) {
+        }
+
+        @DisruptorSubscriber(mode = Concurrency.MODE_KEYED, concurrency = "0")
+        public void onZero(String entry) {
+        }
+
+        @DisruptorSubscriber(mode = Concurrency.MODE_KEYED, concurrency = "many")
+        public void onInvalid(String entry) {
+        }
+    }
+
+    static class TimedBatchSubscriber {
+        @DisruptorSubscriber(batch = true, batchSize = 500, batchTimeout = "50ms", copyBatch = true)
+        public void onRows(List<String> rows) {
+        }
+
+        @DisruptorSubscriber(batch = true, batchTimeout = "soon")
+        public void onInvalid(List<String> rows) {
+        }
+
+        @DisruptorSubscriber(batchTimeout = "50ms")
+        public void onSingle(String row) {
+        }
+    }
+
+    static class AutoWorkerSubscriber {
+        @DisruptorSubscriber(mode = Concurrency.MODE_WORKER, concurrency = Concurrency.AUTO)
+        public void onJob(String job) {
+        }
+    }
+
     static class BatchWorkerSubscriber {
         @DisruptorSubscriber(batch = true, mode = Concurrency.MODE_WORKER)
         public void handle(List<String> payloads) {
@@ -59,6 +59,25 @@ class SubscriberDefinitionTest {
         assertThat(definition.getHandlerId()).isEqualTo("beanName#sample");
     }
 
+    @Test
+    void defaultsToNoIdDependenciesOrGroup() {
+        SubscriberDefinition definition = new SubscriberDefinition(
+                new Object(),
+                "beanName",
+                null,
+                Object.class,
+                "ring",
+                Concurrency.MODE_HANDLER,
+                0,
+                false,
+                0,
+                "",
+                ExceptionPolicy.DELEGATE);
+        assertThat(definition.id()).isEmpty();
+        assertThat(definition.after()).isEmpty();
+        assertThat(definition.group()).isEmpty();
+    }
+
     private void sample(String payload) {
     }
 }
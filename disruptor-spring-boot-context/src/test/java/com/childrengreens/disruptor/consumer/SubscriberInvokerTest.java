@@ -0,0 +1,105 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.disruptor.consumer;
+
+import com.childrengreens.disruptor.core.DisruptorEvent;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SubscriberInvokerTest {
+    @Test
+    void generatesConsumersForNonPublicSubscribers() throws Exception {
+        HiddenSubscriber subscriber = new HiddenSubscriber();
+        Consumer<Object> consumer = SubscriberInvoker.consumer(
+                subscriber, HiddenSubscriber.class.getDeclaredMethod("onText", String.class));
+
+        consumer.accept("a");
+
+        assertThat(Proxy.isProxyClass(consumer.getClass())).isFalse();
+        assertThat(subscriber.calls).containsExactly("text=a");
+    }
+
+    @Test
+    void generatesLongPairConsumers() throws Throwable {
+        HiddenSubscriber subscriber = new HiddenSubscriber();
+        SubscriberInvoker.LongPairConsumer consumer = SubscriberInvoker.longPairConsumer(
+                subscriber, HiddenSubscriber.class.getDeclaredMethod("onFill", long.class, long.class));
+        SubscriberInvoker invoker = SubscriberInvoker.of(
+                subscriber, HiddenSubscriber.class.getDeclaredMethod("onFill", long.class, long.class));
+        DisruptorEvent event = new DisruptorEvent();
+        event.setLongValues(7L, -3L);
+
+        consumer.accept(1L, 2L);
+        invoker.invoke(event);
+
+        assertThat(Proxy.isProxyClass(consumer.getClass())).isFalse();
+        assertThat(subscriber.calls).containsExactly("fill=1/2", "fill=7/-3");
+    }
+
+    @Test
+    void unboxesPrimitiveParametersOtherThanLongAndDouble() throws Throwable {
+        HiddenSubscriber subscriber = new HiddenSubscriber();
+        SubscriberInvoker invoker = SubscriberInvoker.of(
+                subscriber, HiddenSubscriber.class.getDeclaredMethod("onCount", int.class));
+        DisruptorEvent event = new DisruptorEvent();
+        event.setPayload(3);
+
+        invoker.invoke(event);
+
+        assertThat(subscriber.calls).containsExactly("count=3");
+    }
+
+    @Test
+    void propagatesCheckedExceptionsUnwrapped() throws Exception {
+        HiddenSubscriber subscriber = new HiddenSubscriber();
+        SubscriberInvoker invoker = SubscriberInvoker.of(
+                subscriber, HiddenSubscriber.class.getDeclaredMethod("onFailure", String.class));
+        DisruptorEvent event = new DisruptorEvent();
+        event.setPayload("x");
+
+        assertThatThrownBy(() -> invoker.invoke(event))
+                .isInstanceOf(IOException.class)
+                .hasMessage("x");
+    }
+
+    private static final class HiddenSubscriber {
+        private final List<String> calls = new ArrayList<>();
+
+        private void onText(String text) {
+            calls.add("text=" + text);
+        }
+
+        private void onFill(long quantity, long price) {
+            calls.add("fill=" + quantity + "/" + price);
+        }
+
+        void onCount(int count) {
+            calls.add("count=" + count);
+        }
+
+        void onFailure(String message) throws IOException {
+            throw new IOException(message);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.disruptor.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachedClockTest {
+    @Test
+    void advancesUntilClosed() throws Exception {
+        CachedClock clock = new CachedClock("test-clock", Duration.ofMillis(1));
+        long first = clock.nanoTime();
+        long deadline = System.nanoTime() + Duration.ofSeconds(2).toNanos();
+        while (clock.nanoTime() == first && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertThat(clock.nanoTime()).isGreaterThan(first);
+
+        clock.close();
+        Thread.sleep(50);
+        long stopped = clock.nanoTime();
+        Thread.sleep(20);
+        assertThat(clock.nanoTime()).isEqualTo(stopped);
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.disruptor.core;
+
+import com.lmax.disruptor.RingBuffer;
+import com.lmax.disruptor.Sequence;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CapacityWaiterTest {
+    @Test
+    void claimsImmediatelyWhenCapacityIsAvailable() {
+        RingBuffer<DisruptorEvent> ringBuffer =
+                RingBuffer.createMultiProducer(new DisruptorEventFactory(), 4);
+
+        assertThat(CapacityWaiter.tryClaim(ringBuffer, 2)).isEqualTo(1);
+        assertThat(CapacityWaiter.claim(ringBuffer, 2, 0)).isEqualTo(3);
+    }
+
+    @Test
+    void returnsNoCapacityOnceDeadlinePasses() {
+        RingBuffer<DisruptorEvent> ringBuffer = fullRingBuffer(new Sequence());
+
+        long start = System.nanoTime();
+        long result = CapacityWaiter.claim(ringBuffer, 1, TimeUnit.MILLISECONDS.toNanos(20));
+        long elapsed = System.nanoTime() - start;
+
+        assertThat(result).isEqualTo(CapacityWaiter.NO_CAPACITY);
+        assertThat(elapsed).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(20));
+        assertThat(elapsed).isLessThan(TimeUnit.SECONDS.toNanos(1));
+        assertThat(CapacityWaiter.tryClaim(ringBuffer, 1)).isEqualTo(CapacityWaiter.NO_CAPACITY);
+    }
+
+    @Test
+    void claimsOnceConsumerFreesASlot() throws Exception {
+        Sequence consumer = new Sequence();
+        RingBuffer<DisruptorEvent> ringBuffer = fullRingBuffer(consumer);
+
+        Thread release = new Thread(() -> {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(5));
+            consumer.set(0);
+        });
+        release.start();
+        long result = CapacityWaiter.claim(ringBuffer, 1, TimeUnit.SECONDS.toNanos(5));
+        release.join();
+
+        assertThat(result).isEqualTo(2);
+    }
+
+    @Test
+    void toleratesUnboundedTimeout() {
+        RingBuffer<DisruptorEvent> ringBuffer =
+                RingBuffer.createMultiProducer(new DisruptorEventFactory(), 2);
+
+        assertThat(CapacityWaiter.claim(ringBuffer, 1, Long.MAX_VALUE)).isZero();
+    }
+
+    private static RingBuffer<DisruptorEvent> fullRingBuffer(Sequence consumer) {
+        RingBuffer<DisruptorEvent> ringBuffer =
+                RingBuffer.createMultiProducer(new DisruptorEventFactory(), 2);
+        ringBuffer.addGatingSequences(consumer);
+        ringBuffer.publish(ringBuffer.next(2));
+        return ringBuffer;
+    }
+}
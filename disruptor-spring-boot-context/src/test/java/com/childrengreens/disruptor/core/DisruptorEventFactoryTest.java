@@ -15,6 +15,9 @@
  */
 package com.childrengreens.disruptor.core;
 
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -29,4 +32,39 @@ class DisruptorEventFactoryTest {
         assertThat(second).isNotNull();
         assertThat(second).isNotSameAs(first);
     }
+
+    @Test
+    void preallocatesPayloadPerSlot() {
+        DisruptorEventFactory factory = new DisruptorEventFactory(StringBuilder::new);
+        DisruptorEvent first = factory.newInstance();
+        DisruptorEvent second = factory.newInstance();
+        Object payload = first.getPayload();
+
+        assertThat(first.isPreallocated()).isTrue();
+        assertThat(payload).isInstanceOf(StringBuilder.class).isNotSameAs(second.getPayload());
+
+        first.setEventType("type");
+        first.clear();
+        assertThat(first.getPayload()).isSameAs(payload);
+        assertThat(first.getEventType()).isNull();
+        assertThat(new DisruptorEventFactory().newInstance().isPreallocated()).isFalse();
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void derivesWallClockCreationTimeFromTheRingClock() {
+        AtomicLong nanos = new AtomicLong(TimeUnit.SECONDS.toNanos(1));
+        DisruptorEvent event = new DisruptorEventFactory(null, nanos::get).newInstance();
+        assertThat(event.getCreatedAt()).isZero();
+
+        event.stamp();
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(60));
+        long expected = System.currentTimeMillis() - TimeUnit.SECONDS.toMillis(60);
+        assertThat(event.getCreatedAt()).isBetween(expected - 1_000L, expected + 1_000L);
+
+        event.setCreatedAt(123L);
+        assertThat(event.getCreatedAt()).isEqualTo(123L);
+        event.clear();
+        assertThat(event.getCreatedAt()).isZero();
+    }
 }
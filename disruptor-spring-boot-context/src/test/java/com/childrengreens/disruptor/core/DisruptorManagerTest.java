@@ -16,13 +16,17 @@
 package com.childrengreens.disruptor.core;
 
 import com.childrengreens.disruptor.annotation.Concurrency;
+import com.childrengreens.disruptor.annotation.DisruptorKey;
 import com.childrengreens.disruptor.annotation.ExceptionPolicy;
 import com.childrengreens.disruptor.consumer.ExceptionHandlerSupport;
 import com.childrengreens.disruptor.consumer.HandlerAdapter;
 import com.childrengreens.disruptor.consumer.SubscriberDefinition;
 import com.childrengreens.disruptor.consumer.SubscriberRegistry;
 import com.childrengreens.disruptor.consumer.WorkerPoolSupport;
+import com.childrengreens.disruptor.properties.BackpressurePolicy;
+import com.childrengreens.disruptor.properties.ClockType;
 import com.childrengreens.disruptor.properties.DisruptorProperties;
+import com.childrengreens.disruptor.properties.DispatchMode;
 import com.childrengreens.disruptor.properties.RingProperties;
 import com.childrengreens.disruptor.properties.ShutdownStrategy;
 import com.childrengreens.disruptor.properties.WaitStrategyType;
@@ -32,14 +36,26 @@ import com.lmax.disruptor.EventHandler;
 import com.lmax.disruptor.LiteBlockingWaitStrategy;
 import com.lmax.disruptor.LiteTimeoutBlockingWaitStrategy;
 import com.lmax.disruptor.PhasedBackoffWaitStrategy;
+import com.lmax.disruptor.RingBuffer;
 import com.lmax.disruptor.SleepingWaitStrategy;
 import com.lmax.disruptor.TimeoutBlockingWaitStrategy;
 import com.lmax.disruptor.WaitStrategy;
+import com.lmax.disruptor.WorkHandler;
 import com.lmax.disruptor.YieldingWaitStrategy;
 import org.junit.jupiter.api.Test;
 
+import java.lang.ref.WeakReference;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -91,6 +107,776 @@ class DisruptorManagerTest {
                 .hasMessageContaining("bufferSize must be a power of two");
     }
 
+    @Test
+    void startRejectsEventClassWithoutNoArgConstructor() {
+        DisruptorProperties properties = new DisruptorProperties();
+        RingProperties ring = new RingProperties();
+        ring.setEventClass(Number.class);
+        properties.setRings(Map.of("bad", ring));
+        DisruptorManager manager = newManager(properties, new SubscriberRegistry());
+
+        assertThatThrownBy(manager::start)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("eventClass must be a concrete class with a no-arg constructor");
+    }
+
+    @Test
+    void startRejectsCustomClockWithoutClockBean() {
+        DisruptorProperties properties = new DisruptorProperties();
+        RingProperties ring = new RingProperties();
+        ring.setClock(ClockType.CUSTOM);
+        properties.setRings(Map.of("bad", ring));
+        DisruptorManager manager = newManager(properties, new SubscriberRegistry());
+
+        assertThatThrownBy(manager::start)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("no DisruptorClock is configured");
+    }
+
+    @Test
+    void eventsUseTheClockConfiguredPerRing() {
+        DisruptorProperties properties = new DisruptorProperties();
+        RingProperties custom = new RingProperties();
+        custom.setClock(ClockType.CUSTOM);
+        RingProperties disabled = new RingProperties();
+        disabled.setClock(ClockType.DISABLED);
+        RingProperties cached = new RingProperties();
+        cached.setClock(ClockType.CACHED);
+        properties.setRings(Map.of("custom", custom, "disabled", disabled, "cached", cached));
+        SubscriberRegistry registry = new SubscriberRegistry();
+        for (String ring : List.of("custom", "disabled", "cached")) {
+            registry.register(handlerDefinition(new NoopEventHandler(), ring, 0));
+        }
+        DisruptorClock clock = () -> 42L;
+
+        DisruptorManager manager = newManager(properties, registry);
+        manager.setCustomClock(clock);
+        manager.start();
+        try {
+            assertThat(manager.getRingBuffer("custom").get(0).getClock()).isSameAs(clock);
+            assertThat(manager.getRingBuffer("disabled").get(0).getClock()).isSameAs(DisruptorClock.DISABLED);
+            assertThat(manager.getRingBuffer("cached").get(0).getClock()).isInstanceOf(CachedClock.class);
+        } finally {
+            manager.stop(Duration.ofMillis(100), ShutdownStrategy.HALT);
+        }
+    }
+
+    @Test
+    void startRejectsInvalidShardCounts() {
+        RingProperties none = new RingProperties();
+        none.setShards(0);
+        DisruptorProperties properties = new DisruptorProperties();
+        properties.setRings(Map.of("bad", none));
+
+        assertThatThrownBy(newManager(properties, new SubscriberRegistry())::start)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("shards must be at least 1");
+
+        RingProperties preallocated = new RingProperties();
+        preallocated.setShards(2);
+        preallocated.setEventClass(Object.class);
+        properties.setRings(Map.of("bad", preallocated));
+
+        assertThatThrownBy(newManager(properties, new SubscriberRegistry())::start)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("cannot combine an eventClass with shards");
+    }
+
+    @Test
+    void startRejectsInvalidConcurrency() {
+        RingProperties ring = new RingProperties();
+        ring.setConcurrency("0");
+        DisruptorProperties properties = new DisruptorProperties();
+        properties.setRings(Map.of("bad", ring));
+
+        assertThatThrownBy(newManager(properties, new SubscriberRegistry())::start)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("concurrency must be a positive number or 'auto'");
+    }
+
+    @Test
+    void dependentSubscribersOnlyWaitForTheSubscribersTheyName() throws Exception {
+        CountDownLatch journalReleased = new CountDownLatch(1);
+        CountDownLatch auditDone = new CountDownLatch(1);
+        CountDownLatch businessDone = new CountDownLatch(1);
+        List<String> seen = new CopyOnWriteArrayList<>();
+        SubscriberRegistry registry = new SubscriberRegistry();
+        registry.register(dependentDefinition((EventHandler<DisruptorEvent>) (event, sequence, endOfBatch) -> {
+            journalReleased.await(5, TimeUnit.SECONDS);
+            seen.add("journal");
+        }, "journal"));
+        registry.register(dependentDefinition((EventHandler<DisruptorEvent>) (event, sequence, endOfBatch) ->
+                seen.add("replicate"), "replicate"));
+        registry.register(dependentDefinition((EventHandler<DisruptorEvent>) (event, sequence, endOfBatch) -> {
+            seen.add("audit");
+            auditDone.countDown();
+        }, "audit", "replicate"));
+        registry.register(dependentDefinition((EventHandler<DisruptorEvent>) (event, sequence, endOfBatch) -> {
+            seen.add("business");
+            businessDone.countDown();
+        }, "business", "journal", "replicate"));
+        DisruptorProperties properties = new DisruptorProperties();
+        properties.setRings(Map.of("dag", new RingProperties()));
+
+        DisruptorManager manager = newManager(properties, registry);
+        DisruptorTemplate template = new DisruptorTemplate(manager, List.of(), null);
+        manager.start();
+        try {
+            template.publish("dag", "event");
+            // The replicate branch completes while the journal is still busy.
+            assertThat(auditDone.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(seen).doesNotContain("journal", "business");
+            journalReleased.countDown();
+            assertThat(businessDone.await(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            manager.stop(Duration.ofMillis(100), ShutdownStrategy.DRAIN);
+        }
+        assertThat(seen.indexOf("business")).isGreaterThan(seen.indexOf("journal"));
+        assertThat(seen.indexOf("audit")).isGreaterThan(seen.indexOf("replicate"));
+    }
+
+    @Test
+    void startRejectsInvalidDependencies() {
+        DisruptorProperties properties = new DisruptorProperties();
+        properties.setRings(Map.of("dag", new RingProperties()));
+        EventHandler<DisruptorEvent> handler = (event, sequence, endOfBatch) -> {
+        };
+
+        SubscriberRegistry unknown = new SubscriberRegistry();
+        unknown.register(dependentDefinition(handler, "a", "missing"));
+        assertThatThrownBy(newManager(properties, unknown)::start)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("depends on unknown subscriber id 'missing'");
+
+        SubscriberRegistry cycle = new SubscriberRegistry();
+        cycle.register(dependentDefinition(handler, "a", "b"));
+        cycle.register(dependentDefinition(handler, "b", "a"));
+        assertThatThrownBy(newManager(properties, cycle)::start)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("dependency cycle");
+
+        SubscriberRegistry duplicate = new SubscriberRegistry();
+        duplicate.register(dependentDefinition(handler, "a"));
+        duplicate.register(dependentDefinition(handler, "a"));
+        assertThatThrownBy(newManager(properties, duplicate)::start)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("subscriber id 'a' is used by both");
+    }
+
+    @Test
+    void workerSubscribersRunOnConfiguredNumberOfThreads() throws Exception {
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        CountDownLatch allBusy = new CountDownLatch(5);
+        WorkHandler<DisruptorEvent> blockOncePerThread = event -> {
+            if (threads.add(Thread.currentThread().getName())) {
+                allBusy.countDown();
+                allBusy.await(5, TimeUnit.SECONDS);
+            }
+        };
+        SubscriberRegistry registry = new SubscriberRegistry();
+        registry.register(workerDefinition(blockOncePerThread, "jobs", 3));
+        registry.register(workerDefinition(blockOncePerThread, "jobs", 0));
+        RingProperties ring = new RingProperties();
+        ring.setConcurrency("2");
+        DisruptorProperties properties = new DisruptorProperties();
+        properties.setRings(Map.of("jobs", ring));
+
+        DisruptorManager manager = newManager(properties, registry);
+        DisruptorTemplate template = new DisruptorTemplate(manager, List.of(), null);
+        manager.start();
+        try {
+            for (int i = 0; i < 5; i++) {
+                template.publish("jobs", i);
+            }
+            assertThat(allBusy.await(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            manager.stop(Duration.ofMillis(100), ShutdownStrategy.DRAIN);
+        }
+
+        assertThat(threads).hasSize(5);
+    }
+
+    @Test
+    void workerPoolsRunAsAnOrderedStageBetweenHandlers() throws Exception {
+        for (int claimSize : new int[] {0, 4}) {
+            Set<Object> enriched = ConcurrentHashMap.newKeySet();
+            Set<Object> processed = ConcurrentHashMap.newKeySet();
+            List<Object> outOfOrder = new CopyOnWriteArrayList<>();
+            CountDownLatch latch = new CountDownLatch(200);
+            SubscriberRegistry registry = new SubscriberRegistry();
+            registry.register(handlerDefinition(
+                    (EventHandler<DisruptorEvent>) (event, sequence, endOfBatch) -> enriched.add(event.getPayload()),
+                    "pipeline",
+                    0));
+            registry.register(workerDefinition((WorkHandler<DisruptorEvent>) event -> {
+                if (!enriched.contains(event.getPayload())) {
+                    outOfOrder.add(event.getPayload());
+                }
+                processed.add(event.getPayload());
+            }, "pipeline", 1, 3));
+            registry.register(handlerDefinition(
+                    (EventHandler<DisruptorEvent>) (event, sequence, endOfBatch) -> {
+                        // Workers ahead of this stage must neither be pending nor clear the slot.
+                        if (event.getPayload() == null || !processed.contains(event.getPayload())) {
+                            outOfOrder.add(sequence);
+                        }
+                        latch.countDown();
+                    },
+                    "pipeline",
+                    2));
+            RingProperties ring = new RingProperties();
+            ring.setBufferSize(64);
+            ring.setWorkerClaimSize(claimSize);
+            DisruptorProperties properties = new DisruptorProperties();
+            properties.setRings(Map.of("pipeline", ring));
+
+            DisruptorManager manager = newManager(properties, registry);
+            DisruptorTemplate template = new DisruptorTemplate(manager, List.of(), null);
+            manager.start();
+            try {
+                for (int i = 0; i < 200; i++) {
+                    template.publish("pipeline", i);
+                }
+                assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+            } finally {
+                manager.stop(Duration.ofMillis(100), ShutdownStrategy.DRAIN);
+            }
+
+            assertThat(outOfOrder).isEmpty();
+            assertThat(processed).hasSize(200);
+        }
+    }
+
+    @Test
+    void laterWorkerPoolsSeeEveryPayloadOfAWorkerOnlyRing() throws Exception {
+        Set<Object> enriched = ConcurrentHashMap.newKeySet();
+        Set<Object> processed = ConcurrentHashMap.newKeySet();
+        CountDownLatch latch = new CountDownLatch(200);
+        SubscriberRegistry registry = new SubscriberRegistry();
+        registry.register(workerDefinition(
+                (WorkHandler<DisruptorEvent>) event -> enriched.add(event.getPayload()), "workers", 0, 2));
+        registry.register(workerDefinition((WorkHandler<DisruptorEvent>) event -> {
+            if (event.getPayload() != null && enriched.contains(event.getPayload())) {
+                processed.add(event.getPayload());
+            }
+            latch.countDown();
+        }, "workers", 1, 2));
+        RingProperties ring = new RingProperties();
+        ring.setBufferSize(64);
+        ring.setClearOnConsume(true);
+        DisruptorProperties properties = new DisruptorProperties();
+        properties.setRings(Map.of("workers", ring));
+
+        DisruptorManager manager = newManager(properties, registry);
+        DisruptorTemplate template = new DisruptorTemplate(manager, List.of(), null);
+        manager.start();
+        try {
+            for (int i = 0; i < 200; i++) {
+                template.publish("workers", i);
+            }
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            manager.stop(Duration.ofMillis(100), ShutdownStrategy.DRAIN);
+        }
+
+        assertThat(processed).hasSize(200);
+    }
+
+    @Test
+    void typeIndexedDispatchRunsEachStageOnOneThread() throws Exception {
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        List<Object> integers = new CopyOnWriteArrayList<>();
+        List<Object> strings = new CopyOnWriteArrayList<>();
+        List<Object> all = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(4);
+        SubscriberRegistry registry = new SubscriberRegistry();
+        registry.register(typedHandlerDefinition(recording(threads, integers, null), "typed", Integer.class));
+        registry.register(typedHandlerDefinition(recording(threads, strings, null), "typed", String.class));
+        registry.register(handlerDefinition(recording(threads, all, latch), "typed", 0));
+        RingProperties ring = new RingProperties();
+        ring.setDispatch(DispatchMode.TYPE_INDEXED);
+        DisruptorProperties properties = new DisruptorProperties();
+        properties.setRings(Map.of("typed", ring));
+
+        DisruptorManager manager = newManager(properties, registry);
+        DisruptorTemplate template = new DisruptorTemplate(manager, List.of(), null);
+        manager.start();
+        try {
+            template.publish("typed", 1);
+            template.publish("typed", "a");
+            template.publish("typed", 2);
+            template.publish("typed", 3L);
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            manager.stop(Duration.ofMillis(100), ShutdownStrategy.DRAIN);
+        }
+
+        assertThat(integers).containsExactly(1, 2);
+        assertThat(strings).containsExactly("a");
+        assertThat(all).containsExactly(1, "a", 2, 3L);
+        assertThat(threads).hasSize(1);
+    }
+
+    @Test
+    void stopClearsEventTypesAndRestartedRingsRouteByFreshIds() throws Exception {
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        List<Object> integers = new CopyOnWriteArrayList<>();
+        List<Object> all = new CopyOnWriteArrayList<>();
+        AtomicReference<CountDownLatch> latch = new AtomicReference<>();
+        EventHandler<DisruptorEvent> untyped = (event, sequence, endOfBatch) -> {
+            all.add(event.getPayload());
+            latch.get().countDown();
+        };
+        SubscriberRegistry registry = new SubscriberRegistry();
+        registry.register(typedHandlerDefinition(recording(threads, integers, null), "typed", Integer.class));
+        registry.register(handlerDefinition(untyped, "typed", 0));
+        RingProperties ring = new RingProperties();
+        ring.setDispatch(DispatchMode.TYPE_INDEXED);
+        DisruptorProperties properties = new DisruptorProperties();
+        properties.setRings(Map.of("typed", ring));
+        DisruptorManager manager = newManager(properties, registry);
+        DisruptorTemplate template = new DisruptorTemplate(manager, List.of(), null);
+
+        for (int run = 0; run < 2; run++) {
+            latch.set(new CountDownLatch(2));
+            manager.start();
+            try {
+                assertThat(manager.getEventTypeRegistry().size()).isEqualTo(1);
+                template.publish("typed", run);
+                template.publish("typed", "skip");
+                assertThat(latch.get().await(5, TimeUnit.SECONDS)).isTrue();
+            } finally {
+                manager.stop(Duration.ofSeconds(5), ShutdownStrategy.DRAIN);
+            }
+            assertThat(manager.getEventTypeRegistry().size()).isZero();
+        }
+
+        assertThat(integers).containsExactly(0, 1);
+        assertThat(all).containsExactly(0, "skip", 1, "skip");
+    }
+
+    @Test
+    void fusedGroupRunsItsSubscribersInSequenceOnOneThread() throws Exception {
+        Set<String> fusedThreads = ConcurrentHashMap.newKeySet();
+        Set<String> ownThreads = ConcurrentHashMap.newKeySet();
+        List<Object> first = new CopyOnWriteArrayList<>();
+        List<Object> second = new CopyOnWriteArrayList<>();
+        List<Object> own = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(6);
+        SubscriberRegistry registry = new SubscriberRegistry();
+        registry.register(groupedHandlerDefinition(recording(fusedThreads, first, latch), "fused", "light"));
+        registry.register(groupedHandlerDefinition(recording(fusedThreads, second, latch), "fused", "light"));
+        registry.register(handlerDefinition(recording(ownThreads, own, latch), "fused", 0));
+        DisruptorProperties properties = new DisruptorProperties();
+        properties.setRings(Map.of("fused", new RingProperties()));
+
+        DisruptorManager manager = newManager(properties, registry);
+        DisruptorTemplate template = new DisruptorTemplate(manager, List.of(), null);
+        manager.start();
+        try {
+            template.publish("fused", 1);
+            template.publish("fused", 2);
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            manager.stop(Duration.ofMillis(100), ShutdownStrategy.DRAIN);
+        }
+
+        assertThat(first).containsExactly(1, 2);
+        assertThat(second).containsExactly(1, 2);
+        assertThat(own).containsExactly(1, 2);
+        assertThat(fusedThreads).hasSize(1);
+        assertThat(ownThreads).hasSize(1).doesNotContainAnyElementsOf(fusedThreads);
+    }
+
+    @Test
+    void clearsConsumedSlotsSoPayloadsBecomeCollectable() throws Exception {
+        SubscriberRegistry registry = new SubscriberRegistry();
+        registry.register(handlerDefinition((EventHandler<DisruptorEvent>) (event, sequence, endOfBatch) -> {
+        }, "gc", 0));
+        registry.register(handlerDefinition((EventHandler<DisruptorEvent>) (event, sequence, endOfBatch) -> {
+        }, "gc", 1));
+        RingProperties ring = new RingProperties();
+        ring.setClearOnConsume(true);
+        DisruptorProperties properties = new DisruptorProperties();
+        properties.setRings(Map.of("gc", ring));
+
+        DisruptorManager manager = newManager(properties, registry);
+        DisruptorTemplate template = new DisruptorTemplate(manager, List.of(), null);
+        manager.start();
+        try {
+            WeakReference<Object> consumed = publishAndDrain(template, manager.getRingBuffer("gc"));
+            for (int i = 0; i < 50 && consumed.get() != null; i++) {
+                System.gc();
+                Thread.sleep(10);
+            }
+            assertThat(consumed.get()).isNull();
+            assertThat(manager.getRingBuffer("gc").get(0).getPayload()).isNull();
+        } finally {
+            manager.stop(Duration.ofMillis(100), ShutdownStrategy.DRAIN);
+        }
+    }
+
+    @Test
+    void keepsConsumedSlotsWhenClearOnConsumeIsDisabled() throws Exception {
+        SubscriberRegistry registry = new SubscriberRegistry();
+        registry.register(handlerDefinition((EventHandler<DisruptorEvent>) (event, sequence, endOfBatch) -> {
+        }, "gc", 0));
+        RingProperties ring = new RingProperties();
+        ring.setClearOnConsume(false);
+        DisruptorProperties properties = new DisruptorProperties();
+        properties.setRings(Map.of("gc", ring));
+
+        DisruptorManager manager = newManager(properties, registry);
+        DisruptorTemplate template = new DisruptorTemplate(manager, List.of(), null);
+        manager.start();
+        try {
+            WeakReference<Object> consumed = publishAndDrain(template, manager.getRingBuffer("gc"));
+            System.gc();
+            assertThat(consumed.get()).isNotNull();
+            assertThat(manager.getRingBuffer("gc").get(0).getPayload()).isSameAs(consumed.get());
+        } finally {
+            manager.stop(Duration.ofMillis(100), ShutdownStrategy.DRAIN);
+        }
+    }
+
+    @Test
+    void workersKeepConsumedSlotsWhenClearOnConsumeIsDisabled() throws Exception {
+        SubscriberRegistry registry = new SubscriberRegistry();
+        registry.register(workerDefinition((WorkHandler<DisruptorEvent>) event -> {
+        }, "gc", 1));
+        RingProperties ring = new RingProperties();
+        ring.setClearOnConsume(false);
+        DisruptorProperties properties = new DisruptorProperties();
+        properties.setRings(Map.of("gc", ring));
+
+        DisruptorManager manager = newManager(properties, registry);
+        DisruptorTemplate template = new DisruptorTemplate(manager, List.of(), null);
+        manager.start();
+        try {
+            WeakReference<Object> consumed = publishAndDrain(template, manager.getRingBuffer("gc"));
+            System.gc();
+            assertThat(consumed.get()).isNotNull();
+            assertThat(manager.getRingBuffer("gc").get(0).getPayload()).isSameAs(consumed.get());
+        } finally {
+            manager.stop(Duration.ofMillis(100), ShutdownStrategy.DRAIN);
+        }
+    }
+
+    /**
+     * Publish a fresh payload into slot 0 and wait until every consumer has passed it.
+     */
+    private static WeakReference<Object> publishAndDrain(
+            DisruptorTemplate template, RingBuffer<DisruptorEvent> ringBuffer) throws InterruptedException {
+        Object payload = new byte[1024];
+        WeakReference<Object> reference = new WeakReference<>(payload);
+        template.publish("gc", payload);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (ringBuffer.getMinimumGatingSequence() < 0L && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertThat(ringBuffer.getMinimumGatingSequence()).isZero();
+        return reference;
+    }
+
+    @Test
+    void rangeClaimingWorkersConsumeEveryEventOnce() throws Exception {
+        Set<Integer> seen = ConcurrentHashMap.newKeySet();
+        CountDownLatch latch = new CountDownLatch(1000);
+        WorkHandler<DisruptorEvent> worker = event -> {
+            if (seen.add((Integer) event.getPayload())) {
+                latch.countDown();
+            }
+        };
+        SubscriberRegistry registry = new SubscriberRegistry();
+        registry.register(workerDefinition(worker, "jobs", 3));
+        RingProperties ring = new RingProperties();
+        ring.setBufferSize(64);
+        ring.setWorkerClaimSize(8);
+        DisruptorProperties properties = new DisruptorProperties();
+        properties.setRings(Map.of("jobs", ring));
+
+        DisruptorManager manager = newManager(properties, registry);
+        DisruptorTemplate template = new DisruptorTemplate(manager, List.of(), null);
+        manager.start();
+        try {
+            for (int i = 0; i < 1000; i++) {
+                template.publish("jobs", i);
+            }
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            manager.stop(Duration.ofMillis(100), ShutdownStrategy.DRAIN);
+        }
+        assertThat(seen).hasSize(1000);
+
+        ring.setWorkerClaimSize(-1);
+        assertThatThrownBy(newManager(properties, registry)::start)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("workerClaimSize must not be negative");
+    }
+
+    @Test
+    void batchWorkersReceiveEveryEventInBoundedBatches() throws Exception {
+        BatchSink sink = new BatchSink();
+        SubscriberRegistry registry = new SubscriberRegistry();
+        registry.register(new SubscriberDefinition(
+                sink,
+                "sink",
+                BatchSink.class.getDeclaredMethod("insert", List.class),
+                List.class,
+                "rows",
+                Concurrency.MODE_WORKER,
+                0,
+                true,
+                10,
+                "",
+                ExceptionPolicy.DELEGATE,
+                2,
+                0L,
+                false,
+                "",
+                List.of(),
+                ""));
+
+        DisruptorManager manager = newManager(new DisruptorProperties(), registry);
+        DisruptorTemplate template = new DisruptorTemplate(manager, List.of(), null);
+        manager.start();
+        try {
+            for (int i = 0; i < 500; i++) {
+                template.publish("rows", i);
+            }
+            assertThat(sink.done.await(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            manager.stop(Duration.ofMillis(100), ShutdownStrategy.DRAIN);
+        }
+
+        assertThat(sink.rows).hasSize(500).doesNotHaveDuplicates();
+        assertThat(sink.batchSizes).allMatch(size -> size >= 1 && size <= 10);
+    }
+
+    @Test
+    void batchTimeoutFlushesPartialBatchWhileRingIsIdle() throws Exception {
+        BatchSink sink = new BatchSink();
+        SubscriberRegistry registry = new SubscriberRegistry();
+        registry.register(timedBatchDefinition(sink, "rows"));
+        RingProperties ring = new RingProperties();
+        ring.setWaitStrategy(WaitStrategyType.TIMEOUT_BLOCKING);
+        DisruptorProperties properties = new DisruptorProperties();
+        properties.setRings(Map.of("rows", ring));
+
+        DisruptorManager manager = newManager(properties, registry);
+        DisruptorTemplate template = new DisruptorTemplate(manager, List.of(), null);
+        manager.start();
+        try {
+            for (int i = 0; i < 500; i++) {
+                template.publish("rows", i);
+            }
+            assertThat(sink.done.await(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            manager.stop(Duration.ofMillis(100), ShutdownStrategy.DRAIN);
+        }
+
+        assertThat(sink.rows).hasSize(500);
+        assertThat(sink.batchSizes).allMatch(size -> size <= 1000);
+    }
+
+    @Test
+    void startRejectsBatchTimeoutWithoutTimeoutWaitStrategy() throws Exception {
+        SubscriberRegistry registry = new SubscriberRegistry();
+        registry.register(timedBatchDefinition(new BatchSink(), "rows"));
+
+        assertThatThrownBy(newManager(new DisruptorProperties(), registry)::start)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("needs a TIMEOUT_BLOCKING or LITE_TIMEOUT_BLOCKING wait strategy");
+    }
+
+    @Test
+    void shardedRingConsumesEachKeyInOrderOnOneThread() throws Exception {
+        RingProperties sharded = new RingProperties();
+        sharded.setShards(4);
+        DisruptorProperties properties = new DisruptorProperties();
+        properties.setRings(Map.of("orders", sharded));
+        Map<Long, List<Integer>> sequences = new ConcurrentHashMap<>();
+        Map<Long, Set<String>> threads = new ConcurrentHashMap<>();
+        CountDownLatch latch = new CountDownLatch(8 * 50);
+        SubscriberRegistry registry = new SubscriberRegistry();
+        registry.register(handlerDefinition(
+                (EventHandler<DisruptorEvent>) (event, sequence, endOfBatch) -> {
+                    KeyedOrder order = (KeyedOrder) event.getPayload();
+                    sequences.computeIfAbsent(order.account, key -> new CopyOnWriteArrayList<>()).add(order.seq);
+                    threads.computeIfAbsent(order.account, key -> ConcurrentHashMap.newKeySet())
+                            .add(Thread.currentThread().getName());
+                    latch.countDown();
+                },
+                "orders",
+                0));
+
+        DisruptorManager manager = newManager(properties, registry);
+        DisruptorTemplate template = new DisruptorTemplate(manager, List.of(), null);
+        manager.start();
+        try {
+            assertThat(manager.getShards("orders")).hasSize(4);
+            assertThat(manager.getRingBuffer("orders")).isSameAs(manager.getShards("orders").get(0));
+            for (int seq = 0; seq < 50; seq++) {
+                for (long account = 0; account < 8; account++) {
+                    template.publish("orders", new KeyedOrder(account, seq));
+                }
+            }
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            manager.stop(Duration.ofMillis(100), ShutdownStrategy.DRAIN);
+        }
+
+        Set<String> allThreads = new HashSet<>();
+        for (long account = 0; account < 8; account++) {
+            assertThat(sequences.get(account)).isSorted().hasSize(50);
+            assertThat(threads.get(account)).hasSize(1);
+            allThreads.addAll(threads.get(account));
+        }
+        assertThat(allThreads).hasSizeGreaterThan(1).allMatch(name -> name.startsWith("disruptor-orders-"));
+        assertThat(manager.getShards("orders")).isEmpty();
+    }
+
+    @Test
+    void keyedSubscriberConsumesEachKeyInOrderOnOneThread() throws Exception {
+        Map<Long, List<Integer>> sequences = new ConcurrentHashMap<>();
+        Map<Long, Set<String>> threads = new ConcurrentHashMap<>();
+        List<String> afterKeyed = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(8 * 50);
+        SubscriberRegistry registry = new SubscriberRegistry();
+        registry.register(new SubscriberDefinition(
+                (EventHandler<DisruptorEvent>) (event, sequence, endOfBatch) -> {
+                    KeyedOrder order = (KeyedOrder) event.getPayload();
+                    sequences.computeIfAbsent(order.account, key -> new CopyOnWriteArrayList<>()).add(order.seq);
+                    threads.computeIfAbsent(order.account, key -> ConcurrentHashMap.newKeySet())
+                            .add(Thread.currentThread().getName());
+                },
+                "ledger",
+                null,
+                DisruptorEvent.class,
+                "ledger",
+                Concurrency.MODE_KEYED,
+                0,
+                false,
+                0,
+                "",
+                ExceptionPolicy.DELEGATE,
+                4,
+                0L,
+                false,
+                "",
+                List.of(),
+                ""));
+        registry.register(handlerDefinition(
+                (EventHandler<DisruptorEvent>) (event, sequence, endOfBatch) -> {
+                    afterKeyed.add(Thread.currentThread().getName());
+                    latch.countDown();
+                },
+                "ledger",
+                1));
+
+        DisruptorManager manager = newManager(new DisruptorProperties(), registry);
+        DisruptorTemplate template = new DisruptorTemplate(manager, List.of(), null);
+        manager.start();
+        try {
+            for (int seq = 0; seq < 50; seq++) {
+                for (long account = 0; account < 8; account++) {
+                    template.publish("ledger", new KeyedOrder(account, seq));
+                }
+            }
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            manager.stop(Duration.ofMillis(100), ShutdownStrategy.DRAIN);
+        }
+
+        Set<String> keyedThreads = new HashSet<>();
+        for (long account = 0; account < 8; account++) {
+            assertThat(sequences.get(account)).isSorted().hasSize(50);
+            assertThat(threads.get(account)).hasSize(1);
+            keyedThreads.addAll(threads.get(account));
+        }
+        assertThat(keyedThreads).hasSizeGreaterThan(1);
+        assertThat(afterKeyed).hasSize(8 * 50).doesNotContainAnyElementsOf(keyedThreads);
+    }
+
+    @Test
+    void keyedPartitionsOfEveryShardReceiveEvents() throws Exception {
+        Set<String> keyedThreads = ConcurrentHashMap.newKeySet();
+        CountDownLatch latch = new CountDownLatch(64);
+        SubscriberRegistry registry = new SubscriberRegistry();
+        registry.register(new SubscriberDefinition(
+                (EventHandler<DisruptorEvent>) (event, sequence, endOfBatch) -> {
+                    keyedThreads.add(Thread.currentThread().getName());
+                    latch.countDown();
+                },
+                "ledger",
+                null,
+                DisruptorEvent.class,
+                "ledger",
+                Concurrency.MODE_KEYED,
+                0,
+                false,
+                0,
+                "",
+                ExceptionPolicy.DELEGATE,
+                2,
+                0L,
+                false,
+                "",
+                List.of(),
+                ""));
+        RingProperties ring = new RingProperties();
+        ring.setShards(2);
+        DisruptorProperties properties = new DisruptorProperties();
+        properties.setRings(Map.of("ledger", ring));
+
+        DisruptorManager manager = newManager(properties, registry);
+        DisruptorTemplate template = new DisruptorTemplate(manager, List.of(), null);
+        manager.start();
+        try {
+            for (long account = 0; account < 64; account++) {
+                template.publish("ledger", new KeyedOrder(account, 0));
+            }
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            manager.stop(Duration.ofMillis(100), ShutdownStrategy.DRAIN);
+        }
+
+        assertThat(keyedThreads).hasSize(4);
+    }
+
+    @Test
+    void callerRunsRingDispatchesInlineInSubscriberOrder() {
+        DisruptorProperties properties = new DisruptorProperties();
+        RingProperties callerRuns = new RingProperties();
+        callerRuns.setBackpressure(BackpressurePolicy.CALLER_RUNS);
+        properties.setRings(Map.of("alpha", callerRuns, "beta", new RingProperties()));
+        List<String> calls = new ArrayList<>();
+        SubscriberRegistry registry = new SubscriberRegistry();
+        registry.register(handlerDefinition(
+                (EventHandler<DisruptorEvent>) (event, sequence, endOfBatch) -> calls.add("second"),
+                "alpha",
+                1));
+        registry.register(handlerDefinition(
+                (EventHandler<DisruptorEvent>) (event, sequence, endOfBatch) -> calls.add("first"),
+                "alpha",
+                0));
+
+        DisruptorManager manager = newManager(properties, registry);
+        manager.start();
+        try {
+            assertThat(manager.getRingProperties("alpha")).isSameAs(callerRuns);
+            DisruptorEvent event = new DisruptorEvent();
+            event.setPayload("inline");
+
+            assertThat(manager.dispatchInline("alpha", event)).isTrue();
+            assertThat(calls).containsExactly("first", "second");
+            assertThat(manager.dispatchInline("beta", event)).isFalse();
+        } finally {
+            manager.stop(Duration.ofMillis(100), ShutdownStrategy.HALT);
+        }
+        assertThat(manager.getRingProperties("alpha")).isNull();
+    }
+
     @Test
     void stopIsNoopWhenNotRunning() {
         DisruptorManager manager = newManager(new DisruptorProperties(), new SubscriberRegistry());
@@ -163,6 +949,159 @@ class DisruptorManagerTest {
                 properties, registry, handlerAdapter, exceptionHandlerSupport, workerPoolSupport);
     }
 
+    private static SubscriberDefinition handlerDefinition(Object bean, String ring, int order) {
+        return new SubscriberDefinition(
+                bean,
+                "handler" + order,
+                null,
+                DisruptorEvent.class,
+                ring,
+                Concurrency.MODE_HANDLER,
+                order,
+                false,
+                0,
+                "",
+                ExceptionPolicy.DELEGATE);
+    }
+
+    private static SubscriberDefinition typedHandlerDefinition(Object bean, String ring, Class<?> eventType) {
+        return new SubscriberDefinition(
+                bean,
+                "handler" + eventType.getSimpleName(),
+                null,
+                DisruptorEvent.class,
+                ring,
+                Concurrency.MODE_HANDLER,
+                0,
+                false,
+                0,
+                eventType.getName(),
+                ExceptionPolicy.DELEGATE);
+    }
+
+    private static SubscriberDefinition groupedHandlerDefinition(Object bean, String ring, String group) {
+        return new SubscriberDefinition(
+                bean,
+                "handler" + group,
+                null,
+                DisruptorEvent.class,
+                ring,
+                Concurrency.MODE_HANDLER,
+                0,
+                false,
+                0,
+                "",
+                ExceptionPolicy.DELEGATE,
+                0,
+                0L,
+                false,
+                "",
+                List.of(),
+                group);
+    }
+
+    private static EventHandler<DisruptorEvent> recording(
+            Set<String> threads, List<Object> payloads, CountDownLatch latch) {
+        return (event, sequence, endOfBatch) -> {
+            threads.add(Thread.currentThread().getName());
+            payloads.add(event.getPayload());
+            if (latch != null) {
+                latch.countDown();
+            }
+        };
+    }
+
+    private static SubscriberDefinition dependentDefinition(Object bean, String id, String... after) {
+        return new SubscriberDefinition(
+                bean,
+                id + "Handler",
+                null,
+                DisruptorEvent.class,
+                "dag",
+                Concurrency.MODE_HANDLER,
+                0,
+                false,
+                0,
+                "",
+                ExceptionPolicy.DELEGATE,
+                0,
+                0L,
+                false,
+                id,
+                List.of(after),
+                "");
+    }
+
+    private static SubscriberDefinition workerDefinition(Object bean, String ring, int concurrency) {
+        return workerDefinition(bean, ring, 0, concurrency);
+    }
+
+    private static SubscriberDefinition workerDefinition(Object bean, String ring, int order, int concurrency) {
+        return new SubscriberDefinition(
+                bean,
+                "worker",
+                null,
+                DisruptorEvent.class,
+                ring,
+                Concurrency.MODE_WORKER,
+                order,
+                false,
+                0,
+                "",
+                ExceptionPolicy.DELEGATE,
+                concurrency,
+                0L,
+                false,
+                "",
+                List.of(),
+                "");
+    }
+
+    public static final class BatchSink {
+        private final List<Object> rows = new CopyOnWriteArrayList<>();
+        private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        private final CountDownLatch done = new CountDownLatch(500);
+
+        public void insert(List<Object> batch) {
+            rows.addAll(batch);
+            batchSizes.add(batch.size());
+            batch.forEach(row -> done.countDown());
+        }
+    }
+
+    private static SubscriberDefinition timedBatchDefinition(BatchSink sink, String ring)
+            throws NoSuchMethodException {
+        return new SubscriberDefinition(
+                sink,
+                "sink",
+                BatchSink.class.getDeclaredMethod("insert", List.class),
+                List.class,
+                ring,
+                Concurrency.MODE_HANDLER,
+                0,
+                true,
+                1000,
+                "",
+                ExceptionPolicy.DELEGATE,
+                0,
+                TimeUnit.MILLISECONDS.toNanos(20),
+                false,
+                "",
+                List.of(),
+                "");
+    }
+
+    static final class KeyedOrder {
+        @DisruptorKey
+        private final long account;
+        private final int seq;
+
+        KeyedOrder(long account, int seq) {
+            this.account = account;
+            this.seq = seq;
+        }
+    }
+
     static class NoopEventHandler implements EventHandler<DisruptorEvent> {
         @Override
         public void onEvent(DisruptorEvent event, long sequence, boolean endOfBatch) {
@@ -25,23 +25,63 @@ class DisruptorMetricsTest {
         DisruptorMetrics metrics = new DisruptorMetrics();
         metrics.recordPublish("alpha");
         metrics.recordPublish("alpha");
+        metrics.recordPublish("beta", 5);
         metrics.recordConsume("alpha", "handlerA");
         metrics.recordConsume("alpha", "handlerA");
         metrics.recordLatency("alpha", 10);
         metrics.recordLatency("alpha", 30);
 
         assertThat(metrics.getPublishCount("alpha")).isEqualTo(2);
+        assertThat(metrics.getPublishCount("beta")).isEqualTo(5);
         assertThat(metrics.getConsumeCount("alpha")).isEqualTo(2);
         assertThat(metrics.getAverageLatencyMillis("alpha")).isEqualTo(20.0);
         assertThat(metrics.getHandlerCounts()).containsKey("alpha::handlerA");
         assertThat(metrics.getHandlerKeys()).contains("alpha::handlerA");
     }
 
+    @Test
+    void averagesLatencyInNanoseconds() {
+        DisruptorMetrics metrics = new DisruptorMetrics();
+        DisruptorMetrics.LatencyRecorder recorder = metrics.latencyRecorder("alpha");
+        recorder.record(1_500);
+        recorder.record(2_500);
+        recorder.record(-10);
+
+        assertThat(metrics.latencyRecorder("alpha")).isSameAs(recorder);
+        assertThat(metrics.getAverageLatencyNanos("alpha")).isEqualTo(4_000 / 3.0);
+        assertThat(metrics.getAverageLatencyMillis("alpha")).isEqualTo(4_000 / 3.0 / 1_000_000);
+    }
+
+    @Test
+    void resolvesConsumeCountersOncePerHandler() {
+        DisruptorMetrics metrics = new DisruptorMetrics();
+        metrics.handlerCounter("alpha", "handlerA").increment();
+        metrics.consumeCounter("alpha").increment();
+
+        assertThat(metrics.handlerCounter("alpha", "handlerA"))
+                .isSameAs(metrics.getHandlerCounts().get("alpha::handlerA"));
+        assertThat(metrics.getConsumeCount("alpha")).isEqualTo(1);
+    }
+
+    @Test
+    void tracksBackpressureOutcomesPerRing() {
+        DisruptorMetrics metrics = new DisruptorMetrics();
+        metrics.recordBackpressure("alpha", BackpressureOutcome.DROPPED);
+        metrics.recordBackpressure("alpha", BackpressureOutcome.DROPPED, 4);
+        metrics.recordBackpressure("beta", BackpressureOutcome.REJECTED);
+
+        assertThat(metrics.getBackpressureCount("alpha", BackpressureOutcome.DROPPED)).isEqualTo(5);
+        assertThat(metrics.getBackpressureCount("alpha", BackpressureOutcome.REJECTED)).isZero();
+        assertThat(metrics.getBackpressureCount("beta", BackpressureOutcome.REJECTED)).isEqualTo(1);
+    }
+
     @Test
     void returnsZeroWhenNoMetricsPresent() {
         DisruptorMetrics metrics = new DisruptorMetrics();
         assertThat(metrics.getPublishCount("missing")).isZero();
         assertThat(metrics.getConsumeCount("missing")).isZero();
         assertThat(metrics.getAverageLatencyMillis("missing")).isZero();
+        assertThat(metrics.getBackpressureCount("missing", BackpressureOutcome.TIMED_OUT)).isZero();
+        assertThat(metrics.getPayloadMismatchCount("missing")).isZero();
     }
 }
@@ -16,15 +16,26 @@
 package com.childrengreens.disruptor.core;
 
 import com.childrengreens.disruptor.annotation.DisruptorEventType;
+import com.childrengreens.disruptor.properties.BackpressurePolicy;
+import com.childrengreens.disruptor.properties.RingProperties;
 import com.lmax.disruptor.RingBuffer;
+import com.lmax.disruptor.Sequence;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.core.annotation.Order;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class DisruptorTemplateTest {
@@ -32,7 +43,7 @@ class DisruptorTemplateTest {
     void publishesConvertedEventWithResolvedType() {
         RingBuffer<DisruptorEvent> ringBuffer =
                 RingBuffer.createMultiProducer(new DisruptorEventFactory(), 8);
-        DisruptorManager manager = mock(DisruptorManager.class);
+        DisruptorManager manager = mockManager();
         when(manager.isRunning()).thenReturn(true);
         when(manager.getRingBuffer("default")).thenReturn(ringBuffer);
 
@@ -41,19 +52,21 @@ class DisruptorTemplateTest {
                 List.of(new AnnotatedEventConverter(), new DefaultEventConverter()),
                 new DisruptorMetrics());
 
+        int customId = manager.getEventTypeRegistry().idOf("custom");
         template.publish(null, "payload");
 
         DisruptorEvent stored = ringBuffer.get(ringBuffer.getCursor());
         assertThat(stored.getPayload()).isInstanceOf(AnnotatedPayload.class);
         assertThat(stored.getEventType()).isEqualTo("custom");
-        assertThat(stored.getCreatedAt()).isPositive();
+        assertThat(stored.getEventTypeId()).isEqualTo(customId);
+        assertThat(stored.getCreatedAtNanos()).isNotZero();
     }
 
     @Test
     void usesProvidedRingName() {
         RingBuffer<DisruptorEvent> ringBuffer =
                 RingBuffer.createMultiProducer(new DisruptorEventFactory(), 8);
-        DisruptorManager manager = mock(DisruptorManager.class);
+        DisruptorManager manager = mockManager();
         when(manager.isRunning()).thenReturn(true);
         when(manager.getRingBuffer("alpha")).thenReturn(ringBuffer);
 
@@ -68,10 +81,291 @@ class DisruptorTemplateTest {
         assertThat(stored.getEventType()).isEqualTo(Integer.class.getName());
     }
 
+    @Test
+    void ignoresConvertersOrderedAfterDefaultConverter() {
+        RingBuffer<DisruptorEvent> ringBuffer =
+                RingBuffer.createMultiProducer(new DisruptorEventFactory(), 8);
+        DisruptorManager manager = mockManager();
+        when(manager.isRunning()).thenReturn(true);
+        when(manager.getRingBuffer("default")).thenReturn(ringBuffer);
+
+        DisruptorTemplate template = new DisruptorTemplate(
+                manager,
+                List.of(new DefaultEventConverter(), new UnorderedEventConverter()),
+                null);
+
+        template.publish("default", "payload");
+        template.publish("default", "again");
+
+        DisruptorEvent stored = ringBuffer.get(ringBuffer.getCursor());
+        assertThat(stored.getPayload()).isEqualTo("again");
+        assertThat(stored.getEventType()).isEqualTo(String.class.getName());
+    }
+
+    @Test
+    void resolvesCacheableConverterOncePerPayloadClass() {
+        RingBuffer<DisruptorEvent> ringBuffer =
+                RingBuffer.createMultiProducer(new DisruptorEventFactory(), 8);
+        DisruptorManager manager = mockManager();
+        when(manager.isRunning()).thenReturn(true);
+        when(manager.getRingBuffer("default")).thenReturn(ringBuffer);
+        CountingEventConverter counting = new CountingEventConverter(true);
+
+        DisruptorTemplate template = new DisruptorTemplate(
+                manager,
+                List.of(counting, new DefaultEventConverter()),
+                null);
+
+        template.publish("default", "a");
+        template.publish("default", "b");
+        template.publish("default", 1);
+        template.publish("default", 2);
+
+        assertThat(counting.supportsCalls.get()).isEqualTo(2);
+        assertThat(ringBuffer.get(1).getPayload()).isInstanceOf(AnnotatedPayload.class);
+        assertThat(ringBuffer.get(3).getPayload()).isEqualTo(2);
+    }
+
+    @Test
+    void probesNonCacheableConverterOnEachPublish() {
+        RingBuffer<DisruptorEvent> ringBuffer =
+                RingBuffer.createMultiProducer(new DisruptorEventFactory(), 8);
+        DisruptorManager manager = mockManager();
+        when(manager.isRunning()).thenReturn(true);
+        when(manager.getRingBuffer("default")).thenReturn(ringBuffer);
+        CountingEventConverter counting = new CountingEventConverter(false);
+
+        DisruptorTemplate template = new DisruptorTemplate(
+                manager,
+                List.of(counting, new DefaultEventConverter()),
+                null);
+
+        template.publish("default", "convert");
+        template.publish("default", "skip");
+
+        assertThat(counting.supportsCalls.get()).isEqualTo(2);
+        assertThat(ringBuffer.get(0).getPayload()).isInstanceOf(AnnotatedPayload.class);
+        assertThat(ringBuffer.get(1).getPayload()).isEqualTo("skip");
+    }
+
+    @Test
+    void publishAllClaimsRangesAcrossChunks() {
+        RingBuffer<DisruptorEvent> ringBuffer =
+                RingBuffer.createMultiProducer(new DisruptorEventFactory(), 8);
+        DisruptorManager manager = mockManager();
+        when(manager.isRunning()).thenReturn(true);
+        when(manager.getRingBuffer("alpha")).thenReturn(ringBuffer);
+        DisruptorMetrics metrics = new DisruptorMetrics();
+
+        DisruptorTemplate template = new DisruptorTemplate(
+                manager,
+                List.of(new DefaultEventConverter()),
+                metrics);
+
+        List<Integer> events = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            events.add(i);
+        }
+        template.publishAll("alpha", events);
+
+        assertThat(ringBuffer.getCursor()).isEqualTo(11);
+        assertThat(ringBuffer.get(11).getPayload()).isEqualTo(11);
+        assertThat(ringBuffer.get(11).getEventType()).isEqualTo(Integer.class.getName());
+        assertThat(metrics.getPublishCount("alpha")).isEqualTo(12);
+    }
+
+    @Test
+    void publishAllConvertsArraySlice() {
+        RingBuffer<DisruptorEvent> ringBuffer =
+                RingBuffer.createMultiProducer(new DisruptorEventFactory(), 8);
+        DisruptorManager manager = mockManager();
+        when(manager.isRunning()).thenReturn(true);
+        when(manager.getRingBuffer("default")).thenReturn(ringBuffer);
+
+        DisruptorTemplate template = new DisruptorTemplate(
+                manager,
+                List.of(new AnnotatedEventConverter(), new DefaultEventConverter()),
+                null);
+
+        template.publishAll(null, new Object[] {"skip", "a", "b", "skip"}, 1, 3);
+
+        assertThat(ringBuffer.getCursor()).isEqualTo(1);
+        assertThat(((AnnotatedPayload) ringBuffer.get(0).getPayload()).value()).isEqualTo("a");
+        assertThat(((AnnotatedPayload) ringBuffer.get(1).getPayload()).value()).isEqualTo("b");
+        assertThat(ringBuffer.get(1).getEventType()).isEqualTo("custom");
+        assertThatThrownBy(() -> template.publishAll(null, new Object[1], 0, 2))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void publishesPrimitivesIntoSlotFields() {
+        RingBuffer<DisruptorEvent> ringBuffer =
+                RingBuffer.createMultiProducer(new DisruptorEventFactory(), 8);
+        DisruptorManager manager = mockManager();
+        when(manager.isRunning()).thenReturn(true);
+        when(manager.getRingBuffer("alpha")).thenReturn(ringBuffer);
+        DisruptorMetrics metrics = new DisruptorMetrics();
+        DisruptorTemplate template = new DisruptorTemplate(manager, List.of(), metrics);
+        int orderIdType = manager.getEventTypeRegistry().idOf("order.id");
+
+        template.publish("alpha", "object");
+        template.publishLong("alpha", "order.id", 42L);
+        template.publishLongs("alpha", "order.fill", 7L, -3L);
+        template.publishDouble("alpha", "order.price", 99.5d);
+
+        DisruptorEvent single = ringBuffer.get(1);
+        assertThat(single.getValueKind()).isEqualTo(ValueKind.LONG);
+        assertThat(single.getLongValue()).isEqualTo(42L);
+        assertThat(single.getPayload()).isNull();
+        assertThat(single.getEventTypeId()).isEqualTo(orderIdType);
+        DisruptorEvent pair = ringBuffer.get(2);
+        assertThat(pair.getValueKind()).isEqualTo(ValueKind.LONG_PAIR);
+        assertThat(pair.getLongValue()).isEqualTo(7L);
+        assertThat(pair.getSecondLongValue()).isEqualTo(-3L);
+        DisruptorEvent price = ringBuffer.get(3);
+        assertThat(price.getValueKind()).isEqualTo(ValueKind.DOUBLE);
+        assertThat(price.getDoubleValue()).isEqualTo(99.5d);
+        assertThat(price.getValue()).isEqualTo(99.5d);
+        assertThat(metrics.getPublishCount("alpha")).isEqualTo(4);
+
+        template.publish("alpha", "reused");
+        template.publishLong("alpha", "order.id", 1L);
+        template.publishLong("alpha", "order.id", 2L);
+        template.publishLong("alpha", "order.id", 3L);
+        template.publish("alpha", "wrapped");
+        assertThat(ringBuffer.get(0).getValueKind()).isEqualTo(ValueKind.OBJECT);
+        assertThat(ringBuffer.get(0).getValue()).isEqualTo("wrapped");
+    }
+
+    @Test
+    void tryPublishReturnsFalseWhenRingIsFull() {
+        RingBuffer<DisruptorEvent> ringBuffer = fullRingBuffer();
+        DisruptorManager manager = mockManager();
+        when(manager.isRunning()).thenReturn(true);
+        when(manager.getRingBuffer("alpha")).thenReturn(ringBuffer);
+        DisruptorMetrics metrics = new DisruptorMetrics();
+        DisruptorTemplate template = new DisruptorTemplate(manager, List.of(), metrics);
+
+        assertThat(template.tryPublish("alpha", "late")).isFalse();
+        assertThat(ringBuffer.getCursor()).isEqualTo(1);
+        assertThat(metrics.getPublishCount("alpha")).isZero();
+        assertThat(metrics.getBackpressureCount("alpha", BackpressureOutcome.REJECTED)).isEqualTo(1);
+    }
+
+    @Test
+    void failFastRejectsWhenRingIsFull() {
+        DisruptorMetrics metrics = new DisruptorMetrics();
+        DisruptorTemplate template = new DisruptorTemplate(
+                managerWithPolicy(fullRingBuffer(), BackpressurePolicy.FAIL_FAST), List.of(), metrics);
+
+        assertThatThrownBy(() -> template.publish("alpha", "late"))
+                .isInstanceOf(PublishRejectedException.class)
+                .hasMessageContaining("Ring alpha is full");
+        assertThatThrownBy(() -> template.publishAll("alpha", List.of("a", "b")))
+                .isInstanceOf(PublishRejectedException.class);
+        assertThat(metrics.getBackpressureCount("alpha", BackpressureOutcome.REJECTED)).isEqualTo(3);
+    }
+
+    @Test
+    void dropNewestDiscardsWhenRingIsFull() {
+        RingBuffer<DisruptorEvent> ringBuffer = fullRingBuffer();
+        DisruptorMetrics metrics = new DisruptorMetrics();
+        DisruptorTemplate template = new DisruptorTemplate(
+                managerWithPolicy(ringBuffer, BackpressurePolicy.DROP_NEWEST), List.of(), metrics);
+
+        template.publish("alpha", "late");
+        template.publishAll("alpha", List.of("a", "b", "c"));
+
+        assertThat(ringBuffer.getCursor()).isEqualTo(1);
+        assertThat(ringBuffer.get(1).getPayload()).isEqualTo("filled");
+        assertThat(metrics.getPublishCount("alpha")).isZero();
+        assertThat(metrics.getBackpressureCount("alpha", BackpressureOutcome.DROPPED)).isEqualTo(4);
+    }
+
+    @Test
+    void callerRunsDispatchesInlineWhenRingIsFull() {
+        RingBuffer<DisruptorEvent> ringBuffer = fullRingBuffer();
+        DisruptorMetrics metrics = new DisruptorMetrics();
+        DisruptorManager manager = managerWithPolicy(ringBuffer, BackpressurePolicy.CALLER_RUNS);
+        DisruptorTemplate template = new DisruptorTemplate(manager, List.of(), metrics);
+
+        template.publish("alpha", "late");
+
+        ArgumentCaptor<DisruptorEvent> captor = ArgumentCaptor.forClass(DisruptorEvent.class);
+        verify(manager).dispatchInline(eq("alpha"), captor.capture());
+        assertThat(captor.getValue().getPayload()).isEqualTo("late");
+        assertThat(captor.getValue().getEventType()).isEqualTo(String.class.getName());
+        assertThat(ringBuffer.getCursor()).isEqualTo(1);
+        assertThat(metrics.getBackpressureCount("alpha", BackpressureOutcome.CALLER_RAN)).isEqualTo(1);
+    }
+
+    @Test
+    void blockWithTimeoutRejectsAfterDeadline() {
+        RingBuffer<DisruptorEvent> ringBuffer = fullRingBuffer();
+        DisruptorMetrics metrics = new DisruptorMetrics();
+        DisruptorTemplate template = new DisruptorTemplate(
+                managerWithPolicy(ringBuffer, BackpressurePolicy.BLOCK_WITH_TIMEOUT), List.of(), metrics);
+
+        assertThatThrownBy(() -> template.publish("alpha", "late"))
+                .isInstanceOf(PublishRejectedException.class)
+                .hasMessageContaining("still full");
+        assertThat(metrics.getBackpressureCount("alpha", BackpressureOutcome.TIMED_OUT)).isEqualTo(1);
+    }
+
+    @Test
+    void blockWithTimeoutPublishesOnceCapacityFrees() throws Exception {
+        Sequence consumer = new Sequence();
+        RingBuffer<DisruptorEvent> ringBuffer = fullRingBuffer(consumer);
+        DisruptorMetrics metrics = new DisruptorMetrics();
+        DisruptorTemplate template = new DisruptorTemplate(
+                managerWithPolicy(ringBuffer, BackpressurePolicy.BLOCK_WITH_TIMEOUT), List.of(), metrics);
+
+        Thread release = new Thread(() -> {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(5));
+            consumer.set(0);
+        });
+        release.start();
+        template.publish("alpha", "late");
+        release.join();
+
+        assertThat(ringBuffer.getCursor()).isEqualTo(2);
+        assertThat(ringBuffer.get(2).getPayload()).isEqualTo("late");
+        assertThat(metrics.getPublishCount("alpha")).isEqualTo(1);
+    }
+
+    @Test
+    void timedPublishWaitsThenRejectsRegardlessOfPolicy() {
+        DisruptorMetrics metrics = new DisruptorMetrics();
+        DisruptorTemplate template = new DisruptorTemplate(
+                managerWithPolicy(fullRingBuffer(), BackpressurePolicy.DROP_NEWEST), List.of(), metrics);
+
+        assertThatThrownBy(() -> template.publish("alpha", "late", Duration.ofMillis(10)))
+                .isInstanceOf(PublishRejectedException.class)
+                .hasMessageContaining("still full after PT0.01S");
+        assertThat(metrics.getBackpressureCount("alpha", BackpressureOutcome.TIMED_OUT)).isEqualTo(1);
+        assertThat(metrics.getBackpressureCount("alpha", BackpressureOutcome.DROPPED)).isZero();
+    }
+
+    @Test
+    void timedPublishPublishesWhenCapacityIsAvailable() {
+        RingBuffer<DisruptorEvent> ringBuffer =
+                RingBuffer.createMultiProducer(new DisruptorEventFactory(), 8);
+        DisruptorMetrics metrics = new DisruptorMetrics();
+        DisruptorTemplate template = new DisruptorTemplate(
+                managerWithPolicy(ringBuffer, BackpressurePolicy.FAIL_FAST), List.of(), metrics);
+
+        template.publish("alpha", "payload", Duration.ZERO);
+
+        assertThat(ringBuffer.get(0).getPayload()).isEqualTo("payload");
+        assertThat(metrics.getPublishCount("alpha")).isEqualTo(1);
+        assertThatThrownBy(() -> template.publish("alpha", "payload", null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
     @Test
     void throwsWhenNotRunning() {
         DisruptorTemplate template = new DisruptorTemplate(
-                mock(DisruptorManager.class),
+                mockManager(),
                 List.of(new DefaultEventConverter()),
                 null);
         assertThatThrownBy(() -> template.publish("default", "event"))
@@ -81,7 +375,7 @@ class DisruptorTemplateTest {
 
     @Test
     void throwsWhenRingMissing() {
-        DisruptorManager manager = mock(DisruptorManager.class);
+        DisruptorManager manager = mockManager();
         when(manager.isRunning()).thenReturn(true);
         when(manager.getRingBuffer("default")).thenReturn(null);
         DisruptorTemplate template = new DisruptorTemplate(
@@ -93,6 +387,67 @@ class DisruptorTemplateTest {
                 .hasMessageContaining("Ring not found");
     }
 
+    @Test
+    void tagsOnlySubscribedTypesAndFollowsRegistryChanges() {
+        RingBuffer<DisruptorEvent> ringBuffer =
+                RingBuffer.createMultiProducer(new DisruptorEventFactory(), 8);
+        DisruptorManager manager = mockManager();
+        when(manager.isRunning()).thenReturn(true);
+        when(manager.getRingBuffer("alpha")).thenReturn(ringBuffer);
+        EventTypeRegistry registry = manager.getEventTypeRegistry();
+        DisruptorTemplate template = new DisruptorTemplate(manager, List.of(), null);
+
+        template.publish("alpha", "unsubscribed");
+        template.publishLong("alpha", "order.id", 1L);
+
+        assertThat(ringBuffer.get(0).getEventTypeId()).isEqualTo(EventTypeRegistry.UNKNOWN);
+        assertThat(ringBuffer.get(1).getEventTypeId()).isEqualTo(EventTypeRegistry.UNKNOWN);
+        assertThat(registry.size()).isZero();
+
+        int stringType = registry.idOf(String.class.getName());
+        template.publish("alpha", "subscribed");
+        assertThat(ringBuffer.get(2).getEventTypeId()).isEqualTo(stringType);
+
+        registry.clear();
+        template.publish("alpha", "cleared");
+        assertThat(ringBuffer.get(3).getEventTypeId()).isEqualTo(EventTypeRegistry.UNKNOWN);
+        assertThat(ringBuffer.get(3).getEventType()).isEqualTo(String.class.getName());
+    }
+
+    private static DisruptorManager mockManager() {
+        DisruptorManager manager = mock(DisruptorManager.class);
+        when(manager.getEventTypeRegistry()).thenReturn(new EventTypeRegistry());
+        return manager;
+    }
+
+    private static DisruptorManager managerWithPolicy(
+            RingBuffer<DisruptorEvent> ringBuffer, BackpressurePolicy policy) {
+        RingProperties ringProperties = new RingProperties();
+        ringProperties.setBackpressure(policy);
+        ringProperties.setBackpressureTimeout(Duration.ofMillis(20));
+        DisruptorManager manager = mockManager();
+        when(manager.isRunning()).thenReturn(true);
+        when(manager.getRingBuffer("alpha")).thenReturn(ringBuffer);
+        when(manager.getRingProperties("alpha")).thenReturn(ringProperties);
+        return manager;
+    }
+
+    private static RingBuffer<DisruptorEvent> fullRingBuffer() {
+        return fullRingBuffer(new Sequence());
+    }
+
+    /**
+     * Two-slot ring gated by a consumer that has not consumed anything yet.
+     */
+    private static RingBuffer<DisruptorEvent> fullRingBuffer(Sequence consumer) {
+        RingBuffer<DisruptorEvent> ringBuffer =
+                RingBuffer.createMultiProducer(new DisruptorEventFactory(), 2);
+        ringBuffer.addGatingSequences(consumer);
+        ringBuffer.publishEvent((event, sequence) -> event.setPayload("filled"));
+        ringBuffer.publishEvent((event, sequence) -> event.setPayload("filled"));
+        return ringBuffer;
+    }
+
     @DisruptorEventType("custom")
     static class AnnotatedPayload {
         private final String value;
@@ -118,4 +473,36 @@ class DisruptorTemplateTest {
             return source instanceof String;
         }
     }
+
+    static class CountingEventConverter implements EventConverter<AnnotatedPayload> {
+        private final AtomicInteger supportsCalls = new AtomicInteger();
+        private final boolean cacheable;
+
+        CountingEventConverter(boolean cacheable) {
+            this.cacheable = cacheable;
+        }
+
+        @Override
+        public AnnotatedPayload convert(Object source) {
+            return new AnnotatedPayload(String.valueOf(source));
+        }
+
+        @Override
+        public boolean supports(Object source) {
+            supportsCalls.incrementAndGet();
+            return cacheable ? source instanceof String : "convert".equals(source);
+        }
+
+        @Override
+        public boolean isCacheable() {
+            return cacheable;
+        }
+    }
+
+    static class UnorderedEventConverter implements EventConverter<AnnotatedPayload> {
+        @Override
+        public AnnotatedPayload convert(Object source) {
+            return new AnnotatedPayload(String.valueOf(source));
+        }
+    }
 }
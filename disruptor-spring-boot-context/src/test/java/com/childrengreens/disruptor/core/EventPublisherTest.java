@@ -0,0 +1,39 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.disruptor.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EventPublisherTest {
+    @Test
+    void publishAllDefaultsToPublishingOneByOne() {
+        List<Object> published = new ArrayList<>();
+        EventPublisher publisher = (ring, event) -> published.add(ring + ":" + event);
+
+        publisher.publishAll("alpha", List.of(1, 2));
+        publisher.publishAll("beta", new Object[] {3, 4, 5, 6}, 1, 3);
+
+        assertThat(published).containsExactly("alpha:1", "alpha:2", "beta:4", "beta:5");
+        assertThatThrownBy(() -> publisher.publishAll("beta", new Object[1], 0, 2))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.disruptor.core;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventTypeRegistryTest {
+    @Test
+    void assignsStableDistinctIds() {
+        EventTypeRegistry registry = new EventTypeRegistry();
+        int first = registry.idOf("registry.first");
+        int second = registry.idOf("registry.second");
+
+        assertThat(first).isNotEqualTo(EventTypeRegistry.UNKNOWN);
+        assertThat(second).isNotEqualTo(EventTypeRegistry.UNKNOWN).isNotEqualTo(first);
+        assertThat(registry.idOf("registry.first")).isEqualTo(first);
+        assertThat(registry.lookup("registry.first")).isEqualTo(first);
+    }
+
+    @Test
+    void lookupDoesNotInternUnknownTypes() {
+        EventTypeRegistry registry = new EventTypeRegistry();
+
+        assertThat(registry.lookup("registry.unsubscribed")).isEqualTo(EventTypeRegistry.UNKNOWN);
+        assertThat(registry.size()).isZero();
+    }
+
+    @Test
+    void clearForgetsTypesAndAdvancesGeneration() {
+        EventTypeRegistry registry = new EventTypeRegistry();
+        registry.idOf("registry.first");
+        int generation = registry.generation();
+
+        registry.clear();
+
+        assertThat(registry.size()).isZero();
+        assertThat(registry.lookup("registry.first")).isEqualTo(EventTypeRegistry.UNKNOWN);
+        assertThat(registry.generation()).isNotEqualTo(generation);
+    }
+}
@@ -0,0 +1,320 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.disruptor.core;
+
+import com.childrengreens.disruptor.annotation.Concurrency;
+import com.childrengreens.disruptor.annotation.ExceptionPolicy;
+import com.childrengreens.disruptor.consumer.ExceptionHandlerSupport;
+import com.childrengreens.disruptor.consumer.HandlerAdapter;
+import com.childrengreens.disruptor.consumer.SubscriberDefinition;
+import com.childrengreens.disruptor.consumer.SubscriberRegistry;
+import com.childrengreens.disruptor.consumer.WorkerPoolSupport;
+import com.childrengreens.disruptor.properties.DisruptorProperties;
+import com.childrengreens.disruptor.properties.BackpressurePolicy;
+import com.childrengreens.disruptor.properties.RingProperties;
+import com.childrengreens.disruptor.properties.ShutdownStrategy;
+import com.lmax.disruptor.EventHandler;
+import com.lmax.disruptor.RingBuffer;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RingPublisherTest {
+    @Test
+    void bindsWhileRingIsRunning() {
+        DisruptorManager manager = newManager();
+        DisruptorMetrics metrics = new DisruptorMetrics();
+        DisruptorTemplate template = new DisruptorTemplate(manager, List.of(), metrics);
+
+        RingPublisher publisher = template.forRing("alpha");
+        assertThat(template.forRing("alpha")).isSameAs(publisher);
+        assertThat(publisher.getRing()).isEqualTo("alpha");
+        assertThat(publisher.isBound()).isFalse();
+
+        manager.start();
+        try {
+            assertThat(publisher.isBound()).isTrue();
+            publisher.publish("one");
+            assertThat(publisher.tryPublish("two")).isTrue();
+            publisher.publish("three", Duration.ofMillis(10));
+            publisher.publishAll(List.of("four", "five"));
+
+            RingBuffer<DisruptorEvent> ringBuffer = manager.getRingBuffer("alpha");
+            assertThat(ringBuffer.getCursor()).isEqualTo(4);
+            assertThat(ringBuffer.get(4).getPayload()).isEqualTo("five");
+            assertThat(metrics.getPublishCount("alpha")).isEqualTo(5);
+        } finally {
+            manager.stop(Duration.ofMillis(100), ShutdownStrategy.HALT);
+        }
+
+        assertThat(publisher.isBound()).isFalse();
+        assertThatThrownBy(() -> publisher.publish("late"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Disruptor is not running");
+    }
+
+    @Test
+    void bindsImmediatelyWhenCreatedAfterStart() {
+        DisruptorManager manager = newManager();
+        DisruptorTemplate template = new DisruptorTemplate(manager, List.of(), null);
+        manager.start();
+        try {
+            RingPublisher publisher = template.forRing("alpha");
+            assertThat(publisher.isBound()).isTrue();
+
+            RingPublisher missing = template.forRing("missing");
+            assertThat(missing.isBound()).isFalse();
+            assertThatThrownBy(() -> missing.publish("event"))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("Ring not found: missing");
+        } finally {
+            manager.stop(Duration.ofMillis(100), ShutdownStrategy.HALT);
+        }
+    }
+
+    @Test
+    void blankRingNameResolvesToDefault() {
+        DisruptorTemplate template = new DisruptorTemplate(newManager(), List.of(), null);
+
+        assertThat(template.forRing(" ")).isSameAs(template.forRing("default"));
+        assertThat(template.forRing(null).getRing()).isEqualTo("default");
+    }
+
+    @Test
+    void claimFillsPreallocatedEventsInPlace() throws Exception {
+        List<Object> received = new CopyOnWriteArrayList<>();
+        List<Long> ids = new CopyOnWriteArrayList<>();
+        List<String> eventTypes = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(6);
+        EventHandler<DisruptorEvent> handler = (event, sequence, endOfBatch) -> {
+            received.add(event.getPayload());
+            ids.add(((OrderEvent) event.getPayload()).orderId);
+            eventTypes.add(event.getEventType());
+            latch.countDown();
+        };
+        DisruptorManager manager = preallocatedManager(BackpressurePolicy.BLOCK, handler);
+        DisruptorMetrics metrics = new DisruptorMetrics();
+        DisruptorTemplate template = new DisruptorTemplate(manager, List.of(), metrics);
+        RingPublisher publisher = template.forRing("orders");
+        manager.start();
+        try {
+            RingBuffer<DisruptorEvent> ringBuffer = manager.getRingBuffer("orders");
+            Object firstSlot = ringBuffer.get(0).getPayload();
+            assertThat(firstSlot).isInstanceOf(OrderEvent.class);
+
+            for (long id = 0; id < 6; id++) {
+                try (Claim<OrderEvent> claim = publisher.claim()) {
+                    assertThat(claim.sequence()).isEqualTo(id);
+                    claim.event().orderId = id;
+                }
+            }
+
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(ids).containsExactly(0L, 1L, 2L, 3L, 4L, 5L);
+            assertThat(received.get(0)).isSameAs(firstSlot);
+            assertThat(received.get(4)).isSameAs(firstSlot);
+            assertThat(ringBuffer.get(0).getPayload()).isSameAs(firstSlot);
+            assertThat(eventTypes).containsOnly(OrderEvent.class.getName()).hasSize(6);
+            assertThat(metrics.getPublishCount("orders")).isEqualTo(6);
+        } finally {
+            manager.stop(Duration.ofSeconds(1), ShutdownStrategy.DRAIN);
+        }
+    }
+
+    @Test
+    void closingClaimTwicePublishesOnce() {
+        DisruptorManager manager = preallocatedManager(BackpressurePolicy.BLOCK, null);
+        DisruptorTemplate template = new DisruptorTemplate(manager, List.of(), null);
+        manager.start();
+        try {
+            Claim<OrderEvent> claim = template.claim("orders");
+            claim.close();
+            claim.close();
+
+            assertThat(manager.getRingBuffer("orders").getCursor()).isZero();
+            assertThatThrownBy(claim::event)
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("already been published");
+        } finally {
+            manager.stop(Duration.ofMillis(100), ShutdownStrategy.HALT);
+        }
+    }
+
+    @Test
+    void unboundHandleClaimsWithoutBindingTheRing() {
+        DisruptorManager manager = preallocatedManager(BackpressurePolicy.BLOCK, null);
+        DisruptorTemplate template = new DisruptorTemplate(manager, List.of(), null);
+        RingPublisher unbound = new RingPublisher("orders", template, null);
+
+        assertThatThrownBy(unbound::claim)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Disruptor is not running");
+
+        manager.start();
+        try {
+            assertThat(unbound.isBound()).isFalse();
+            Claim<OrderEvent> first = unbound.claim();
+            first.close();
+            Claim<OrderEvent> second = unbound.tryClaim();
+            second.close();
+
+            assertThat(second).isNotSameAs(first);
+            assertThat(second.sequence()).isEqualTo(1L);
+            assertThat(manager.getRingBuffer("orders").getCursor()).isEqualTo(1L);
+        } finally {
+            manager.stop(Duration.ofMillis(100), ShutdownStrategy.HALT);
+        }
+    }
+
+    @Test
+    void claimOnFullRingRejectsUnlessPolicyWaits() {
+        CountDownLatch release = new CountDownLatch(1);
+        DisruptorManager manager = preallocatedManager(
+                BackpressurePolicy.DROP_NEWEST, (event, sequence, endOfBatch) -> release.await());
+        DisruptorMetrics metrics = new DisruptorMetrics();
+        RingPublisher publisher = new DisruptorTemplate(manager, List.of(), metrics).forRing("orders");
+        manager.start();
+        try {
+            for (int i = 0; i < 4; i++) {
+                publisher.claim().close();
+            }
+
+            assertThat(publisher.<OrderEvent>tryClaim()).isNull();
+            assertThatThrownBy(publisher::claim).isInstanceOf(PublishRejectedException.class);
+            assertThat(metrics.getBackpressureCount("orders", BackpressureOutcome.REJECTED)).isEqualTo(2);
+        } finally {
+            release.countDown();
+            manager.stop(Duration.ofMillis(100), ShutdownStrategy.HALT);
+        }
+    }
+
+    @Test
+    void preallocatedRingsRejectPayloadPublishes() {
+        DisruptorManager manager = newManager();
+        DisruptorTemplate template = new DisruptorTemplate(manager, List.of(), null);
+        manager.start();
+        try {
+            assertThatThrownBy(() -> template.forRing("alpha").claim())
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("does not preallocate events");
+        } finally {
+            manager.stop(Duration.ofMillis(100), ShutdownStrategy.HALT);
+        }
+
+        DisruptorManager preallocated = preallocatedManager(BackpressurePolicy.BLOCK, null);
+        DisruptorTemplate preallocatedTemplate = new DisruptorTemplate(preallocated, List.of(), null);
+        preallocated.start();
+        try {
+            assertThatThrownBy(() -> preallocatedTemplate.publish("orders", new OrderEvent()))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("publish through RingPublisher.claim()");
+            assertThatThrownBy(() -> preallocatedTemplate.forRing("orders").tryPublish(new OrderEvent()))
+                    .isInstanceOf(IllegalStateException.class);
+            assertThat(preallocated.getRingBuffer("orders").getCursor()).isEqualTo(-1L);
+        } finally {
+            preallocated.stop(Duration.ofMillis(100), ShutdownStrategy.HALT);
+        }
+    }
+
+    @Test
+    void routesEachKeyToOneShard() {
+        RingProperties ring = new RingProperties();
+        ring.setShards(4);
+        DisruptorProperties properties = new DisruptorProperties();
+        properties.setRings(Map.of("orders", ring));
+        DisruptorManager manager = new DisruptorManager(
+                properties,
+                new SubscriberRegistry(),
+                new HandlerAdapter(null),
+                new ExceptionHandlerSupport(),
+                new WorkerPoolSupport());
+        DisruptorMetrics metrics = new DisruptorMetrics();
+        DisruptorTemplate template = new DisruptorTemplate(manager, List.of(), metrics);
+        RingPublisher publisher = template.forRing("orders");
+        manager.start();
+        try {
+            List<RingBuffer<DisruptorEvent>> shards = manager.getShards("orders");
+            assertThat(shards).hasSize(4);
+            RingBuffer<DisruptorEvent> target = shards.get(template.shardOf(7L, 4));
+
+            publisher.publish(7L);
+            publisher.publishLong("order.id", 7L);
+            template.publish("orders", 7L);
+            publisher.publishAll(List.of(7L, 7L));
+
+            assertThat(target.getCursor()).isEqualTo(4);
+            assertThat(target.get(1).getLongValue()).isEqualTo(7L);
+            assertThat(shards.stream().mapToLong(RingBuffer::getCursor).sum()).isEqualTo(4 - 3);
+            assertThat(metrics.getPublishCount("orders")).isEqualTo(5);
+        } finally {
+            manager.stop(Duration.ofMillis(100), ShutdownStrategy.HALT);
+        }
+    }
+
+    private static DisruptorManager preallocatedManager(
+            BackpressurePolicy policy, EventHandler<DisruptorEvent> handler) {
+        RingProperties ring = new RingProperties();
+        ring.setBufferSize(4);
+        ring.setEventClass(OrderEvent.class);
+        ring.setBackpressure(policy);
+        DisruptorProperties properties = new DisruptorProperties();
+        properties.setRings(Map.of("orders", ring));
+        SubscriberRegistry registry = new SubscriberRegistry();
+        if (handler != null) {
+            registry.register(new SubscriberDefinition(
+                    handler,
+                    "orderHandler",
+                    null,
+                    DisruptorEvent.class,
+                    "orders",
+                    Concurrency.MODE_HANDLER,
+                    0,
+                    false,
+                    0,
+                    "",
+                    ExceptionPolicy.LOG_AND_CONTINUE));
+        }
+        return new DisruptorManager(
+                properties,
+                registry,
+                new HandlerAdapter(null),
+                new ExceptionHandlerSupport(),
+                new WorkerPoolSupport());
+    }
+
+    static class OrderEvent {
+        long orderId;
+    }
+
+    private static DisruptorManager newManager() {
+        DisruptorProperties properties = new DisruptorProperties();
+        properties.setRings(Map.of("alpha", new RingProperties()));
+        return new DisruptorManager(
+                properties,
+                new SubscriberRegistry(),
+                new HandlerAdapter(null),
+                new ExceptionHandlerSupport(),
+                new WorkerPoolSupport());
+    }
+}
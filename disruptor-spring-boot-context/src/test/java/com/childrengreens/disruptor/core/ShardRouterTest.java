@@ -0,0 +1,121 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.disruptor.core;
+
+import com.childrengreens.disruptor.annotation.DisruptorKey;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ShardRouterTest {
+    private static final int SHARDS = 8;
+
+    @Test
+    void routesByKeyMemberOrPayload() {
+        ShardRouter router = new ShardRouter(null);
+
+        assertThat(router.shardOf(new FieldKeyed("order-1", 1), SHARDS))
+                .isEqualTo(router.shardOf("order-1", SHARDS))
+                .isEqualTo(router.shardOf(new FieldKeyed("order-1", 2), SHARDS));
+        assertThat(router.shardOf(new MethodKeyed(42L), SHARDS))
+                .isEqualTo(router.shardOf(Long.valueOf(42L), SHARDS))
+                .isEqualTo(ShardRouter.shardOf(42L, SHARDS));
+        assertThat(router.shardOf(new SubclassKeyed("order-1"), SHARDS))
+                .isEqualTo(router.shardOf("order-1", SHARDS));
+        assertThat(router.shardOf(null, SHARDS)).isZero();
+    }
+
+    @Test
+    void keyExtractorTakesPrecedenceUnlessItReturnsNull() {
+        ShardRouter router = new ShardRouter(
+                payload -> payload instanceof MethodKeyed keyed ? "account-" + keyed.accountId() : null);
+
+        assertThat(router.shardOf(new MethodKeyed(7L), SHARDS))
+                .isEqualTo(router.shardOf("account-7", SHARDS));
+        assertThat(router.shardOf(new FieldKeyed("order-1", 1), SHARDS))
+                .isEqualTo(router.shardOf("order-1", SHARDS));
+    }
+
+    @Test
+    void spreadsDistinctKeysOverAllShards() {
+        ShardRouter router = new ShardRouter(null);
+        Set<Integer> used = new HashSet<>();
+        for (long id = 0; id < 1_000; id++) {
+            int shard = router.shardOf(new MethodKeyed(id), SHARDS);
+            assertThat(shard).isBetween(0, SHARDS - 1);
+            used.add(shard);
+        }
+        assertThat(used).hasSize(SHARDS);
+    }
+
+    @Test
+    void partitionsWithinAShardDoNotFollowTheShardIndex() {
+        ShardRouter router = new ShardRouter(null);
+        Set<Integer> partitionsOfShardZero = new HashSet<>();
+        Set<Integer> partitionsOfShardOne = new HashSet<>();
+        for (long id = 0; id < 1_000; id++) {
+            MethodKeyed payload = new MethodKeyed(id);
+            int partition = router.partitionOf(payload, 2);
+            (router.shardOf(payload, 2) == 0 ? partitionsOfShardZero : partitionsOfShardOne).add(partition);
+        }
+        assertThat(partitionsOfShardZero).containsExactlyInAnyOrder(0, 1);
+        assertThat(partitionsOfShardOne).containsExactlyInAnyOrder(0, 1);
+    }
+
+    @Test
+    void rejectsKeyMethodWithArguments() {
+        ShardRouter router = new ShardRouter(null);
+
+        assertThatThrownBy(() -> router.shardOf(new InvalidKeyed(), SHARDS))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("@DisruptorKey method must take no arguments");
+    }
+
+    static class FieldKeyed {
+        @DisruptorKey
+        private final String orderId;
+        private final int version;
+
+        FieldKeyed(String orderId, int version) {
+            this.orderId = orderId;
+            this.version = version;
+        }
+    }
+
+    static final class SubclassKeyed extends FieldKeyed {
+        SubclassKeyed(String orderId) {
+            super(orderId, 0);
+        }
+    }
+
+    record MethodKeyed(long id) {
+        @DisruptorKey
+        long accountId() {
+            return id;
+        }
+    }
+
+    static final class InvalidKeyed {
+        @DisruptorKey
+        String key(String prefix) {
+            return prefix;
+        }
+    }
+}
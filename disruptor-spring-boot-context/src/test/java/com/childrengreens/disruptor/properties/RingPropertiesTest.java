@@ -41,5 +41,15 @@ class RingPropertiesTest {
                 .isEqualTo(Duration.ofNanos(1_000_000));
         assertThat(properties.getWaitStrategyConfig().getPhasedBackoffFallback())
                 .isEqualTo(WaitStrategyType.YIELDING);
+        assertThat(properties.getBackpressure()).isEqualTo(BackpressurePolicy.BLOCK);
+        assertThat(properties.getBackpressureTimeout()).isEqualTo(Duration.ofMillis(100));
+        assertThat(properties.getEventClass()).isNull();
+        assertThat(properties.getClock()).isEqualTo(ClockType.SYSTEM);
+        assertThat(properties.getClockTickInterval()).isEqualTo(Duration.ofMillis(1));
+        assertThat(properties.getShards()).isEqualTo(1);
+        assertThat(properties.getConcurrency()).isEmpty();
+        assertThat(properties.getWorkerClaimSize()).isZero();
+        assertThat(properties.getDispatch()).isEqualTo(DispatchMode.PER_SUBSCRIBER);
+        assertThat(properties.isClearOnConsume()).isFalse();
     }
 }